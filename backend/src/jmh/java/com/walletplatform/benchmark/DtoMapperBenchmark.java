@@ -0,0 +1,51 @@
+package com.walletplatform.benchmark;
+
+import com.walletplatform.shared.dto.TransactionResponse;
+import com.walletplatform.shared.mapper.DtoMapper;
+import com.walletplatform.transaction.domain.Transaction;
+import com.walletplatform.transaction.domain.TransactionStatus;
+import com.walletplatform.transaction.domain.TransactionType;
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Wallet;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMapperBenchmark {
+
+    private DtoMapper mapper;
+    private Transaction transaction;
+
+    @Setup
+    public void setUp() {
+        mapper = new DtoMapper();
+        Wallet source = Wallet.builder().currency(Currency.USD).build();
+        source.setId(UUID.randomUUID());
+        Wallet target = Wallet.builder().currency(Currency.EUR).build();
+        target.setId(UUID.randomUUID());
+        transaction = Transaction.builder()
+            .sourceWallet(source)
+            .targetWallet(target)
+            .type(TransactionType.TRANSFER)
+            .status(TransactionStatus.COMPLETED)
+            .amount(new BigDecimal("100.00"))
+            .sourceCurrency(Currency.USD)
+            .convertedAmount(new BigDecimal("92.00"))
+            .targetCurrency(Currency.EUR)
+            .exchangeRate(new BigDecimal("0.920000"))
+            .exchangeRateVersion(1L)
+            .description("Transfer")
+            .build();
+        transaction.complete();
+    }
+
+    @Benchmark
+    public TransactionResponse toTransactionResponse() {
+        return mapper.toTransactionResponse(transaction);
+    }
+}
@@ -0,0 +1,47 @@
+package com.walletplatform.benchmark;
+
+import com.walletplatform.shared.config.ExchangeRateService;
+import com.walletplatform.shared.domain.RateSnapshot;
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate lookup and conversion on the standalone {@link ExchangeRateService} (static rates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FxRateBenchmark {
+
+    private ExchangeRateService exchangeRateService;
+    private RateSnapshot snapshot;
+    private BigDecimal amount;
+    private Money money;
+
+    @Setup
+    public void setUp() {
+        exchangeRateService = new ExchangeRateService();
+        snapshot = exchangeRateService.getSnapshot();
+        amount = new BigDecimal("1234.56");
+        money = Money.of(amount, Currency.USD);
+    }
+
+    @Benchmark
+    public BigDecimal getExchangeRate() {
+        return exchangeRateService.getExchangeRate(Currency.USD, Currency.EUR);
+    }
+
+    @Benchmark
+    public BigDecimal convertBigDecimal() {
+        return exchangeRateService.convert(amount, Currency.USD, Currency.EUR);
+    }
+
+    @Benchmark
+    public Money convertMoney() {
+        return snapshot.convert(money, Currency.EUR);
+    }
+}
@@ -0,0 +1,66 @@
+package com.walletplatform.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletplatform.shared.infrastructure.IdempotencyRecord;
+import com.walletplatform.shared.infrastructure.IdempotencyRepository;
+import com.walletplatform.shared.infrastructure.IdempotencyService;
+import com.walletplatform.shared.metrics.OperationMetrics;
+import com.walletplatform.transaction.application.service.TransactionOrchestrator.TransactionResult;
+import com.walletplatform.transaction.domain.TransactionStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result serialization on first execution and deserialization on replay in
+ * {@link IdempotencyService}. The repository is an in-memory stub, so only the
+ * JSON work is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IdempotencyBenchmark {
+
+    private IdempotencyService firstExecution;
+    private IdempotencyService replay;
+    private TransactionResult result;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        result = new TransactionResult(UUID.randomUUID(), TransactionStatus.COMPLETED,
+            new BigDecimal("100.00"), new BigDecimal("92.00"));
+        IdempotencyRecord stored = new IdempotencyRecord("key", TransactionResult.class.getName(),
+            objectMapper.writeValueAsString(result));
+
+        OperationMetrics metrics = new OperationMetrics(new SimpleMeterRegistry());
+        firstExecution = new IdempotencyService(repository(Optional.empty()), objectMapper, metrics);
+        replay = new IdempotencyService(repository(Optional.of(stored)), objectMapper, metrics);
+    }
+
+    @Benchmark
+    public TransactionResult serializeOnFirstExecution() {
+        return firstExecution.executeIdempotent("key", TransactionResult.class, () -> result);
+    }
+
+    @Benchmark
+    public TransactionResult deserializeOnReplay() {
+        return replay.executeIdempotent("key", TransactionResult.class, () -> result);
+    }
+
+    private static IdempotencyRepository repository(Optional<IdempotencyRecord> existing) {
+        return (IdempotencyRepository) Proxy.newProxyInstance(
+            IdempotencyRepository.class.getClassLoader(),
+            new Class<?>[] { IdempotencyRepository.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findByIdempotencyKey" -> existing;
+                case "save" -> args[0];
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
@@ -0,0 +1,47 @@
+package com.walletplatform.benchmark;
+
+import com.walletplatform.identity.domain.UserRole;
+import com.walletplatform.shared.security.JwtTokenProvider;
+import com.walletplatform.shared.security.TokenClaims;
+import com.walletplatform.shared.security.UserPrincipal;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and per-request validation in {@link JwtTokenProvider}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "VGhpc0lzQVZlcnlTZWN1cmVTZWNyZXRLZXlGb3JKV1RUb2tlbkdlbmVyYXRpb24xMjM0NTY3ODkw";
+
+    private JwtTokenProvider tokenProvider;
+    private UserPrincipal principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpiration", 86400000L);
+        tokenProvider.init();
+        principal = new UserPrincipal(UUID.randomUUID(), "bench@walletplatform.com", "", UserRole.USER, true);
+        token = tokenProvider.generateToken(principal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(principal);
+    }
+
+    @Benchmark
+    public Optional<TokenClaims> parseToken() {
+        return tokenProvider.parseToken(token);
+    }
+}
@@ -0,0 +1,55 @@
+package com.walletplatform.benchmark;
+
+import com.walletplatform.ledger.domain.LedgerEntry;
+import com.walletplatform.transaction.domain.Transaction;
+import com.walletplatform.transaction.domain.TransactionStatus;
+import com.walletplatform.transaction.domain.TransactionType;
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Money;
+import com.walletplatform.wallet.domain.Wallet;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the four entries of a cross-currency transfer, as {@code LedgerService} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LedgerEntryBenchmark {
+
+    private Transaction transaction;
+    private Wallet source;
+    private Wallet target;
+    private Money sourceAmount;
+    private Money targetAmount;
+
+    @Setup
+    public void setUp() {
+        source = Wallet.builder().currency(Currency.USD).build();
+        target = Wallet.builder().currency(Currency.EUR).build();
+        sourceAmount = Money.of(new BigDecimal("100.00"), Currency.USD);
+        targetAmount = Money.of(new BigDecimal("92.00"), Currency.EUR);
+        transaction = Transaction.builder()
+            .sourceWallet(source)
+            .targetWallet(target)
+            .type(TransactionType.TRANSFER)
+            .status(TransactionStatus.COMPLETED)
+            .amount(sourceAmount.toBigDecimal())
+            .sourceCurrency(Currency.USD)
+            .convertedAmount(targetAmount.toBigDecimal())
+            .targetCurrency(Currency.EUR)
+            .build();
+    }
+
+    @Benchmark
+    public void crossCurrencyEntries(Blackhole bh) {
+        bh.consume(LedgerEntry.debitWallet(transaction, source, sourceAmount, "Transfer out (FX)"));
+        bh.consume(LedgerEntry.creditExchange(transaction, sourceAmount, "FX: received source currency"));
+        bh.consume(LedgerEntry.debitExchange(transaction, targetAmount, "FX: released target currency"));
+        bh.consume(LedgerEntry.creditWallet(transaction, target, targetAmount, "Transfer in (FX)"));
+    }
+}
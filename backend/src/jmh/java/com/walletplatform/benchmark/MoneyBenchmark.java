@@ -0,0 +1,71 @@
+package com.walletplatform.benchmark;
+
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Money} against the equivalent {@link BigDecimal} arithmetic it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    private BigDecimal amount;
+    private BigDecimal other;
+    private BigDecimal rate;
+
+    private Money money;
+    private Money otherMoney;
+    private long rateMicros;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal("1234.56");
+        other = new BigDecimal("78.90");
+        rate = new BigDecimal("0.921834");
+        money = Money.of(amount, Currency.USD);
+        otherMoney = Money.of(other, Currency.USD);
+        rateMicros = Money.toRateMicros(rate);
+    }
+
+    @Benchmark
+    public BigDecimal addBigDecimal() {
+        return amount.add(other);
+    }
+
+    @Benchmark
+    public Money addMoney() {
+        return money.plus(otherMoney);
+    }
+
+    @Benchmark
+    public boolean compareBigDecimal() {
+        return amount.add(other).compareTo(amount) <= 0;
+    }
+
+    @Benchmark
+    public boolean compareMoney() {
+        return money.plus(otherMoney).compareTo(money) <= 0;
+    }
+
+    @Benchmark
+    public BigDecimal convertBigDecimal() {
+        return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public Money convertMoney() {
+        return money.convert(Currency.EUR, rateMicros, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public BigDecimal roundTrip() {
+        return Money.of(amount, Currency.USD).toBigDecimal();
+    }
+}
@@ -0,0 +1,41 @@
+package com.walletplatform.benchmark;
+
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Wallet;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Daily-limit checks on the {@link Wallet} entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WalletBenchmark {
+
+    private Wallet wallet;
+    private BigDecimal amount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        wallet = Wallet.builder()
+            .currency(Currency.USD)
+            .balance(new BigDecimal("5000.00"))
+            .dailyLimit(new BigDecimal("10000000000.00"))
+            .build();
+        amount = new BigDecimal("12.34");
+    }
+
+    @Benchmark
+    public boolean canSpendBigDecimal() {
+        return wallet.canSpend(amount);
+    }
+
+    @Benchmark
+    public BigDecimal recordSpendingBigDecimal() {
+        wallet.recordSpending(amount);
+        return wallet.getSpentToday();
+    }
+}
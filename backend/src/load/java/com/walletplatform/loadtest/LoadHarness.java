@@ -0,0 +1,279 @@
+package com.walletplatform.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.walletplatform.WalletPlatformApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * In-process load generator.
+ *
+ * Boots the application on a random port against a file-backed H2 database,
+ * registers and funds {@code --users} users, then runs a closed loop of
+ * {@code --concurrency} workers over the REST API for {@code --warmup} plus
+ * {@code --duration} seconds. Only requests started after the warmup are
+ * recorded. Percentiles and throughput per operation are written as JSON.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec -Dload.args="--users=200 --concurrency=32 --skew=1.1"
+ * </pre>
+ */
+public final class LoadHarness {
+
+    private static final String PASSWORD = "LoadTest1!";
+    private static final String INITIAL_BALANCE = "1000000.00";
+    private static final String OPERATION_AMOUNT = "1.00";
+
+    private final LoadOptions options;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private String baseUrl;
+    private final List<String> tokens = new ArrayList<>();
+    private final List<String> walletIds = new ArrayList<>();
+
+    private LoadHarness(LoadOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        new LoadHarness(options).run();
+    }
+
+    private void run() throws Exception {
+        FileSystemUtils.deleteRecursively(options.dataDir().resolve("db"));
+        Files.createDirectories(options.dataDir());
+
+        try (ConfigurableApplicationContext context = startApplication()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+
+            log("Seeding %d users", options.users());
+            seed();
+
+            log("Running %d workers: %ds warmup, %ds measured", options.concurrency(),
+                options.warmup().toSeconds(), options.duration().toSeconds());
+            Map<Operation, OperationStats> stats = drive();
+
+            Map<String, Object> report = report(stats);
+            objectMapper.writeValue(options.output().toFile(), report);
+            System.out.println(objectMapper.writeValueAsString(report));
+            log("Report written to %s", options.output().toAbsolutePath());
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:file:" + options.dataDir().resolve("db/walletdb").toAbsolutePath()
+            + ";DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.datasource.hikari.maximum-pool-size", String.valueOf(Math.max(10, options.concurrency())));
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.h2.console.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.walletplatform", "WARN");
+        properties.put("exchange-rate.provider", "stand-in");
+        properties.put("rate-limit.enabled", "false");
+        // Seeding registers every user; production-strength bcrypt would dominate the setup time
+        properties.put("auth.password.bcrypt-strength", "4");
+        properties.putAll(options.appProperties());
+
+        // Passed as command line arguments so they take precedence over application.yml
+        String[] args = properties.entrySet().stream()
+            .map(e -> "--" + e.getKey() + "=" + e.getValue())
+            .toArray(String[]::new);
+        return new SpringApplicationBuilder(WalletPlatformApplication.class).run(args);
+    }
+
+    private void seed() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(options.concurrency(), 16));
+        try {
+            List<Future<String[]>> futures = new ArrayList<>();
+            for (int i = 0; i < options.users(); i++) {
+                int n = i;
+                futures.add(pool.submit(() -> seedUser(n)));
+            }
+            for (Future<String[]> future : futures) {
+                String[] user = future.get();
+                tokens.add(user[0]);
+                walletIds.add(user[1]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private String[] seedUser(int n) throws Exception {
+        String email = "load" + n + "@walletplatform.test";
+        JsonNode registered = send("POST", "/api/auth/register", null,
+            "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\",\"firstName\":\"Load\",\"lastName\":\"User" + n + "\"}");
+        String token = registered.get("token").asText();
+        String walletId = send("GET", "/api/wallets", token, null).get(0).get("id").asText();
+        send("PATCH", "/api/wallets/" + walletId + "/daily-limit", token, "{\"dailyLimit\":" + INITIAL_BALANCE + "}");
+        send("POST", "/api/wallets/" + walletId + "/topup", token, "{\"amount\":" + INITIAL_BALANCE + "}");
+        return new String[] { token, walletId };
+    }
+
+    private Map<Operation, OperationStats> drive() throws Exception {
+        Operation[] weighted = options.mix().entrySet().stream()
+            .flatMap(e -> Collections.nCopies(e.getValue(), e.getKey()).stream())
+            .toArray(Operation[]::new);
+        ZipfSampler keys = new ZipfSampler(options.users(), options.skew());
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        List<Future<Map<Operation, OperationStats>>> results = new ArrayList<>();
+        for (int w = 0; w < options.concurrency(); w++) {
+            results.add(workers.submit(() -> {
+                Map<Operation, OperationStats> own = new EnumMap<>(Operation.class);
+                while (true) {
+                    long begin = System.nanoTime();
+                    if (begin >= end) {
+                        return own;
+                    }
+                    Operation operation = weighted[ThreadLocalRandom.current().nextInt(weighted.length)];
+                    int status = execute(operation, keys);
+                    if (begin >= measureFrom) {
+                        own.computeIfAbsent(operation, o -> new OperationStats()).record(System.nanoTime() - begin, status);
+                    }
+                }
+            }));
+        }
+
+        Map<Operation, OperationStats> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, OperationStats>> result : results) {
+            result.get().forEach((operation, stats) ->
+                merged.computeIfAbsent(operation, o -> new OperationStats()).add(stats));
+        }
+        workers.shutdown();
+        return merged;
+    }
+
+    private int execute(Operation operation, ZipfSampler keys) {
+        int user = keys.next();
+        String token = tokens.get(user);
+        String walletId = walletIds.get(user);
+        return switch (operation) {
+            case TRANSFER -> status("POST", "/api/transactions/transfer", token,
+                "{\"sourceWalletId\":\"" + walletId + "\",\"targetWalletId\":\"" + walletIds.get(keys.nextOtherThan(user))
+                    + "\",\"amount\":" + OPERATION_AMOUNT + "}");
+            case TOP_UP -> status("POST", "/api/wallets/" + walletId + "/topup", token,
+                "{\"amount\":" + OPERATION_AMOUNT + "}");
+            case WITHDRAW -> status("POST", "/api/wallets/" + walletId + "/withdraw", token,
+                "{\"amount\":" + OPERATION_AMOUNT + ",\"bankAccountNumber\":\"00012345678\",\"bankName\":\"Load Bank\"}");
+            case HISTORY -> status("GET", "/api/transactions/wallet/" + walletId + "?page=0&size=20", token, null);
+            case LEDGER -> status("GET", "/api/wallets/" + walletId + "/ledger?page=0&size=20", token, null);
+        };
+    }
+
+    private Map<String, Object> report(Map<Operation, OperationStats> stats) {
+        double seconds = options.duration().toMillis() / 1000.0;
+        OperationStats total = new OperationStats();
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        stats.forEach((operation, s) -> {
+            operations.put(operation.getKey(), summary(s, seconds));
+            total.add(s);
+        });
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", options.users());
+        config.put("concurrency", options.concurrency());
+        config.put("warmupSeconds", options.warmup().toSeconds());
+        config.put("durationSeconds", options.duration().toSeconds());
+        config.put("skew", options.skew());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.getKey(), weight));
+        config.put("mix", mix);
+        config.put("appProperties", options.appProperties());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", config);
+        report.put("operations", operations);
+        report.put("total", summary(total, seconds));
+        return report;
+    }
+
+    private static Map<String, Object> summary(OperationStats stats, double seconds) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("p50", stats.percentileMillis(50));
+        latency.put("p90", stats.percentileMillis(90));
+        latency.put("p99", stats.percentileMillis(99));
+        latency.put("p999", stats.percentileMillis(99.9));
+        latency.put("max", stats.maxMillis());
+        latency.put("mean", Math.round(stats.meanMillis() * 1000) / 1000.0);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", stats.getCount());
+        summary.put("errors", stats.getErrors());
+        summary.put("errorsByStatus", stats.getErrorsByStatus());
+        summary.put("throughputPerSecond", Math.round(stats.getCount() / seconds * 10) / 10.0);
+        summary.put("latencyMs", latency);
+        return summary;
+    }
+
+    private JsonNode send(String method, String path, String token, String body) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(method + " " + path + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response.body().isEmpty() ? null : objectMapper.readTree(response.body());
+    }
+
+    /**
+     * Status code of the call, or -1 when it failed without a response.
+     */
+    private int status(String method, String path, String token, String body) {
+        try {
+            return http.send(request(method, path, token, body), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private HttpRequest request(String method, String path, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static void log(String format, Object... args) {
+        System.err.printf("[load] " + format + "%n", args);
+    }
+}
@@ -0,0 +1,72 @@
+package com.walletplatform.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line options for {@link LoadHarness}.
+ *
+ * Recognised options are {@code --name=value}; any other {@code --key=value} is
+ * passed through to the application as a property (e.g. {@code --spring.datasource.hikari.maximum-pool-size=32}).
+ */
+record LoadOptions(
+    int users,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    double skew,
+    Map<Operation, Integer> mix,
+    Path dataDir,
+    Path output,
+    Map<String, String> appProperties
+) {
+
+    static final String DEFAULT_MIX = "transfer:50,topup:15,withdraw:10,history:15,ledger:10";
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            values.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        int users = Integer.parseInt(values.getOrDefault("users", "100"));
+        int concurrency = Integer.parseInt(values.getOrDefault("concurrency", "16"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "30")));
+        double skew = Double.parseDouble(values.getOrDefault("skew", "0"));
+        Map<Operation, Integer> mix = parseMix(values.getOrDefault("mix", DEFAULT_MIX));
+        Path dataDir = Path.of(values.getOrDefault("data-dir", "target/load-test"));
+        Path output = Path.of(values.getOrDefault("out", dataDir.resolve("result.json").toString()));
+
+        if (users < 2) {
+            throw new IllegalArgumentException("--users must be at least 2 for transfers");
+        }
+
+        Map<String, String> appProperties = new LinkedHashMap<>(values);
+        for (String own : new String[] {"users", "concurrency", "warmup", "duration", "skew", "mix", "data-dir", "out"}) {
+            appProperties.remove(own);
+        }
+        return new LoadOptions(users, concurrency, warmup, duration, skew, mix, dataDir, output, appProperties);
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.split(":");
+            int weight = Integer.parseInt(kv[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromName(kv[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix must give at least one operation a positive weight");
+        }
+        return mix;
+    }
+}
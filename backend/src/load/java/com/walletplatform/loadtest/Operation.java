@@ -0,0 +1,31 @@
+package com.walletplatform.loadtest;
+
+/**
+ * REST operations the harness can drive.
+ */
+enum Operation {
+    TRANSFER("transfer"),
+    TOP_UP("topup"),
+    WITHDRAW("withdraw"),
+    HISTORY("history"),
+    LEDGER("ledger");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    static Operation fromName(String name) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + name + "'");
+    }
+}
@@ -0,0 +1,55 @@
+package com.walletplatform.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies and failures for one operation. Each worker owns its own instance
+ * so recording never contends; instances are merged once the run is over.
+ */
+final class OperationStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram latencyMicros = new Histogram(MAX_TRACKABLE_MICROS, 3);
+    private final Map<Integer, Long> errorsByStatus = new TreeMap<>();
+
+    void record(long elapsedNanos, int status) {
+        latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (status >= 400 || status < 0) {
+            errorsByStatus.merge(status, 1L, Long::sum);
+        }
+    }
+
+    void add(OperationStats other) {
+        latencyMicros.add(other.latencyMicros);
+        other.errorsByStatus.forEach((status, count) -> errorsByStatus.merge(status, count, Long::sum));
+    }
+
+    long getCount() {
+        return latencyMicros.getTotalCount();
+    }
+
+    long getErrors() {
+        return errorsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    Map<Integer, Long> getErrorsByStatus() {
+        return errorsByStatus;
+    }
+
+    double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    double maxMillis() {
+        return latencyMicros.getMaxValue() / 1000.0;
+    }
+
+    double meanMillis() {
+        return latencyMicros.getMean() / 1000.0;
+    }
+}
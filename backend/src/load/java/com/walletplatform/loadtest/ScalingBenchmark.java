@@ -0,0 +1,375 @@
+package com.walletplatform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.walletplatform.WalletPlatformApplication;
+import com.walletplatform.identity.application.service.UserService;
+import com.walletplatform.identity.domain.User;
+import com.walletplatform.transaction.application.service.TransactionOrchestrator;
+import com.walletplatform.transaction.application.service.TransactionOrchestrator.TransferCommand;
+import com.walletplatform.wallet.application.service.WalletService;
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.infrastructure.WalletRepository;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Measures how {@link TransactionOrchestrator#transfer} scales with threads.
+ *
+ * Calls the orchestrator in-process (no HTTP) at 1, 2, 4 ... {@code --max-threads}
+ * threads for three scenarios:
+ * <ul>
+ *   <li>{@code disjoint} - each thread moves money within its own pair of wallets</li>
+ *   <li>{@code zipf} - random sources, Zipf-skewed targets ({@code --skew})</li>
+ *   <li>{@code hot} - every transfer pays one merchant wallet</li>
+ * </ul>
+ * For each point it reports throughput, scaling efficiency against one thread,
+ * and the share of worker time spent blocked or waiting inside {@code findByIdWithLock},
+ * which H2 (embedded, same JVM) spends waiting for the row lock; running the query itself is not counted.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec@scaling -Dscaling.args="--max-threads=16"
+ * </pre>
+ */
+public final class ScalingBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("0.01");
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+    private static final List<String> ALL_SCENARIOS = List.of("disjoint", "zipf", "hot");
+
+    private final Map<String, String> options;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    // Set by each worker on its own thread, so the proxy charges lock waits to the transfer that caused them
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+
+    private TransactionOrchestrator orchestrator;
+    private final List<UUID> wallets = new ArrayList<>();
+
+    private ScalingBenchmark(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new ScalingBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        int maxThreads = intOption("max-threads", Math.max(8, 2 * Runtime.getRuntime().availableProcessors()));
+        int walletCount = intOption("wallets", Math.max(64, 2 * maxThreads));
+        long warmupMs = intOption("warmup", 3) * 1000L;
+        long durationMs = intOption("duration", 10) * 1000L;
+        double skew = Double.parseDouble(option("skew", "1.1"));
+        List<String> scenarios = List.of(option("scenarios", String.join(",", ALL_SCENARIOS)).split(","));
+        validate(maxThreads, walletCount, warmupMs, durationMs, skew, scenarios);
+        if (!threadBean.isThreadContentionMonitoringSupported()) {
+            throw new IllegalStateException("Thread contention monitoring is needed to time lock waits");
+        }
+        threadBean.setThreadContentionMonitoringEnabled(true);
+        Path dataDir = Path.of(option("data-dir", "target/load-test"));
+        Path output = Path.of(option("out", dataDir.resolve("scaling.json").toString()));
+
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int t = 1; t < maxThreads; t *= 2) {
+            threadCounts.add(t);
+        }
+        threadCounts.add(maxThreads);
+
+        FileSystemUtils.deleteRecursively(dataDir.resolve("scaling-db"));
+        Files.createDirectories(dataDir);
+
+        try (ConfigurableApplicationContext context = startApplication(dataDir, maxThreads)) {
+            orchestrator = context.getBean(TransactionOrchestrator.class);
+            seed(context, walletCount);
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            ZipfSampler zipf = new ZipfSampler(walletCount, skew);
+
+            // Untimed pass so the single-thread baseline is not measured on a cold JIT
+            System.err.println("[scaling] Warming up");
+            measure("disjoint", maxThreads, zipf, 0, warmupMs);
+            for (String scenario : scenarios) {
+                List<Map<String, Object>> points = new ArrayList<>();
+                double baseline = 0;
+                for (int threads : threadCounts) {
+                    Map<String, Object> point = measure(scenario, threads, zipf, warmupMs, durationMs);
+                    double throughput = (double) point.get("throughputPerSecond");
+                    if (threads == 1) {
+                        baseline = throughput;
+                    }
+                    double speedup = baseline > 0 ? throughput / baseline : 0;
+                    point.put("speedup", round(speedup));
+                    point.put("efficiency", round(speedup / threads));
+                    points.add(point);
+                    System.err.printf("[scaling] %-8s threads=%-3d tps=%-9.1f efficiency=%-5.2f lockWait=%.2f%n",
+                        scenario, threads, throughput, speedup / threads, (double) point.get("lockWaitShare"));
+                }
+                results.put(scenario, points);
+            }
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("wallets", walletCount);
+            config.put("threads", threadCounts);
+            config.put("warmupSeconds", warmupMs / 1000);
+            config.put("durationSeconds", durationMs / 1000);
+            config.put("skew", skew);
+            config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("finishedAt", Instant.now().toString());
+            report.put("config", config);
+            report.put("scenarios", results);
+
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            objectMapper.writeValue(output.toFile(), report);
+            System.err.printf("[scaling] Report written to %s%n", output.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Rejects options the run would otherwise fail on halfway through, after seeding.
+     */
+    private static void validate(int maxThreads, int walletCount, long warmupMs, long durationMs, double skew,
+                                 List<String> scenarios) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("--max-threads must be at least 1");
+        }
+        // The warm-up pass runs disjoint at max threads whatever --scenarios says
+        if (walletCount < 2 * maxThreads) {
+            throw new IllegalArgumentException("--wallets must be at least 2 x --max-threads (" + 2 * maxThreads
+                + ") so every disjoint thread gets its own pair, got " + walletCount);
+        }
+        if (warmupMs < 0 || durationMs <= 0) {
+            throw new IllegalArgumentException("--warmup must not be negative and --duration must be positive");
+        }
+        if (skew <= 0) {
+            throw new IllegalArgumentException("--skew must be positive, got " + skew);
+        }
+        for (String scenario : scenarios) {
+            if (!ALL_SCENARIOS.contains(scenario)) {
+                throw new IllegalArgumentException("Unknown scenario '" + scenario + "'");
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(Path dataDir, int maxThreads) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.main.web-application-type", "none");
+        properties.put("spring.datasource.url", "jdbc:h2:file:" + dataDir.resolve("scaling-db/walletdb").toAbsolutePath()
+            + ";DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.datasource.hikari.maximum-pool-size", String.valueOf(maxThreads + 2));
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.walletplatform", "WARN");
+        properties.put("exchange-rate.provider", "stand-in");
+        properties.put("auth.password.bcrypt-strength", "4");
+        options.forEach((key, value) -> {
+            if (key.contains(".")) {
+                properties.put(key, value);
+            }
+        });
+
+        String[] args = properties.entrySet().stream()
+            .map(e -> "--" + e.getKey() + "=" + e.getValue())
+            .toArray(String[]::new);
+        return new SpringApplicationBuilder(WalletPlatformApplication.class)
+            .initializers(context -> context.getBeanFactory().addBeanPostProcessor(lockTimingPostProcessor()))
+            .run(args);
+    }
+
+    /**
+     * Wraps the wallet repository so time a measured transfer's thread spends blocked or waiting
+     * inside {@code findByIdWithLock} is charged to its worker.
+     */
+    private BeanPostProcessor lockTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof WalletRepository repository)) {
+                    return bean;
+                }
+                return Proxy.newProxyInstance(WalletRepository.class.getClassLoader(),
+                    new Class<?>[] { WalletRepository.class },
+                    (proxy, method, args) -> {
+                        Worker worker = currentWorker.get();
+                        boolean timed = worker != null && worker.measuring && method.getName().equals("findByIdWithLock");
+                        long start = timed ? waitedMillis() : 0;
+                        try {
+                            return method.invoke(repository, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (timed) {
+                                worker.lockWaitNanos += (waitedMillis() - start) * 1_000_000L;
+                            }
+                        }
+                    });
+            }
+        };
+    }
+
+    // Cumulative, so per-call deltas add up exactly despite the millisecond resolution
+    private long waitedMillis() {
+        ThreadInfo info = threadBean.getThreadInfo(Thread.currentThread().threadId());
+        return info.getBlockedTime() + info.getWaitedTime();
+    }
+
+    private void seed(ConfigurableApplicationContext context, int walletCount) {
+        UserService userService = context.getBean(UserService.class);
+        WalletService walletService = context.getBean(WalletService.class);
+        WalletRepository walletRepository = context.getBean(WalletRepository.class);
+
+        System.err.printf("[scaling] Seeding %d wallets%n", walletCount);
+        for (int i = 0; i < walletCount; i++) {
+            User user = userService.registerUser("scale" + i + "@walletplatform.test", "ScaleTest1!",
+                "Scale", "User" + i, "127.0.0.1");
+            Wallet wallet = walletRepository.findByOwnerIdAndCurrency(user.getId(), Currency.USD).orElseThrow();
+            wallet.setDailyLimit(INITIAL_BALANCE);
+            walletRepository.save(wallet);
+            walletService.topUp(wallet.getId(), INITIAL_BALANCE, "Scaling benchmark seed", "127.0.0.1");
+            wallets.add(wallet.getId());
+        }
+    }
+
+    private Map<String, Object> measure(String scenario, int threads, ZipfSampler zipf,
+                                        long warmupMs, long durationMs) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        long start = System.nanoTime() + 100_000_000L;
+        long measureFrom = start + warmupMs * 1_000_000L;
+        long end = measureFrom + durationMs * 1_000_000L;
+
+        List<Future<Worker>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            futures.add(pool.submit(() -> {
+                Worker worker = new Worker();
+                currentWorker.set(worker);
+                ready.countDown();
+                ready.await();
+                boolean forward = true;
+                try {
+                    while (true) {
+                        long begin = System.nanoTime();
+                        if (begin >= end) {
+                            return worker;
+                        }
+                        // Latency and lock waits use the same rule: a transfer counts if it began in the window
+                        worker.measuring = begin >= measureFrom;
+                        UUID[] pair = pick(scenario, index, forward, zipf);
+                        forward = !forward;
+                        String error = null;
+                        try {
+                            orchestrator.transfer(new TransferCommand(pair[0], pair[1], AMOUNT, "Scaling benchmark", null));
+                        } catch (RuntimeException e) {
+                            error = e.getClass().getSimpleName();
+                        }
+                        if (worker.measuring) {
+                            long elapsed = System.nanoTime() - begin;
+                            worker.busyNanos += elapsed;
+                            worker.stats.record(elapsed, error == null ? 200 : 500);
+                            if (error != null) {
+                                worker.errors.merge(error, 1L, Long::sum);
+                            }
+                        }
+                    }
+                } finally {
+                    currentWorker.remove();
+                }
+            }));
+        }
+
+        // Future.get hands each worker's totals over to this thread once it has finished
+        OperationStats stats = new OperationStats();
+        Map<String, Long> errors = new TreeMap<>();
+        long lockWaitNanos = 0;
+        long busyNanos = 0;
+        for (Future<Worker> future : futures) {
+            Worker worker = future.get();
+            stats.add(worker.stats);
+            worker.errors.forEach((name, count) -> errors.merge(name, count, Long::sum));
+            lockWaitNanos += worker.lockWaitNanos;
+            busyNanos += worker.busyNanos;
+        }
+        pool.shutdown();
+
+        double seconds = durationMs / 1000.0;
+        long completed = stats.getCount() - stats.getErrors();
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("threads", threads);
+        point.put("transfers", completed);
+        point.put("throughputPerSecond", round(completed / seconds));
+        point.put("lockWaitShare", round(busyNanos > 0 ? (double) lockWaitNanos / busyNanos : 0));
+        point.put("p50Ms", stats.percentileMillis(50));
+        point.put("p99Ms", stats.percentileMillis(99));
+        point.put("errors", errors);
+        return point;
+    }
+
+    private UUID[] pick(String scenario, int threadIndex, boolean forward, ZipfSampler zipf) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (scenario) {
+            case "disjoint" -> {
+                UUID a = wallets.get(2 * threadIndex);
+                UUID b = wallets.get(2 * threadIndex + 1);
+                yield forward ? new UUID[] { a, b } : new UUID[] { b, a };
+            }
+            case "zipf" -> {
+                int source = random.nextInt(wallets.size());
+                yield new UUID[] { wallets.get(source), wallets.get(zipf.nextOtherThan(source)) };
+            }
+            default -> new UUID[] { wallets.get(1 + random.nextInt(wallets.size() - 1)), wallets.get(0) };
+        };
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    // Only touched by its own thread until Future.get returns it
+    private static final class Worker {
+        private final OperationStats stats = new OperationStats();
+        private final Map<String, Long> errors = new TreeMap<>();
+        private boolean measuring;
+        private long lockWaitNanos;
+        private long busyNanos;
+    }
+}
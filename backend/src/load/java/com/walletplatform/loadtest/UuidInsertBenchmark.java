@@ -0,0 +1,185 @@
+package com.walletplatform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.walletplatform.shared.infrastructure.id.TimeOrderedUuid;
+import org.springframework.util.FileSystemUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Compares insert throughput of random (v4) and time-ordered (v7) UUID primary keys on a
+ * table shaped like {@code ledger_entries}.
+ *
+ * Each variant gets its own table and is filled to {@code --rows} rows in JDBC batches of
+ * {@code --batch}, one commit per batch. Throughput is reported for every {@code --window}
+ * rows, so the curve shows how inserts slow down as the primary key index outgrows memory:
+ * random keys touch a random leaf page per row, time-ordered keys keep appending to the last one.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec@uuid-insert -Duuid.args="--rows=20000000"
+ * mvn -Pload-test test-compile exec:exec@uuid-insert -Duuid.args="--jdbc-url=jdbc:postgresql://localhost/bench --user=bench --password=bench"
+ * </pre>
+ * The default database is a file-backed H2 under {@code --data-dir}; any other JDBC URL works
+ * once its driver is on the test classpath.
+ */
+public final class UuidInsertBenchmark {
+
+    private static final int WALLETS = 100_000;
+    private static final BigDecimal[] AMOUNTS = {
+        new BigDecimal("12.5000"), new BigDecimal("100.0000"), new BigDecimal("0.0100"), new BigDecimal("2500.7500")
+    };
+
+    private final Map<String, String> options;
+
+    private UuidInsertBenchmark(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new UuidInsertBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        long rows = Long.parseLong(option("rows", "20000000"));
+        int batch = Integer.parseInt(option("batch", "1000"));
+        long window = Long.parseLong(option("window", String.valueOf(Math.max(batch, rows / 20))));
+        List<String> variants = List.of(option("variants", "v4,v7").split(","));
+        Path dataDir = Path.of(option("data-dir", "target/load-test"));
+        Path output = Path.of(option("out", dataDir.resolve("uuid-insert.json").toString()));
+        String jdbcUrl = option("jdbc-url", null);
+
+        if (jdbcUrl == null) {
+            FileSystemUtils.deleteRecursively(dataDir.resolve("uuid-db"));
+            jdbcUrl = "jdbc:h2:file:" + dataDir.resolve("uuid-db/bench").toAbsolutePath() + ";DB_CLOSE_ON_EXIT=FALSE";
+        }
+        Files.createDirectories(dataDir);
+
+        UUID[] wallets = new UUID[WALLETS];
+        for (int i = 0; i < WALLETS; i++) {
+            wallets[i] = UUID.randomUUID();
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        try (Connection connection = DriverManager.getConnection(jdbcUrl, option("user", "sa"), option("password", ""))) {
+            connection.setAutoCommit(false);
+            for (String variant : variants) {
+                Supplier<UUID> ids = switch (variant) {
+                    case "v4" -> UUID::randomUUID;
+                    case "v7" -> TimeOrderedUuid::next;
+                    default -> throw new IllegalArgumentException("Unknown variant '" + variant + "'");
+                };
+                results.put(variant, fill(connection, "bench_ledger_" + variant, ids, wallets, rows, batch, window));
+            }
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("rows", rows);
+        config.put("batch", batch);
+        config.put("window", window);
+        config.put("jdbcUrl", jdbcUrl);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", Instant.now().toString());
+        report.put("config", config);
+        report.put("variants", results);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(output.toFile(), report);
+        System.err.printf("[uuid] Report written to %s%n", output.toAbsolutePath());
+    }
+
+    private Map<String, Object> fill(Connection connection, String table, Supplier<UUID> ids, UUID[] wallets,
+                                     long rows, int batch, long window) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (" +
+                "id UUID PRIMARY KEY, transaction_id UUID NOT NULL, wallet_id UUID, " +
+                "account_type VARCHAR(32) NOT NULL, entry_type VARCHAR(16) NOT NULL, " +
+                "amount NUMERIC(19,4) NOT NULL, currency VARCHAR(3) NOT NULL, " +
+                "description VARCHAR(255), created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_" + table + "_wallet ON " + table + " (wallet_id)");
+        }
+        connection.commit();
+
+        String insert = "INSERT INTO " + table + " (id, transaction_id, wallet_id, account_type, entry_type, " +
+            "amount, currency, description, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        List<Map<String, Object>> points = new ArrayList<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long started = System.nanoTime();
+        long windowStart = started;
+        long inserted = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(insert)) {
+            while (inserted < rows) {
+                // Entries come in debit/credit pairs sharing a transaction, like real postings
+                UUID transactionId = ids.get();
+                for (int i = 0; i < batch && inserted < rows; i++, inserted++) {
+                    if (i % 2 == 0 && i > 0) {
+                        transactionId = ids.get();
+                    }
+                    statement.setObject(1, ids.get());
+                    statement.setObject(2, transactionId);
+                    statement.setObject(3, wallets[random.nextInt(wallets.length)]);
+                    statement.setString(4, "WALLET");
+                    statement.setString(5, i % 2 == 0 ? "DEBIT" : "CREDIT");
+                    statement.setBigDecimal(6, AMOUNTS[random.nextInt(AMOUNTS.length)]);
+                    statement.setString(7, "USD");
+                    statement.setString(8, "Benchmark entry");
+                    statement.setTimestamp(9, Timestamp.valueOf(LocalDateTime.now()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+
+                if (inserted % window < batch || inserted == rows) {
+                    long now = System.nanoTime();
+                    long windowRows = inserted - (points.isEmpty() ? 0 : (long) points.get(points.size() - 1).get("rows"));
+                    double rowsPerSecond = windowRows / ((now - windowStart) / 1e9);
+                    Map<String, Object> point = new LinkedHashMap<>();
+                    point.put("rows", inserted);
+                    point.put("rowsPerSecond", Math.round(rowsPerSecond));
+                    points.add(point);
+                    System.err.printf("[uuid] %-16s rows=%-10d rows/s=%.0f%n", table, inserted, rowsPerSecond);
+                    windowStart = now;
+                }
+            }
+        }
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", inserted);
+        result.put("seconds", Math.round(seconds * 10) / 10.0);
+        result.put("averageRowsPerSecond", Math.round(inserted / seconds));
+        result.put("windows", points);
+        return result;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+}
@@ -0,0 +1,373 @@
+package com.walletplatform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.walletplatform.WalletPlatformApplication;
+import com.walletplatform.identity.application.service.UserService;
+import com.walletplatform.identity.domain.User;
+import com.walletplatform.ledger.domain.AccountType;
+import com.walletplatform.ledger.domain.EntryType;
+import com.walletplatform.ledger.domain.LedgerEntry;
+import com.walletplatform.ledger.domain.LedgerHash;
+import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.transaction.application.service.TransactionOrchestrator;
+import com.walletplatform.transaction.application.service.TransactionOrchestrator.TransferCommand;
+import com.walletplatform.transaction.domain.Transaction;
+import com.walletplatform.transaction.domain.TransactionStatus;
+import com.walletplatform.transaction.domain.TransactionType;
+import com.walletplatform.transaction.infrastructure.TransactionRepository;
+import com.walletplatform.wallet.application.service.WalletService;
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Money;
+import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.infrastructure.WalletRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares JDBC round trips and throughput of the ledger write paths.
+ *
+ * Each operation writes one transaction and the four entries of a cross-currency transfer, in
+ * its own database transaction (or {@code --group} operations per transaction), three ways:
+ * <ul>
+ *   <li>{@code entity} - {@code save}/{@code saveAll} with JDBC batching switched off for the session</li>
+ *   <li>{@code batched} - the same calls with {@code hibernate.jdbc.batch_size} batching</li>
+ *   <li>{@code bulk} - {@code insertAll}, straight JDBC batches outside the persistence context</li>
+ * </ul>
+ * A {@code transfer} scenario then runs real same-currency transfers through
+ * {@link TransactionOrchestrator} to show the statements the whole write path costs.
+ * Round trips are counted on a proxy around the application's DataSource: every
+ * {@code execute*} call, a batch counting once.
+ *
+ * <pre>
+ * mvn -Pload-test test-compile exec:exec@write-batch -Dwrite.args="--operations=20000"
+ * </pre>
+ */
+public final class WriteBatchBenchmark {
+
+    private static final List<String> ALL_SCENARIOS = List.of("entity", "batched", "bulk", "transfer");
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000.00");
+
+    private final Map<String, String> options;
+    private final LongAdder roundTrips = new LongAdder();
+    private final LongAdder batchExecutions = new LongAdder();
+    private final LongAdder batchedRows = new LongAdder();
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private TransactionRepository transactionRepository;
+    private LedgerEntryRepository ledgerEntryRepository;
+    // Synthetic rows go to their own pair of wallets so they never inflate the transfer scenario's balance sums
+    private final List<UUID> rowWallets = new ArrayList<>();
+    private final List<UUID> transferWallets = new ArrayList<>();
+    private final Map<String, String> chainHeads = new LinkedHashMap<>();
+    private final Map<String, Long> chainSequences = new LinkedHashMap<>();
+
+    private WriteBatchBenchmark(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new WriteBatchBenchmark(options).run();
+    }
+
+    private void run() throws Exception {
+        int operations = intOption("operations", 5000);
+        int warmup = intOption("warmup", 1000);
+        int group = intOption("group", 1);
+        List<String> scenarios = List.of(option("scenarios", String.join(",", ALL_SCENARIOS)).split(","));
+        Path dataDir = Path.of(option("data-dir", "target/load-test"));
+        Path output = Path.of(option("out", dataDir.resolve("write-batch.json").toString()));
+
+        FileSystemUtils.deleteRecursively(dataDir.resolve("write-batch-db"));
+        Files.createDirectories(dataDir);
+
+        try (ConfigurableApplicationContext started = startApplication(dataDir)) {
+            context = started;
+            transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            entityManager = context.getBean(EntityManager.class);
+            transactionRepository = context.getBean(TransactionRepository.class);
+            ledgerEntryRepository = context.getBean(LedgerEntryRepository.class);
+            seed();
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            for (String scenario : scenarios) {
+                if (!ALL_SCENARIOS.contains(scenario)) {
+                    throw new IllegalArgumentException("Unknown scenario '" + scenario + "'");
+                }
+                measure(scenario, warmup, group);
+                Map<String, Object> point = measure(scenario, operations, group);
+                results.put(scenario, point);
+                System.err.printf("[write-batch] %-8s ops/s=%-9.1f roundTrips/op=%-6.2f rows/batch=%.1f%n",
+                    scenario, (double) point.get("operationsPerSecond"), (double) point.get("roundTripsPerOperation"),
+                    (double) point.get("rowsPerBatch"));
+            }
+
+            Map<String, Object> config = new LinkedHashMap<>();
+            config.put("operations", operations);
+            config.put("warmup", warmup);
+            config.put("group", group);
+            config.put("jdbcBatchSize", context.getEnvironment()
+                .getProperty("spring.jpa.properties.hibernate.jdbc.batch_size"));
+
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("finishedAt", Instant.now().toString());
+            report.put("config", config);
+            report.put("scenarios", results);
+
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            objectMapper.writeValue(output.toFile(), report);
+            System.err.printf("[write-batch] Report written to %s%n", output.toAbsolutePath());
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(Path dataDir) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("spring.main.web-application-type", "none");
+        properties.put("spring.datasource.url", "jdbc:h2:file:" + dataDir.resolve("write-batch-db/walletdb").toAbsolutePath()
+            + ";DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.walletplatform", "WARN");
+        properties.put("exchange-rate.provider", "stand-in");
+        properties.put("auth.password.bcrypt-strength", "4");
+        options.forEach((key, value) -> {
+            if (key.contains(".")) {
+                properties.put(key, value);
+            }
+        });
+
+        String[] args = properties.entrySet().stream()
+            .map(e -> "--" + e.getKey() + "=" + e.getValue())
+            .toArray(String[]::new);
+        return new SpringApplicationBuilder(WalletPlatformApplication.class)
+            .initializers(context -> context.getBeanFactory().addBeanPostProcessor(statementCountingPostProcessor()))
+            .run(args);
+    }
+
+    private void seed() {
+        UserService userService = context.getBean(UserService.class);
+        WalletService walletService = context.getBean(WalletService.class);
+        WalletRepository walletRepository = context.getBean(WalletRepository.class);
+        for (int i = 0; i < 4; i++) {
+            User user = userService.registerUser("batch" + i + "@walletplatform.test", "BatchTest1!",
+                "Batch", "User" + i, "127.0.0.1");
+            Wallet wallet = walletRepository.findByOwnerIdAndCurrency(user.getId(), Currency.USD).orElseThrow();
+            if (i < 2) {
+                rowWallets.add(wallet.getId());
+                continue;
+            }
+            wallet.setDailyLimit(INITIAL_BALANCE);
+            walletRepository.save(wallet);
+            walletService.topUp(wallet.getId(), INITIAL_BALANCE, "Write batch benchmark seed", "127.0.0.1");
+            transferWallets.add(wallet.getId());
+        }
+    }
+
+    private Map<String, Object> measure(String scenario, int operations, int group) {
+        long tripsBefore = roundTrips.sum();
+        long batchesBefore = batchExecutions.sum();
+        long rowsBefore = batchedRows.sum();
+        long started = System.nanoTime();
+        for (int done = 0; done < operations; done += group) {
+            int count = Math.min(group, operations - done);
+            if (scenario.equals("transfer")) {
+                // Every transfer commits on its own, so --group does not apply
+                for (int i = 0; i < count; i++) {
+                    transfer(done + i);
+                }
+            } else {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Transaction> transactions = new ArrayList<>();
+                    List<LedgerEntry> entries = new ArrayList<>();
+                    for (int i = 0; i < count; i++) {
+                        write(scenario, transactions, entries);
+                    }
+                    // Bulk callers hand over everything they have in one call
+                    if (scenario.equals("bulk")) {
+                        transactionRepository.insertAll(transactions);
+                        ledgerEntryRepository.insertAll(entries);
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        long trips = roundTrips.sum() - tripsBefore;
+        long batches = batchExecutions.sum() - batchesBefore;
+        long rows = batchedRows.sum() - rowsBefore;
+
+        Map<String, Object> point = new LinkedHashMap<>();
+        point.put("operations", operations);
+        point.put("operationsPerSecond", round(operations / seconds));
+        point.put("roundTrips", trips);
+        point.put("roundTripsPerOperation", round((double) trips / operations));
+        point.put("rowsPerBatch", round(batches > 0 ? (double) rows / batches : 0));
+        return point;
+    }
+
+    private void transfer(int index) {
+        UUID source = transferWallets.get(index % 2);
+        UUID target = transferWallets.get((index + 1) % 2);
+        context.getBean(TransactionOrchestrator.class)
+            .transfer(new TransferCommand(source, target, new BigDecimal("0.01"), "Write batch benchmark", null));
+    }
+
+    /**
+     * One cross-currency transfer's rows: the transaction and its four ledger entries.
+     * Saved right away, or collected for {@code insertAll} in the bulk scenario.
+     */
+    private void write(String scenario, List<Transaction> transactions, List<LedgerEntry> pending) {
+        Session session = entityManager.unwrap(Session.class);
+        session.setJdbcBatchSize(scenario.equals("entity") ? 1 : null);
+        Wallet source = entityManager.getReference(Wallet.class, rowWallets.get(0));
+        Wallet target = entityManager.getReference(Wallet.class, rowWallets.get(1));
+
+        Money amount = Money.of(new BigDecimal("10.00"), Currency.USD);
+        Money converted = Money.of(new BigDecimal("9.20"), Currency.EUR);
+        Transaction transaction = Transaction.builder()
+            .sourceWallet(source)
+            .targetWallet(target)
+            .type(TransactionType.TRANSFER)
+            .status(TransactionStatus.COMPLETED)
+            .amount(amount.toBigDecimal())
+            .sourceCurrency(Currency.USD)
+            .convertedAmount(converted.toBigDecimal())
+            .targetCurrency(Currency.EUR)
+            .exchangeRate(new BigDecimal("0.92"))
+            .description("Write batch benchmark")
+            .build();
+        transaction.complete();
+
+        List<LedgerEntry> entries = List.of(
+            LedgerEntry.builder().transaction(transaction).wallet(source)
+                .accountType(AccountType.WALLET)
+                .entryType(EntryType.DEBIT)
+                .amount(amount.toBigDecimal()).currency(Currency.USD).description("Transfer out (FX)").build(),
+            LedgerEntry.creditExchange(transaction, amount, "FX: received source currency"),
+            LedgerEntry.debitExchange(transaction, converted, "FX: released target currency"),
+            LedgerEntry.builder().transaction(transaction).wallet(target)
+                .accountType(AccountType.WALLET)
+                .entryType(EntryType.CREDIT)
+                .amount(converted.toBigDecimal()).currency(Currency.EUR).description("Transfer in (FX)").build());
+
+        if (scenario.equals("bulk")) {
+            transactions.add(transaction);
+        } else {
+            transactionRepository.save(transaction);
+        }
+        // Benchmark-only chains, so the rows are hashed like real postings without touching real chain heads
+        for (LedgerEntry entry : entries) {
+            String chainKey = "bench:" + scenario + ":" + entry.getAccountType() + ":" + entry.getCurrency();
+            long sequence = chainSequences.merge(chainKey, 1L, Long::sum);
+            entry.seal(chainKey, sequence, chainHeads.getOrDefault(chainKey, LedgerHash.GENESIS), LocalDateTime.now());
+            chainHeads.put(chainKey, entry.getEntryHash());
+        }
+        if (scenario.equals("bulk")) {
+            pending.addAll(entries);
+        } else {
+            ledgerEntryRepository.saveAll(entries);
+        }
+    }
+
+    /**
+     * Wraps the application DataSource so every statement execution and batch is counted.
+     */
+    private BeanPostProcessor statementCountingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || !beanName.equals("dataSource")) {
+                    return bean;
+                }
+                return proxy(DataSource.class, dataSource, (method, result) ->
+                    result instanceof Connection connection ? countingConnection(connection) : result);
+            }
+        };
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, result) -> {
+            if (result instanceof Statement statement) {
+                Class<? extends Statement> type = method.getReturnType().asSubclass(Statement.class);
+                return countingStatement(type, statement);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S countingStatement(Class<S> type, Statement statement) {
+        return proxy(type, type.cast(statement), (method, result) -> {
+            String name = method.getName();
+            if (name.equals("addBatch")) {
+                batchedRows.increment();
+            } else if (name.startsWith("execute")) {
+                roundTrips.increment();
+                if (name.contains("Batch")) {
+                    batchExecutions.increment();
+                }
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface ResultMapper {
+        Object map(Method method, Object result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+            (proxy, method, args) -> {
+                try {
+                    return mapper.map(method, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(options.getOrDefault(name, String.valueOf(defaultValue)));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
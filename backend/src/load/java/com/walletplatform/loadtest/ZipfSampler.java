@@ -0,0 +1,41 @@
+package com.walletplatform.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks indexes in {@code [0, n)} with Zipf-distributed popularity.
+ * An exponent of 0 is uniform; around 1 a handful of keys take most of the traffic.
+ */
+final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    int next() {
+        int index = Arrays.binarySearch(cumulative, ThreadLocalRandom.current().nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+
+    /**
+     * A second index different from {@code other}, drawn from the same distribution.
+     */
+    int nextOtherThan(int other) {
+        int index;
+        do {
+            index = next();
+        } while (index == other);
+        return index;
+    }
+}
@@ -4,18 +4,26 @@ import com.walletplatform.admin.application.service.AdminService;
 import com.walletplatform.shared.dto.TransactionResponse;
 import com.walletplatform.shared.dto.UserResponse;
 import com.walletplatform.shared.dto.WalletResponse;
+import com.walletplatform.shared.api.ClientIp;
 import com.walletplatform.shared.mapper.DtoMapper;
+import com.walletplatform.shared.security.UserPrincipal;
 import com.walletplatform.wallet.domain.Wallet;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -81,6 +89,16 @@ public class AdminController {
         }
     }
 
+    @PatchMapping("/users/{userId}/status")
+    public ResponseEntity<UserResponse> updateUserStatus(
+            @PathVariable UUID userId,
+            @RequestParam boolean active) {
+        
+        return adminService.updateUserActive(userId, active)
+                .map(user -> ResponseEntity.ok(dtoMapper.toUserResponse(user)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     @GetMapping("/wallets")
     public ResponseEntity<Page<WalletResponse>> getAllWallets(
             @RequestParam(defaultValue = "0") int page,
@@ -115,6 +133,11 @@ public class AdminController {
         return ResponseEntity.ok(adminService.verifyAllBalances());
     }
 
+    @GetMapping("/balance-verification/continuous")
+    public ResponseEntity<Map<String, Object>> getConsistencyStatus() {
+        return ResponseEntity.ok(adminService.getConsistencyStatus());
+    }
+
     @GetMapping("/ledger-integrity")
     public ResponseEntity<Map<String, Object>> verifyLedgerIntegrity() {
         return ResponseEntity.ok(adminService.verifyLedgerIntegrity());
@@ -133,4 +156,100 @@ public class AdminController {
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    @PostMapping("/ledger/replay")
+    public ResponseEntity<Map<String, Object>> replayLedger(
+            @RequestParam(defaultValue = "false") boolean rebuildViews) {
+        return ResponseEntity.ok(adminService.replayLedger(rebuildViews));
+    }
+
+    @PostMapping("/ledger/periods/close")
+    public ResponseEntity<?> closeLedgerPeriod(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime through,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        try {
+            return ResponseEntity.ok(adminService.closeLedgerPeriod(through, principal.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/ledger/periods")
+    public ResponseEntity<List<Map<String, Object>>> getLedgerPeriods() {
+        return ResponseEntity.ok(adminService.getLedgerPeriods());
+    }
+
+    @GetMapping("/ledger/periods/{periodId}/proof")
+    public ResponseEntity<?> proveWalletHistory(@PathVariable UUID periodId, @RequestParam UUID walletId) {
+        return adminService.proveWalletHistory(periodId, walletId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/ledger/hash-chains/verify")
+    public ResponseEntity<Map<String, Object>> verifyHashChains() {
+        return ResponseEntity.ok(adminService.verifyHashChains());
+    }
+
+    @GetMapping("/ledger/hash-chains")
+    public ResponseEntity<Map<String, Object>> getHashChainStatus() {
+        return ResponseEntity.ok(adminService.getHashChainStatus());
+    }
+
+    @PostMapping("/wallet-views/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildWalletViews() {
+        return ResponseEntity.ok(adminService.rebuildWalletViews());
+    }
+
+    @PostMapping("/reconciliation-jobs")
+    public ResponseEntity<?> startBulkReconciliation(
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletRequest httpRequest) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(adminService.startBulkReconciliation(principal.getId(), ClientIp.resolve(httpRequest)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/reconciliation-jobs")
+    public ResponseEntity<List<Map<String, Object>>> getBulkReconciliations() {
+        return ResponseEntity.ok(adminService.getBulkReconciliations());
+    }
+
+    @GetMapping("/reconciliation-jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getBulkReconciliation(@PathVariable UUID jobId) {
+        return adminService.getBulkReconciliation(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/reconciliation-jobs/{jobId}/pause")
+    public ResponseEntity<?> pauseBulkReconciliation(@PathVariable UUID jobId) {
+        try {
+            return ResponseEntity.ok(adminService.pauseBulkReconciliation(jobId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/reconciliation-jobs/{jobId}/resume")
+    public ResponseEntity<?> resumeBulkReconciliation(
+            @PathVariable UUID jobId,
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletRequest httpRequest) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(adminService.resumeBulkReconciliation(jobId, principal.getId(), ClientIp.resolve(httpRequest)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        }
+    }
 }
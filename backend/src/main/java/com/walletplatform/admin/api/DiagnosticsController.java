@@ -0,0 +1,77 @@
+package com.walletplatform.admin.api;
+
+import com.walletplatform.shared.diagnostics.JfrRecordingService;
+import com.walletplatform.shared.diagnostics.WalletDiagnosticEvent;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Flight Recorder controls for correlating latency spikes with wallets and phases.
+ */
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+@PreAuthorize("hasRole('ADMIN')")
+public class DiagnosticsController {
+
+    private final JfrRecordingService jfrRecordingService;
+
+    public DiagnosticsController(JfrRecordingService jfrRecordingService) {
+        this.jfrRecordingService = jfrRecordingService;
+    }
+
+    @GetMapping("/jfr")
+    public ResponseEntity<Map<String, Object>> getRecordingStatus() {
+        return ResponseEntity.ok(jfrRecordingService.status());
+    }
+
+    @PostMapping("/jfr/start")
+    public ResponseEntity<Map<String, Object>> startRecording(
+            @RequestParam(required = false) Long maxAgeMinutes,
+            @RequestParam(required = false) Long maxSizeMb) {
+        return ResponseEntity.ok(jfrRecordingService.start(maxAgeMinutes, maxSizeMb));
+    }
+
+    @PostMapping("/jfr/stop")
+    public ResponseEntity<Map<String, Object>> stopRecording() {
+        return ResponseEntity.ok(jfrRecordingService.stop());
+    }
+
+    /**
+     * Downloads a snapshot of the running recording; the recording keeps running.
+     */
+    @GetMapping("/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() {
+        Path file = jfrRecordingService.dump();
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .body(body);
+    }
+
+    /**
+     * The hash a wallet id is recorded under, for finding its events in a recording.
+     */
+    @GetMapping("/wallet-hash/{walletId}")
+    public ResponseEntity<Map<String, Object>> getWalletHash(@PathVariable UUID walletId) {
+        return ResponseEntity.ok(Map.of(
+            "walletId", walletId,
+            "hash", WalletDiagnosticEvent.hashWalletId(walletId)
+        ));
+    }
+}
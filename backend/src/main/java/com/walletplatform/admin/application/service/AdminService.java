@@ -8,12 +8,23 @@ import com.walletplatform.wallet.domain.Wallet;
 import com.walletplatform.transaction.infrastructure.TransactionRepository;
 import com.walletplatform.identity.infrastructure.UserRepository;
 import com.walletplatform.wallet.infrastructure.WalletRepository;
+import com.walletplatform.wallet.application.service.WalletViewProjector;
 import com.walletplatform.ledger.application.service.BalanceService;
+import com.walletplatform.ledger.application.service.BalanceConsistencyChecker;
+import com.walletplatform.ledger.application.service.BulkReconciliationService;
+import com.walletplatform.ledger.application.service.LedgerIntegrityService;
+import com.walletplatform.ledger.application.service.PeriodCloseService;
+import com.walletplatform.ledger.domain.AccountingPeriod;
+import com.walletplatform.ledger.domain.ReconciliationJob;
+import com.walletplatform.ledger.application.service.LedgerReplayService;
 import com.walletplatform.ledger.application.service.LedgerService;
+import com.walletplatform.shared.security.UserStatusService;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -28,15 +39,34 @@ public class AdminService {
     private final TransactionRepository transactionRepository;
     private final BalanceService balanceService;
     private final LedgerService ledgerService;
+    private final UserStatusService userStatusService;
+    private final WalletViewProjector walletViewProjector;
+    private final LedgerReplayService ledgerReplayService;
+    private final BalanceConsistencyChecker consistencyChecker;
+    private final BulkReconciliationService bulkReconciliationService;
+    private final PeriodCloseService periodCloseService;
+    private final LedgerIntegrityService ledgerIntegrityService;
 
     public AdminService(UserRepository userRepository, WalletRepository walletRepository,
                         TransactionRepository transactionRepository, BalanceService balanceService,
-                        LedgerService ledgerService) {
+                        LedgerService ledgerService, UserStatusService userStatusService,
+                        WalletViewProjector walletViewProjector, LedgerReplayService ledgerReplayService,
+                        BalanceConsistencyChecker consistencyChecker,
+                        BulkReconciliationService bulkReconciliationService,
+                        PeriodCloseService periodCloseService,
+                        LedgerIntegrityService ledgerIntegrityService) {
         this.userRepository = userRepository;
         this.walletRepository = walletRepository;
         this.transactionRepository = transactionRepository;
         this.balanceService = balanceService;
         this.ledgerService = ledgerService;
+        this.userStatusService = userStatusService;
+        this.walletViewProjector = walletViewProjector;
+        this.ledgerReplayService = ledgerReplayService;
+        this.consistencyChecker = consistencyChecker;
+        this.bulkReconciliationService = bulkReconciliationService;
+        this.periodCloseService = periodCloseService;
+        this.ledgerIntegrityService = ledgerIntegrityService;
     }
 
     @Transactional(readOnly = true)
@@ -60,6 +90,30 @@ public class AdminService {
             .map(user -> {
                 UserRole newRole = UserRole.valueOf(role.toUpperCase());
                 user.setRole(newRole);
+                userStatusService.revokeTokens(userId);
+                return userRepository.save(user);
+            });
+    }
+
+    /**
+     * Disabling revokes the user's tokens. Re-enabling does not bring them back; the user signs in again.
+     */
+    @Transactional
+    public Optional<User> updateUserActive(UUID userId, boolean active) {
+        return userRepository.findById(userId)
+            .map(user -> {
+                user.setActive(active);
+                if (active) {
+                    // After commit, or a concurrent request could cache the inactive row again
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            userStatusService.refreshStatus(userId);
+                        }
+                    });
+                } else {
+                    userStatusService.revokeTokens(userId);
+                }
                 return userRepository.save(user);
             });
     }
@@ -152,6 +206,18 @@ public class AdminService {
         return result;
     }
 
+    /**
+     * State of the continuous balance checker, with the latest discrepancies it found.
+     */
+    public Map<String, Object> getConsistencyStatus() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("pendingWallets", consistencyChecker.getPendingCount());
+        result.put("lagMs", consistencyChecker.getLagMs());
+        result.put("verifiedPerSecond", consistencyChecker.getVerifiedPerSecond());
+        result.put("recentDiscrepancies", consistencyChecker.getRecentDiscrepancies());
+        return result;
+    }
+
     @Transactional(readOnly = true)
     public Map<String, Object> verifyLedgerIntegrity() {
         return ledgerService.verifyAllBalances();
@@ -201,4 +267,131 @@ public class AdminService {
                 return result;
             });
     }
+
+    /**
+     * Rebuild the wallet read model from the ledger. Each wallet commits on its own.
+     */
+    public Map<String, Object> rebuildWalletViews() {
+        long started = System.currentTimeMillis();
+        int wallets = walletViewProjector.rebuild();
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("walletsProjected", wallets);
+        result.put("durationMs", System.currentTimeMillis() - started);
+        return result;
+    }
+
+    /**
+     * Rebuild every wallet's cached balance and daily spending from the ledger in one pass.
+     */
+    public Map<String, Object> replayLedger(boolean rebuildViews) {
+        LedgerReplayService.ReplayResult replay = ledgerReplayService.replay(rebuildViews);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("wallets", replay.wallets());
+        result.put("entriesReplayed", replay.entries());
+        result.put("walletsCorrected", replay.walletsCorrected());
+        result.put("partitions", replay.partitions());
+        result.put("durationMs", replay.durationMs());
+        result.put("entriesPerMinute", replay.durationMs() > 0 ? replay.entries() * 60_000 / replay.durationMs() : replay.entries());
+        result.put("viewsRebuilt", rebuildViews);
+        return result;
+    }
+
+    public Map<String, Object> closeLedgerPeriod(LocalDateTime closedThrough, UUID adminId) {
+        return toPeriodSummary(periodCloseService.close(closedThrough, adminId));
+    }
+
+    public List<Map<String, Object>> getLedgerPeriods() {
+        return periodCloseService.getPeriods().stream()
+            .map(this::toPeriodSummary)
+            .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> toPeriodSummary(AccountingPeriod period) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("periodId", period.getId());
+        result.put("openedAfter", period.getOpenedAfter());
+        result.put("closedThrough", period.getClosedThrough());
+        result.put("entriesArchived", period.getEntriesArchived());
+        result.put("accounts", period.getAccounts());
+        result.put("closedBy", period.getClosedBy());
+        result.put("closedAt", period.getClosedAt());
+        result.put("merkleRoot", period.getMerkleRoot());
+        return result;
+    }
+
+    public Map<String, Object> verifyHashChains() {
+        return toIntegritySummary(ledgerIntegrityService.verifyIncremental());
+    }
+
+    public Map<String, Object> getHashChainStatus() {
+        Map<String, Object> result = new HashMap<>();
+        LedgerIntegrityService.VerificationResult last = ledgerIntegrityService.getLastResult();
+        result.put("lastPass", last != null ? toIntegritySummary(last) : null);
+        result.put("pendingChains", ledgerIntegrityService.getPendingChains());
+        result.put("recentViolations", ledgerIntegrityService.getRecentViolations());
+        result.put("periods", periodCloseService.getPeriods().stream()
+            .map(period -> Map.of(
+                "periodId", period.getId(),
+                "closedThrough", period.getClosedThrough(),
+                "rootVerified", ledgerIntegrityService.verifyPeriodRoot(period)))
+            .collect(Collectors.toList()));
+        return result;
+    }
+
+    public Optional<LedgerIntegrityService.WalletProof> proveWalletHistory(UUID periodId, UUID walletId) {
+        return periodCloseService.getPeriod(periodId)
+            .flatMap(period -> ledgerIntegrityService.proveWallet(period, walletId));
+    }
+
+    private Map<String, Object> toIntegritySummary(LedgerIntegrityService.VerificationResult pass) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("intact", pass.intact());
+        result.put("chainsVerified", pass.chainsVerified());
+        result.put("entriesRehashed", pass.entriesRehashed());
+        result.put("violations", pass.violations());
+        result.put("durationMs", pass.durationMs());
+        result.put("completedAt", pass.completedAt());
+        return result;
+    }
+
+    public Map<String, Object> startBulkReconciliation(UUID adminId, String ipAddress) {
+        return toJobStatus(bulkReconciliationService.start(adminId, ipAddress));
+    }
+
+    public Map<String, Object> resumeBulkReconciliation(UUID jobId, UUID adminId, String ipAddress) {
+        return toJobStatus(bulkReconciliationService.resume(jobId, adminId, ipAddress));
+    }
+
+    public Map<String, Object> pauseBulkReconciliation(UUID jobId) {
+        return toJobStatus(bulkReconciliationService.pause(jobId));
+    }
+
+    public Optional<Map<String, Object>> getBulkReconciliation(UUID jobId) {
+        return bulkReconciliationService.getJob(jobId).map(this::toJobStatus);
+    }
+
+    public List<Map<String, Object>> getBulkReconciliations() {
+        return bulkReconciliationService.getRecentJobs().stream()
+            .map(this::toJobStatus)
+            .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> toJobStatus(ReconciliationJob job) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("jobId", job.getId());
+        result.put("status", job.getStatus().name());
+        result.put("candidates", job.getCandidates());
+        result.put("processed", job.getProcessed());
+        result.put("corrected", job.getCorrected());
+        result.put("batches", job.getBatches());
+        result.put("percentComplete", job.getCandidates() > 0 ? job.getProcessed() * 100 / job.getCandidates() : 0);
+        result.put("checkpointWalletId", job.getCheckpointWalletId());
+        result.put("lastError", job.getLastError());
+        result.put("createdAt", job.getCreatedAt());
+        result.put("updatedAt", job.getUpdatedAt());
+        result.put("completedAt", job.getCompletedAt());
+        return result;
+    }
 }
@@ -5,6 +5,7 @@ import com.walletplatform.shared.dto.LoginRequest;
 import com.walletplatform.shared.dto.RegisterRequest;
 import com.walletplatform.identity.application.service.UserService;
 import com.walletplatform.identity.domain.User;
+import com.walletplatform.shared.api.ClientIp;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -26,7 +27,7 @@ public class AuthController {
             @Valid @RequestBody RegisterRequest request,
             HttpServletRequest httpRequest) {
         
-        String ipAddress = getClientIp(httpRequest);
+        String ipAddress = ClientIp.resolve(httpRequest);
         
         User user = userService.registerUser(
                 request.getEmail(),
@@ -36,7 +37,8 @@ public class AuthController {
                 ipAddress
         );
 
-        String token = userService.authenticate(request.getEmail(), request.getPassword(), ipAddress);
+        // The password was just hashed during registration; skip a second hash for the login
+        String token = userService.issueToken(user);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(AuthResponse.builder()
                 .token(token)
@@ -53,7 +55,7 @@ public class AuthController {
             @Valid @RequestBody LoginRequest request,
             HttpServletRequest httpRequest) {
         
-        String ipAddress = getClientIp(httpRequest);
+        String ipAddress = ClientIp.resolve(httpRequest);
         String token = userService.authenticate(request.getEmail(), request.getPassword(), ipAddress);
         User user = userService.getUserByEmail(request.getEmail());
 
@@ -66,12 +68,4 @@ public class AuthController {
                 .role(user.getRole().name())
                 .build());
     }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
 }
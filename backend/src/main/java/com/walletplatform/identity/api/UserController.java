@@ -6,9 +6,9 @@ import com.walletplatform.identity.application.service.UserService;
 import com.walletplatform.wallet.application.service.WalletService;
 import com.walletplatform.identity.domain.User;
 import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.shared.security.UserPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -29,17 +29,17 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getCurrentUser(@AuthenticationPrincipal UserDetails userDetails) {
-        User user = userService.getUserByEmail(userDetails.getUsername());
+    public ResponseEntity<UserResponse> getCurrentUser(@AuthenticationPrincipal UserPrincipal principal) {
+        User user = userService.getUserById(principal.getId());
         return ResponseEntity.ok(dtoMapper.toUserResponse(user));
     }
 
     @GetMapping("/lookup")
     public ResponseEntity<RecipientInfo> lookupRecipient(
             @RequestParam String email,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserPrincipal principal) {
         
-        if (email.equalsIgnoreCase(userDetails.getUsername())) {
+        if (email.equalsIgnoreCase(principal.getUsername())) {
             return ResponseEntity.badRequest().build();
         }
         
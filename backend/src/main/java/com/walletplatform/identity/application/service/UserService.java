@@ -4,17 +4,23 @@ import com.walletplatform.shared.event.AuditEvent;
 import com.walletplatform.shared.exception.UserNotFoundException;
 import com.walletplatform.wallet.domain.Currency;
 import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.application.service.WalletViewProjector;
 import com.walletplatform.identity.domain.User;
 import com.walletplatform.identity.infrastructure.UserRepository;
 import com.walletplatform.wallet.infrastructure.WalletRepository;
 import com.walletplatform.shared.security.JwtTokenProvider;
+import com.walletplatform.shared.security.LoginAttemptService;
+import com.walletplatform.shared.security.UserPrincipal;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Map;
 import java.util.UUID;
@@ -28,27 +34,48 @@ public class UserService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final ApplicationEventPublisher eventPublisher;
+    private final LoginAttemptService loginAttemptService;
+    private final WalletViewProjector walletViewProjector;
+    private final TransactionTemplate registration;
 
     public UserService(UserRepository userRepository, WalletRepository walletRepository,
                        PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager,
-                       JwtTokenProvider jwtTokenProvider, ApplicationEventPublisher eventPublisher) {
+                       JwtTokenProvider jwtTokenProvider, ApplicationEventPublisher eventPublisher,
+                       LoginAttemptService loginAttemptService, WalletViewProjector walletViewProjector,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.walletRepository = walletRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
         this.eventPublisher = eventPublisher;
+        this.loginAttemptService = loginAttemptService;
+        this.walletViewProjector = walletViewProjector;
+        this.registration = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    /**
+     * Not transactional on purpose: the password is hashed before the transaction that stores the user opens.
+     */
     public User registerUser(String email, String password, String firstName, String lastName, String ipAddress) {
+        // Cheap check first so a duplicate email does not cost a hash; repeated inside the transaction
+        ensureEmailAvailable(email);
+        String passwordHash = passwordEncoder.encode(password);
+        return registration.execute(status -> createUser(email, passwordHash, firstName, lastName, ipAddress));
+    }
+
+    private void ensureEmailAvailable(String email) {
         if (userRepository.existsByEmail(email)) {
             throw new IllegalArgumentException("Email already registered: " + email);
         }
+    }
+
+    private User createUser(String email, String passwordHash, String firstName, String lastName, String ipAddress) {
+        ensureEmailAvailable(email);
 
         User user = User.builder()
                 .email(email)
-                .passwordHash(passwordEncoder.encode(password))
+                .passwordHash(passwordHash)
                 .firstName(firstName)
                 .lastName(lastName)
                 .build();
@@ -61,6 +88,7 @@ public class UserService {
                 .currency(Currency.USD)
                 .build();
         walletRepository.save(defaultWallet);
+        walletViewProjector.projectCreated(defaultWallet);
 
         eventPublisher.publishEvent(new AuditEvent(
                 this,
@@ -75,26 +103,44 @@ public class UserService {
         return user;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Not transactional on purpose: no connection is held while the password hash is computed.
+     */
     public String authenticate(String email, String password, String ipAddress) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(email, password)
-        );
+        loginAttemptService.checkAllowed(email, ipAddress);
+
+        Authentication authentication;
+        try {
+            authentication = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(email, password)
+            );
+        } catch (BadCredentialsException e) {
+            loginAttemptService.recordFailure(email, ipAddress);
+            throw e;
+        }
+        loginAttemptService.recordSuccess(email);
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UserNotFoundException("User not found: " + email));
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
 
         eventPublisher.publishEvent(new AuditEvent(
                 this,
-                user.getId(),
+                principal.getId(),
                 "USER_LOGIN",
                 "User",
-                user.getId(),
+                principal.getId(),
                 Map.of("email", email),
                 ipAddress
         ));
 
-        return jwtTokenProvider.generateToken(authentication);
+        return jwtTokenProvider.generateToken(principal);
+    }
+
+    /**
+     * Issue a token for a user who has just proven their password, e.g. right after registration.
+     */
+    public String issueToken(User user) {
+        return jwtTokenProvider.generateToken(new UserPrincipal(
+                user.getId(), user.getEmail(), null, user.getRole(), user.isActive()));
     }
 
     @Transactional(readOnly = true)
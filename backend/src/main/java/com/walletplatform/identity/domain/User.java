@@ -1,5 +1,6 @@
 package com.walletplatform.identity.domain;
 
+import com.walletplatform.shared.infrastructure.id.UuidV7;
 import com.walletplatform.wallet.domain.Wallet;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,7 +16,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -2,6 +2,8 @@ package com.walletplatform.identity.infrastructure;
 
 import com.walletplatform.identity.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +17,7 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
     
     long countByActive(boolean active);
+    
+    @Query("SELECT new com.walletplatform.identity.infrastructure.UserStatusView(u.active, u.role) FROM User u WHERE u.id = :id")
+    Optional<UserStatusView> findStatusById(@Param("id") UUID id);
 }
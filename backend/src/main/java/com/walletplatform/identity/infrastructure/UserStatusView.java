@@ -0,0 +1,9 @@
+package com.walletplatform.identity.infrastructure;
+
+import com.walletplatform.identity.domain.UserRole;
+
+/**
+ * Narrow projection of the fields that decide whether a user's tokens are still honoured.
+ */
+public record UserStatusView(boolean active, UserRole role) {
+}
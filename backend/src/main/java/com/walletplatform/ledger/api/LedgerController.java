@@ -1,13 +1,17 @@
 package com.walletplatform.ledger.api;
 
+import com.walletplatform.ledger.application.service.LedgerExportService;
 import com.walletplatform.ledger.application.service.LedgerService;
-import com.walletplatform.ledger.domain.LedgerEntry;
+import com.walletplatform.ledger.domain.LedgerRecord;
+import com.walletplatform.shared.export.ExportFormat;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -21,29 +25,47 @@ import java.util.stream.Collectors;
 public class LedgerController {
 
     private final LedgerService ledgerService;
+    private final LedgerExportService ledgerExportService;
 
-    public LedgerController(LedgerService ledgerService) {
+    public LedgerController(LedgerService ledgerService, LedgerExportService ledgerExportService) {
         this.ledgerService = ledgerService;
+        this.ledgerExportService = ledgerExportService;
     }
 
     @GetMapping("/wallets/{walletId}/ledger")
+    @PreAuthorize("@walletAuth.isOwner(#walletId, authentication)")
     public ResponseEntity<Page<Map<String, Object>>> getWalletLedger(
             @PathVariable UUID walletId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<LedgerEntry> entries = ledgerService.getWalletLedger(walletId, pageable);
+        Page<LedgerRecord> entries = ledgerService.getWalletLedger(walletId, pageable);
         
         Page<Map<String, Object>> response = entries.map(this::mapLedgerEntry);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/wallets/{walletId}/ledger/export")
+    @PreAuthorize("@walletAuth.isOwner(#walletId, authentication)")
+    public ResponseEntity<StreamingResponseBody> exportWalletLedger(
+            @PathVariable UUID walletId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        
+        StreamingResponseBody body = out -> ledgerExportService.exportWalletLedger(walletId, format, out);
+        String filename = "ledger-" + walletId + "." + format.getFileExtension();
+        
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     @GetMapping("/transactions/{transactionId}/ledger")
     public ResponseEntity<List<Map<String, Object>>> getTransactionLedger(
             @PathVariable UUID transactionId) {
         
-        List<LedgerEntry> entries = ledgerService.getTransactionEntries(transactionId);
+        List<LedgerRecord> entries = ledgerService.getTransactionEntries(transactionId);
         List<Map<String, Object>> response = entries.stream()
                 .map(this::mapLedgerEntry)
                 .collect(Collectors.toList());
@@ -70,10 +92,10 @@ public class LedgerController {
         return ResponseEntity.ok(response);
     }
 
-    private Map<String, Object> mapLedgerEntry(LedgerEntry entry) {
+    private Map<String, Object> mapLedgerEntry(LedgerRecord entry) {
         Map<String, Object> map = new HashMap<>();
         map.put("id", entry.getId());
-        map.put("transactionId", entry.getTransaction().getId());
+        map.put("transactionId", entry.getTransactionId());
         map.put("accountType", entry.getAccountType().name());
         map.put("entryType", entry.getEntryType().name());
         map.put("amount", entry.getAmount());
@@ -81,8 +103,8 @@ public class LedgerController {
         map.put("description", entry.getDescription());
         map.put("createdAt", entry.getCreatedAt());
         
-        if (entry.getWallet() != null) {
-            map.put("walletId", entry.getWallet().getId());
+        if (entry.getWalletId() != null) {
+            map.put("walletId", entry.getWalletId());
         }
         
         return map;
@@ -2,7 +2,7 @@ package com.walletplatform.ledger.application;
 
 import com.walletplatform.ledger.application.service.BalanceService;
 import com.walletplatform.ledger.application.service.LedgerService;
-import com.walletplatform.ledger.domain.LedgerEntry;
+import com.walletplatform.ledger.domain.LedgerRecord;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,11 +26,11 @@ public class LedgerFacade {
         this.balanceService = balanceService;
     }
 
-    public Page<LedgerEntry> getWalletLedger(UUID walletId, Pageable pageable) {
+    public Page<LedgerRecord> getWalletLedger(UUID walletId, Pageable pageable) {
         return ledgerService.getWalletLedger(walletId, pageable);
     }
 
-    public List<LedgerEntry> getTransactionEntries(UUID transactionId) {
+    public List<LedgerRecord> getTransactionEntries(UUID transactionId) {
         return ledgerService.getTransactionEntries(transactionId);
     }
 
@@ -0,0 +1,171 @@
+package com.walletplatform.ledger.application.service;
+
+import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.shared.event.LedgerEntriesCreatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Continuously verifies cached wallet balances against the ledger, but only for wallets
+ * that committed ledger entries since the last pass.
+ *
+ * Committed postings mark their wallets dirty; every few seconds the dirty set is drained
+ * and checked in batches with one grouped query each. A wallet dirtied again while being
+ * checked stays in the set for the next pass. Discrepancies are logged at ERROR and counted
+ * in {@code ledger.consistency.discrepancies} as soon as they are found.
+ */
+@Service
+public class BalanceConsistencyChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceConsistencyChecker.class);
+
+    private static final int RECENT_DISCREPANCIES = 100;
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final int batchSize;
+    private final boolean enabled;
+
+    // Wallet id -> when it was first marked dirty (epoch millis)
+    private final Map<UUID, Long> dirty = new ConcurrentHashMap<>();
+    private final Deque<Discrepancy> recentDiscrepancies = new ConcurrentLinkedDeque<>();
+    private final Counter verified;
+    private final Counter discrepancies;
+
+    private volatile long lastPassAt = System.currentTimeMillis();
+    private volatile double verifiedPerSecond;
+
+    public BalanceConsistencyChecker(LedgerEntryRepository ledgerEntryRepository,
+                                     MeterRegistry registry,
+                                     @Value("${consistency-check.batch-size:500}") int batchSize,
+                                     @Value("${consistency-check.enabled:true}") boolean enabled) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.batchSize = batchSize;
+        this.enabled = enabled;
+        this.verified = Counter.builder("ledger.consistency.verified")
+            .description("Wallets whose cached balance was checked against the ledger")
+            .register(registry);
+        this.discrepancies = Counter.builder("ledger.consistency.discrepancies")
+            .description("Wallets whose cached balance disagreed with the ledger")
+            .register(registry);
+        Gauge.builder("ledger.consistency.lag", this, BalanceConsistencyChecker::getLagMs)
+            .description("Age of the oldest wallet change not yet verified")
+            .baseUnit("milliseconds")
+            .register(registry);
+        Gauge.builder("ledger.consistency.pending", dirty, Map::size)
+            .description("Wallets waiting to be verified")
+            .register(registry);
+        Gauge.builder("ledger.consistency.verified.rate", this, c -> c.verifiedPerSecond)
+            .description("Wallets verified per second over the last pass interval")
+            .register(registry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLedgerEntriesCreated(LedgerEntriesCreatedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (UUID walletId : event.getWalletIds()) {
+            dirty.putIfAbsent(walletId, now);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${consistency-check.interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void verifyDirtyWallets() {
+        long started = System.currentTimeMillis();
+        int checked = 0;
+
+        List<Map.Entry<UUID, Long>> pending = new ArrayList<>(dirty.entrySet());
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<Map.Entry<UUID, Long>> batch = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            // Removed before reading so a write committed mid-check marks the wallet dirty again
+            List<UUID> walletIds = new ArrayList<>(batch.size());
+            for (Map.Entry<UUID, Long> entry : batch) {
+                if (dirty.remove(entry.getKey(), entry.getValue())) {
+                    walletIds.add(entry.getKey());
+                }
+            }
+            if (walletIds.isEmpty()) {
+                continue;
+            }
+            try {
+                checked += verify(walletIds);
+            } catch (RuntimeException e) {
+                batch.forEach(entry -> dirty.putIfAbsent(entry.getKey(), entry.getValue()));
+                log.warn("Balance consistency check failed for {} wallets, will retry: {}", walletIds.size(), e.toString());
+                break;
+            }
+        }
+
+        long elapsedMs = Math.max(1, started - lastPassAt);
+        verifiedPerSecond = checked * 1000.0 / elapsedMs;
+        lastPassAt = started;
+    }
+
+    public long getLagMs() {
+        long oldest = Long.MAX_VALUE;
+        for (Long markedAt : dirty.values()) {
+            oldest = Math.min(oldest, markedAt);
+        }
+        return oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest;
+    }
+
+    public int getPendingCount() {
+        return dirty.size();
+    }
+
+    public double getVerifiedPerSecond() {
+        return verifiedPerSecond;
+    }
+
+    public List<Discrepancy> getRecentDiscrepancies() {
+        return List.copyOf(recentDiscrepancies);
+    }
+
+    private int verify(List<UUID> walletIds) {
+        List<Object[]> rows = ledgerEntryRepository.compareCachedBalances(walletIds);
+        for (Object[] row : rows) {
+            UUID walletId = (UUID) row[0];
+            BigDecimal cachedBalance = (BigDecimal) row[1];
+            BigDecimal ledgerBalance = (BigDecimal) row[2];
+            if (cachedBalance.compareTo(ledgerBalance) != 0) {
+                discrepancies.increment();
+                log.error("BALANCE DISCREPANCY wallet={} cached={} ledger={} difference={}",
+                    walletId, cachedBalance, ledgerBalance, cachedBalance.subtract(ledgerBalance));
+                recentDiscrepancies.addFirst(new Discrepancy(walletId, cachedBalance, ledgerBalance, Instant.now()));
+                while (recentDiscrepancies.size() > RECENT_DISCREPANCIES) {
+                    recentDiscrepancies.pollLast();
+                }
+            }
+        }
+        verified.increment(rows.size());
+        return rows.size();
+    }
+
+    public record Discrepancy(
+        UUID walletId,
+        BigDecimal cachedBalance,
+        BigDecimal ledgerBalance,
+        Instant detectedAt
+    ) {}
+}
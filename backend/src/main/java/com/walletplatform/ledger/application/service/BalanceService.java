@@ -1,6 +1,8 @@
 package com.walletplatform.ledger.application.service;
 
+import com.walletplatform.ledger.infrastructure.ClosingBalanceRepository;
 import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.shared.diagnostics.BalanceCalculationEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,20 +13,39 @@ import java.util.UUID;
 public class BalanceService {
 
     private final LedgerEntryRepository ledgerEntryRepository;
+    private final ClosingBalanceRepository closingBalanceRepository;
 
-    public BalanceService(LedgerEntryRepository ledgerEntryRepository) {
+    public BalanceService(LedgerEntryRepository ledgerEntryRepository,
+                          ClosingBalanceRepository closingBalanceRepository) {
         this.ledgerEntryRepository = ledgerEntryRepository;
+        this.closingBalanceRepository = closingBalanceRepository;
     }
 
     @Transactional(readOnly = true)
     public BigDecimal calculateBalance(UUID walletId) {
+        BalanceCalculationEvent event = new BalanceCalculationEvent();
+        event.start(walletId, null, null);
+        try {
+            BigDecimal balance = sumLedger(walletId);
+            event.amount(balance);
+            event.succeed();
+            return balance;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+
+    // Closed periods contribute their closing balance; only open-period entries are summed
+    private BigDecimal sumLedger(UUID walletId) {
+        BigDecimal opening = closingBalanceRepository.findOpeningBalance(walletId);
         BigDecimal credits = ledgerEntryRepository.sumWalletCredits(walletId);
         BigDecimal debits = ledgerEntryRepository.sumWalletDebits(walletId);
         
         if (credits == null) credits = BigDecimal.ZERO;
         if (debits == null) debits = BigDecimal.ZERO;
         
-        return credits.subtract(debits);
+        return opening.add(credits).subtract(debits);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,233 @@
+package com.walletplatform.ledger.application.service;
+
+import com.walletplatform.ledger.domain.ReconciliationJob;
+import com.walletplatform.ledger.domain.ReconciliationJobStatus;
+import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.ledger.infrastructure.ReconciliationJobRepository;
+import com.walletplatform.shared.domain.AuditLog;
+import com.walletplatform.shared.infrastructure.AuditLogRepository;
+import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.infrastructure.WalletRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reconciles every wallet whose cached balance has drifted from the ledger, as a resumable job.
+ *
+ * A scan lists the discrepant wallets after the job's checkpoint in id order. They are handled
+ * in waves of {@code parallelism} batches; each batch runs in its own transaction, locks its
+ * wallets in id order, refreshes them from one grouped ledger query and writes a single audit
+ * record. Batches within a wave cover disjoint id ranges, so they never wait on each other.
+ * The checkpoint advances after each complete wave, and a resumed job simply rescans from it:
+ * wallets already fixed are no longer discrepant.
+ */
+@Service
+public class BulkReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkReconciliationService.class);
+
+    private static final UUID FIRST_WALLET_ID = new UUID(0L, 0L);
+    private static final String AUDIT_ACTION = "BALANCES_RECONCILED";
+
+    private final ReconciliationJobRepository jobRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final WalletRepository walletRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final int parallelism;
+    private final ExecutorService driver = Executors.newSingleThreadExecutor(r -> new Thread(r, "reconcile-driver"));
+    private final ExecutorService batchExecutor;
+    private final Set<UUID> pauseRequested = ConcurrentHashMap.newKeySet();
+
+    public BulkReconciliationService(ReconciliationJobRepository jobRepository,
+                                     LedgerEntryRepository ledgerEntryRepository,
+                                     WalletRepository walletRepository,
+                                     AuditLogRepository auditLogRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${reconciliation.batch-size:200}") int batchSize,
+                                     @Value("${reconciliation.parallelism:4}") int parallelism) {
+        this.jobRepository = jobRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.walletRepository = walletRepository;
+        this.auditLogRepository = auditLogRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.batchExecutor = Executors.newFixedThreadPool(parallelism, r -> new Thread(r, "reconcile-batch"));
+    }
+
+    /**
+     * Jobs still marked RUNNING were cut off by a restart; make them resumable.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        for (ReconciliationJob job : jobRepository.findByStatus(ReconciliationJobStatus.RUNNING)) {
+            job.finish(ReconciliationJobStatus.INTERRUPTED, "Application restarted");
+            jobRepository.save(job);
+            log.warn("Reconciliation job {} was interrupted at wallet {}", job.getId(), job.getCheckpointWalletId());
+        }
+    }
+
+    public synchronized ReconciliationJob start(UUID adminId, String ipAddress) {
+        if (jobRepository.existsByStatus(ReconciliationJobStatus.RUNNING)) {
+            throw new IllegalStateException("A reconciliation job is already running");
+        }
+        ReconciliationJob job = jobRepository.save(new ReconciliationJob(adminId));
+        driver.submit(() -> run(job.getId(), adminId, ipAddress));
+        return job;
+    }
+
+    public synchronized ReconciliationJob resume(UUID jobId, UUID adminId, String ipAddress) {
+        ReconciliationJob job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("Reconciliation job not found: " + jobId));
+        if (!job.isResumable()) {
+            throw new IllegalStateException("Reconciliation job " + jobId + " is " + job.getStatus());
+        }
+        if (jobRepository.existsByStatus(ReconciliationJobStatus.RUNNING)) {
+            throw new IllegalStateException("A reconciliation job is already running");
+        }
+        job.begin(0);
+        jobRepository.save(job);
+        driver.submit(() -> run(jobId, adminId, ipAddress));
+        return job;
+    }
+
+    /**
+     * Ask a running job to stop after its current wave.
+     */
+    public ReconciliationJob pause(UUID jobId) {
+        ReconciliationJob job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("Reconciliation job not found: " + jobId));
+        if (job.getStatus() != ReconciliationJobStatus.RUNNING) {
+            throw new IllegalStateException("Reconciliation job " + jobId + " is " + job.getStatus());
+        }
+        pauseRequested.add(jobId);
+        return job;
+    }
+
+    public Optional<ReconciliationJob> getJob(UUID jobId) {
+        return jobRepository.findById(jobId);
+    }
+
+    public List<ReconciliationJob> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByCreatedAtDesc();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        driver.shutdownNow();
+        batchExecutor.shutdownNow();
+    }
+
+    private void run(UUID jobId, UUID adminId, String ipAddress) {
+        ReconciliationJob job = jobRepository.findById(jobId).orElseThrow();
+        try {
+            UUID after = job.getCheckpointWalletId() != null ? job.getCheckpointWalletId() : FIRST_WALLET_ID;
+            List<UUID> candidates = ledgerEntryRepository.findDiscrepantWalletIds(after);
+            job.begin(candidates.size());
+            job = jobRepository.save(job);
+            log.info("Reconciliation job {} found {} discrepant wallets after {}", jobId, candidates.size(), after);
+
+            int waveSize = batchSize * parallelism;
+            for (int from = 0; from < candidates.size(); from += waveSize) {
+                if (pauseRequested.remove(jobId)) {
+                    job.finish(ReconciliationJobStatus.PAUSED, null);
+                    jobRepository.save(job);
+                    log.info("Reconciliation job {} paused at wallet {}", jobId, job.getCheckpointWalletId());
+                    return;
+                }
+                List<UUID> wave = candidates.subList(from, Math.min(from + waveSize, candidates.size()));
+                int corrected = runWave(job, wave, adminId, ipAddress);
+                job.recordWave(wave.get(wave.size() - 1), wave.size(), corrected,
+                    (wave.size() + batchSize - 1) / batchSize);
+                job = jobRepository.save(job);
+            }
+            job.finish(ReconciliationJobStatus.COMPLETED, null);
+            jobRepository.save(job);
+            log.info("Reconciliation job {} completed: {} wallets corrected in {} batches",
+                jobId, job.getCorrected(), job.getBatches());
+        } catch (Exception e) {
+            pauseRequested.remove(jobId);
+            job.finish(ReconciliationJobStatus.FAILED, String.valueOf(e.getMessage()));
+            jobRepository.save(job);
+            log.error("Reconciliation job {} failed after wallet {}", jobId, job.getCheckpointWalletId(), e);
+        }
+    }
+
+    private int runWave(ReconciliationJob job, List<UUID> wave, UUID adminId, String ipAddress)
+            throws InterruptedException, ExecutionException {
+        List<Future<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < wave.size(); from += batchSize) {
+            List<UUID> walletIds = wave.subList(from, Math.min(from + batchSize, wave.size()));
+            int batchNumber = job.getBatches() + batches.size() + 1;
+            batches.add(batchExecutor.submit(() -> batchTransaction.execute(
+                status -> reconcileBatch(job.getId(), batchNumber, walletIds, adminId, ipAddress))));
+        }
+        int corrected = 0;
+        for (Future<Integer> batch : batches) {
+            corrected += batch.get();
+        }
+        return corrected;
+    }
+
+    private int reconcileBatch(UUID jobId, int batchNumber, List<UUID> walletIds, UUID adminId, String ipAddress) {
+        List<Wallet> wallets = walletRepository.findAllByIdInWithLock(walletIds);
+        Map<UUID, BigDecimal> ledgerBalances = new HashMap<>();
+        for (Object[] row : ledgerEntryRepository.compareCachedBalances(walletIds)) {
+            ledgerBalances.put((UUID) row[0], (BigDecimal) row[2]);
+        }
+
+        int corrected = 0;
+        BigDecimal netAdjustment = BigDecimal.ZERO;
+        for (Wallet wallet : wallets) {
+            BigDecimal ledgerBalance = ledgerBalances.getOrDefault(wallet.getId(), BigDecimal.ZERO);
+            if (wallet.getBalance().compareTo(ledgerBalance) != 0) {
+                netAdjustment = netAdjustment.add(ledgerBalance.subtract(wallet.getBalance()));
+                wallet.refreshBalanceFromLedger(ledgerBalance);
+                corrected++;
+            }
+        }
+        walletRepository.saveAll(wallets);
+
+        Map<String, Object> details = new HashMap<>();
+        details.put("batch", batchNumber);
+        details.put("firstWalletId", walletIds.get(0));
+        details.put("lastWalletId", walletIds.get(walletIds.size() - 1));
+        details.put("walletsChecked", wallets.size());
+        details.put("walletsCorrected", corrected);
+        details.put("netAdjustment", netAdjustment);
+        auditLogRepository.save(AuditLog.builder()
+            .userId(adminId)
+            .action(AUDIT_ACTION)
+            .entityType("ReconciliationJob")
+            .entityId(jobId)
+            .details(details)
+            .ipAddress(ipAddress)
+            .build());
+        return corrected;
+    }
+}
@@ -0,0 +1,104 @@
+package com.walletplatform.ledger.application.service;
+
+import com.walletplatform.ledger.domain.LedgerChainHead;
+import com.walletplatform.ledger.domain.LedgerEntry;
+import com.walletplatform.ledger.infrastructure.LedgerChainHeadRepository;
+import com.walletplatform.transaction.domain.Transaction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Links new ledger entries into their hash chains.
+ *
+ * Wallet entries chain per wallet. System account entries chain per account, currency and one
+ * of {@code ledger-chain.system-partitions} partitions picked from the transaction id, so busy
+ * system accounts are not serialized behind a single chain head.
+ */
+@Service
+public class LedgerChainService {
+
+    private static final String WALLET_CHAIN = "wallet:";
+
+    private final LedgerChainHeadRepository chainHeadRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate createHead;
+    private final int systemPartitions;
+
+    public LedgerChainService(LedgerChainHeadRepository chainHeadRepository, EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${ledger-chain.system-partitions:8}") int systemPartitions) {
+        this.chainHeadRepository = chainHeadRepository;
+        this.entityManager = entityManager;
+        this.createHead = new TransactionTemplate(transactionManager);
+        this.createHead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.systemPartitions = systemPartitions;
+    }
+
+    public static String walletChain(UUID walletId) {
+        return WALLET_CHAIN + walletId;
+    }
+
+    /**
+     * Seal the entries onto the heads of their chains. Must run in the posting transaction:
+     * the heads stay locked until it commits.
+     */
+    public void link(Transaction transaction, List<LedgerEntry> entries) {
+        Set<String> keys = new TreeSet<>();
+        for (LedgerEntry entry : entries) {
+            keys.add(chainKey(transaction, entry));
+        }
+        Map<String, LedgerChainHead> heads = lockHeads(keys);
+        for (LedgerEntry entry : entries) {
+            heads.get(chainKey(transaction, entry)).append(entry, LocalDateTime.now());
+        }
+    }
+
+    private Map<String, LedgerChainHead> lockHeads(Set<String> keys) {
+        List<LedgerChainHead> heads = chainHeadRepository.findAllByChainKeyInWithLock(keys);
+        if (heads.size() < keys.size()) {
+            Set<String> found = heads.stream().map(LedgerChainHead::getChainKey).collect(Collectors.toSet());
+            for (String key : keys) {
+                if (!found.contains(key)) {
+                    createQuietly(key);
+                }
+            }
+            heads = chainHeadRepository.findAllByChainKeyInWithLock(keys);
+        }
+        return heads.stream().collect(Collectors.toMap(LedgerChainHead::getChainKey, Function.identity()));
+    }
+
+    // Persist, never merge: a concurrent first posting may already have created and advanced the head
+    private void createQuietly(String key) {
+        try {
+            createHead.executeWithoutResult(status -> {
+                entityManager.persist(new LedgerChainHead(key));
+                entityManager.flush();
+            });
+        } catch (DataIntegrityViolationException | PersistenceException e) {
+            // already created
+        }
+    }
+
+    private String chainKey(Transaction transaction, LedgerEntry entry) {
+        if (entry.getWallet() != null) {
+            return walletChain(entry.getWallet().getId());
+        }
+        int partition = Math.floorMod(transaction.getId().hashCode(), systemPartitions);
+        return entry.getAccountType() + ":" + entry.getCurrency() + ":" + partition;
+    }
+}
@@ -0,0 +1,84 @@
+package com.walletplatform.ledger.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletplatform.ledger.domain.LedgerRecord;
+import com.walletplatform.ledger.infrastructure.ArchivedLedgerEntryRepository;
+import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.shared.export.ExportFormat;
+import com.walletplatform.shared.export.ExportWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams a wallet's ledger entries straight from a database cursor to the client.
+ */
+@Service
+public class LedgerExportService {
+
+    private static final int DETACH_EVERY_ROWS = 500;
+
+    private static final String[] COLUMNS = {
+        "id", "transactionId", "walletId", "accountType", "entryType", "amount", "currency",
+        "description", "createdAt"
+    };
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ArchivedLedgerEntryRepository archivedLedgerEntryRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public LedgerExportService(LedgerEntryRepository ledgerEntryRepository,
+                               ArchivedLedgerEntryRepository archivedLedgerEntryRepository,
+                               EntityManager entityManager, ObjectMapper objectMapper) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.archivedLedgerEntryRepository = archivedLedgerEntryRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write every ledger entry of a wallet to {@code out}, oldest first: archived periods,
+     * then the open period. Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportWalletLedger(UUID walletId, ExportFormat format, OutputStream out) throws IOException {
+        try (ExportWriter writer = new ExportWriter(out, format, objectMapper, COLUMNS)) {
+            try (Stream<? extends LedgerRecord> archived = archivedLedgerEntryRepository.streamByWalletId(walletId)) {
+                writeAll(archived.iterator(), writer);
+            }
+            try (Stream<? extends LedgerRecord> live = ledgerEntryRepository.streamByWalletId(walletId)) {
+                writeAll(live.iterator(), writer);
+            }
+            return writer.getRowCount();
+        }
+    }
+
+    private void writeAll(Iterator<? extends LedgerRecord> entries, ExportWriter writer) throws IOException {
+        while (entries.hasNext()) {
+            LedgerRecord entry = entries.next();
+            writer.writeRow(
+                entry.getId(),
+                entry.getTransactionId(),
+                entry.getWalletId(),
+                entry.getAccountType().name(),
+                entry.getEntryType().name(),
+                entry.getAmount(),
+                entry.getCurrency().name(),
+                entry.getDescription(),
+                entry.getCreatedAt()
+            );
+
+            // Rows already written must not pile up in the persistence context
+            if (writer.getRowCount() % DETACH_EVERY_ROWS == 0) {
+                entityManager.clear();
+            }
+        }
+    }
+}
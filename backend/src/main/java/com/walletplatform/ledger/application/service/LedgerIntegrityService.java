@@ -0,0 +1,382 @@
+package com.walletplatform.ledger.application.service;
+
+import com.walletplatform.ledger.domain.AccountingPeriod;
+import com.walletplatform.ledger.domain.ArchivedLedgerEntry;
+import com.walletplatform.ledger.domain.LedgerChainCheckpoint;
+import com.walletplatform.ledger.domain.LedgerHash;
+import com.walletplatform.ledger.domain.LedgerRecord;
+import com.walletplatform.ledger.domain.PeriodChainHead;
+import com.walletplatform.ledger.infrastructure.ArchivedLedgerEntryRepository;
+import com.walletplatform.ledger.infrastructure.LedgerChainCheckpointRepository;
+import com.walletplatform.ledger.infrastructure.LedgerChainHeadRepository;
+import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.ledger.infrastructure.PeriodChainHeadRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Stream;
+
+/**
+ * Tamper evidence for the ledger hash chains.
+ *
+ * Each pass rehashes only the entries past each chain's verification checkpoint, a page of
+ * {@code ledger-integrity.page-size} entries at a time, and moves the checkpoint forward after
+ * every intact page, so the cost follows new postings rather than total history. Entries behind
+ * a checkpoint are not looked at again until their period is closed: the close rehashes every
+ * archived entry of the period and refuses to seal if one fails. The seal freezes every chain
+ * head into a Merkle tree whose root is kept on the period, which lets one wallet's history be
+ * proven against that root with a sibling path of O(log n) hashes.
+ */
+@Service
+public class LedgerIntegrityService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerIntegrityService.class);
+
+    private static final int RECENT_VIOLATIONS = 100;
+
+    private final LedgerChainHeadRepository chainHeadRepository;
+    private final LedgerChainCheckpointRepository checkpointRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ArchivedLedgerEntryRepository archivedLedgerEntryRepository;
+    private final PeriodChainHeadRepository periodChainHeadRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate chainTransaction;
+    private final int batchSize;
+    private final int pageSize;
+    private final Deque<Violation> recentViolations = new ConcurrentLinkedDeque<>();
+    private final Counter rehashed;
+    private final Counter violations;
+
+    private volatile VerificationResult lastResult;
+
+    public LedgerIntegrityService(LedgerChainHeadRepository chainHeadRepository,
+                                  LedgerChainCheckpointRepository checkpointRepository,
+                                  LedgerEntryRepository ledgerEntryRepository,
+                                  ArchivedLedgerEntryRepository archivedLedgerEntryRepository,
+                                  PeriodChainHeadRepository periodChainHeadRepository,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry registry,
+                                  @Value("${ledger-integrity.batch-size:500}") int batchSize,
+                                  @Value("${ledger-integrity.page-size:1000}") int pageSize) {
+        this.chainHeadRepository = chainHeadRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.archivedLedgerEntryRepository = archivedLedgerEntryRepository;
+        this.periodChainHeadRepository = periodChainHeadRepository;
+        this.entityManager = entityManager;
+        this.chainTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pageSize = pageSize;
+        this.rehashed = Counter.builder("ledger.integrity.rehashed")
+            .description("Ledger entries rehashed by incremental chain verification")
+            .register(registry);
+        this.violations = Counter.builder("ledger.integrity.violations")
+            .description("Hash chain breaks found by verification")
+            .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${ledger-integrity.interval-ms:60000}")
+    public void scheduledVerification() {
+        verifyIncremental();
+    }
+
+    /**
+     * Verify every chain that has grown since its checkpoint.
+     */
+    public VerificationResult verifyIncremental() {
+        long started = System.currentTimeMillis();
+        int chains = 0;
+        long entries = 0;
+        List<Violation> found = new ArrayList<>();
+
+        String after = "";
+        List<String> keys;
+        do {
+            keys = chainHeadRepository.findChainsAheadOfCheckpoint(after, PageRequest.of(0, batchSize));
+            for (String key : keys) {
+                ChainResult result = verifyChain(key);
+                chains++;
+                entries += result.rehashed();
+                result.violation().ifPresent(found::add);
+            }
+            if (!keys.isEmpty()) {
+                after = keys.get(keys.size() - 1);
+            }
+        } while (keys.size() == batchSize);
+
+        VerificationResult result = new VerificationResult(chains, entries, found,
+            System.currentTimeMillis() - started, Instant.now());
+        lastResult = result;
+        if (chains > 0) {
+            log.info("Ledger integrity pass rehashed {} entries on {} chains, {} violations",
+                entries, chains, found.size());
+        }
+        return result;
+    }
+
+    public VerificationResult getLastResult() {
+        return lastResult;
+    }
+
+    public long getPendingChains() {
+        return chainHeadRepository.countChainsAheadOfCheckpoint();
+    }
+
+    public List<Violation> getRecentViolations() {
+        return List.copyOf(recentViolations);
+    }
+
+    /**
+     * Freeze every chain head at the period boundary into the period's Merkle tree.
+     * Runs inside the close, after the period's entries have been archived. Every archived
+     * entry is rehashed on the way, continuing from the chain's head at the previous close.
+     *
+     * @return the Merkle root
+     * @throws IllegalStateException if an archived entry fails verification
+     */
+    public String sealPeriod(AccountingPeriod period, Optional<AccountingPeriod> previous) {
+        Map<String, PeriodChainHead> heads = new LinkedHashMap<>();
+        previous.ifPresent(p -> periodChainHeadRepository.findByPeriodId(p.getId()).forEach(h ->
+            heads.put(h.getChainKey(), new PeriodChainHead(period.getId(), h.getChainKey(), h.getSequence(), h.getHeadHash()))));
+
+        long rehashedEntries = 0;
+        try (Stream<ArchivedLedgerEntry> archived = archivedLedgerEntryRepository.streamPeriodChains(period.getId())) {
+            Iterator<ArchivedLedgerEntry> entries = archived.iterator();
+            while (entries.hasNext()) {
+                ArchivedLedgerEntry entry = entries.next();
+                PeriodChainHead head = heads.get(entry.getChainKey());
+                long expectedSequence = head != null ? head.getSequence() + 1 : 1;
+                String previousHash = head != null ? head.getHeadHash() : LedgerHash.GENESIS;
+                Optional<String> error = check(entry, expectedSequence, previousHash);
+                if (error.isPresent()) {
+                    record(new Violation(entry.getChainKey(), entry.getChainSequence(), entry.getId(),
+                        error.get(), Instant.now()));
+                    throw new IllegalStateException("Archived ledger entry " + entry.getId() + " in chain "
+                        + entry.getChainKey() + " failed verification (" + error.get() + "); period not sealed");
+                }
+                heads.put(entry.getChainKey(), new PeriodChainHead(period.getId(), entry.getChainKey(),
+                    entry.getChainSequence(), entry.getEntryHash()));
+                entityManager.detach(entry);
+                rehashedEntries++;
+            }
+        }
+        rehashed.increment(rehashedEntries);
+
+        periodChainHeadRepository.saveAll(heads.values());
+        return LedgerHash.merkleRoot(leaves(new ArrayList<>(heads.values())));
+    }
+
+    /**
+     * Prove one wallet's history as of a closed period: rehash the wallet's chain up to the
+     * period's head for it, then fold that head up to the period root along its sibling path.
+     */
+    public Optional<WalletProof> proveWallet(AccountingPeriod period, UUID walletId) {
+        List<PeriodChainHead> heads = sorted(periodChainHeadRepository.findByPeriodId(period.getId()));
+        String chainKey = LedgerChainService.walletChain(walletId);
+        int index = -1;
+        for (int i = 0; i < heads.size(); i++) {
+            if (heads.get(i).getChainKey().equals(chainKey)) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return Optional.empty();
+        }
+        PeriodChainHead head = heads.get(index);
+        List<String> leaves = leaves(heads);
+        List<LedgerHash.ProofStep> path = LedgerHash.merkleProof(leaves, index);
+        String provenRoot = LedgerHash.rootFromProof(head.leafHash(), path);
+
+        long sequence = 0;
+        String hash = LedgerHash.GENESIS;
+        boolean intact = true;
+        while (intact && sequence < head.getSequence()) {
+            List<LedgerRecord> page = new ArrayList<>(
+                archivedLedgerEntryRepository.findChainAfter(chainKey, sequence, PageRequest.of(0, pageSize)));
+            long through = head.getSequence();
+            page.removeIf(entry -> entry.getChainSequence() > through);
+            if (page.isEmpty()) {
+                break;
+            }
+            intact = walk(page, sequence, hash).error().isEmpty();
+            LedgerRecord last = page.get(page.size() - 1);
+            sequence = last.getChainSequence();
+            hash = last.getEntryHash();
+            page.forEach(entityManager::detach);
+        }
+        boolean historyMatchesHead = intact && sequence == head.getSequence() && hash.equals(head.getHeadHash());
+
+        return Optional.of(new WalletProof(walletId, period.getId(), chainKey, head.getSequence(),
+            head.getHeadHash(), head.leafHash(), path, period.getMerkleRoot(),
+            provenRoot.equals(period.getMerkleRoot()), historyMatchesHead));
+    }
+
+    /**
+     * Recompute a period's root from its stored chain heads.
+     */
+    public boolean verifyPeriodRoot(AccountingPeriod period) {
+        String root = LedgerHash.merkleRoot(leaves(sorted(periodChainHeadRepository.findByPeriodId(period.getId()))));
+        return root.equals(period.getMerkleRoot());
+    }
+
+    /**
+     * Rehash a chain past its checkpoint page by page; each intact page moves the checkpoint
+     * in its own transaction, so a long backlog neither sits in memory nor is rehashed twice.
+     */
+    private ChainResult verifyChain(String chainKey) {
+        int verified = 0;
+        while (true) {
+            PageResult page = chainTransaction.execute(status -> verifyPage(chainKey));
+            verified += page.verified();
+            if (page.violation().isPresent() || !page.full()) {
+                return new ChainResult(verified, page.violation());
+            }
+        }
+    }
+
+    private PageResult verifyPage(String chainKey) {
+        LedgerChainCheckpoint checkpoint = checkpointRepository.findById(chainKey)
+            .orElseGet(() -> new LedgerChainCheckpoint(chainKey));
+
+        // Archived entries are older than live ones, so the live page continues the archived one
+        List<LedgerRecord> entries = new ArrayList<>(archivedLedgerEntryRepository.findChainAfter(
+            chainKey, checkpoint.getSequence(), PageRequest.of(0, pageSize)));
+        if (entries.size() < pageSize) {
+            entries.addAll(ledgerEntryRepository.findChainAfter(
+                chainKey, checkpoint.getSequence(), PageRequest.of(0, pageSize - entries.size())));
+        }
+
+        Walk walk = walk(entries, checkpoint.getSequence(), checkpoint.getHash());
+        rehashed.increment(walk.verified());
+        if (walk.verified() > 0) {
+            LedgerRecord last = entries.get(walk.verified() - 1);
+            checkpoint.advanceTo(last.getChainSequence(), last.getEntryHash());
+            checkpointRepository.save(checkpoint);
+        }
+        Optional<Violation> violation = walk.error().map(reason -> {
+            LedgerRecord broken = entries.get(walk.verified());
+            return record(new Violation(chainKey, broken.getChainSequence(), broken.getId(), reason, Instant.now()));
+        });
+        // Pages of a close's pass share its persistence context
+        entries.forEach(entityManager::detach);
+        return new PageResult(walk.verified(), violation, entries.size() == pageSize);
+    }
+
+    /**
+     * Check sequence, link and content hash of each entry in turn; stops at the first break.
+     */
+    private Walk walk(List<LedgerRecord> entries, long afterSequence, String afterHash) {
+        long expectedSequence = afterSequence + 1;
+        String previousHash = afterHash;
+        int verified = 0;
+        for (LedgerRecord entry : entries) {
+            Optional<String> error = check(entry, expectedSequence, previousHash);
+            if (error.isPresent()) {
+                return new Walk(verified, error);
+            }
+            previousHash = entry.getEntryHash();
+            expectedSequence++;
+            verified++;
+        }
+        return new Walk(verified, Optional.empty());
+    }
+
+    private static Optional<String> check(LedgerRecord entry, long expectedSequence, String previousHash) {
+        if (entry.getChainSequence() != expectedSequence) {
+            return Optional.of("expected sequence " + expectedSequence);
+        }
+        if (!entry.getPreviousHash().equals(previousHash)) {
+            return Optional.of("previous hash does not match");
+        }
+        if (!LedgerHash.of(entry).equals(entry.getEntryHash())) {
+            return Optional.of("content does not match entry hash");
+        }
+        return Optional.empty();
+    }
+
+    private Violation record(Violation violation) {
+        boolean known = recentViolations.stream().anyMatch(v ->
+            v.chainKey().equals(violation.chainKey()) && v.sequence() == violation.sequence());
+        if (!known) {
+            violations.increment();
+            log.error("LEDGER HASH CHAIN BROKEN chain={} sequence={} entry={} reason={}",
+                violation.chainKey(), violation.sequence(), violation.entryId(), violation.reason());
+            recentViolations.addFirst(violation);
+            while (recentViolations.size() > RECENT_VIOLATIONS) {
+                recentViolations.pollLast();
+            }
+        }
+        return violation;
+    }
+
+    // Leaf order is chain key order, fixed in Java so it never depends on database collation
+    private static List<PeriodChainHead> sorted(List<PeriodChainHead> heads) {
+        heads.sort(Comparator.comparing(PeriodChainHead::getChainKey));
+        return heads;
+    }
+
+    private static List<String> leaves(List<PeriodChainHead> heads) {
+        return sorted(heads).stream().map(PeriodChainHead::leafHash).toList();
+    }
+
+    private record Walk(int verified, Optional<String> error) {}
+
+    private record ChainResult(int rehashed, Optional<Violation> violation) {}
+
+    private record PageResult(int verified, Optional<Violation> violation, boolean full) {}
+
+    public record Violation(
+        String chainKey,
+        long sequence,
+        UUID entryId,
+        String reason,
+        Instant detectedAt
+    ) {}
+
+    public record VerificationResult(
+        int chainsVerified,
+        long entriesRehashed,
+        List<Violation> violations,
+        long durationMs,
+        Instant completedAt
+    ) {
+        public boolean intact() {
+            return violations.isEmpty();
+        }
+    }
+
+    public record WalletProof(
+        UUID walletId,
+        UUID periodId,
+        String chainKey,
+        long sequence,
+        String headHash,
+        String leafHash,
+        List<LedgerHash.ProofStep> path,
+        String merkleRoot,
+        boolean includedInRoot,
+        boolean historyMatchesHead
+    ) {}
+}
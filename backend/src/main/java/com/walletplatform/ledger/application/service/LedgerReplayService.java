@@ -0,0 +1,301 @@
+package com.walletplatform.ledger.application.service;
+
+import com.walletplatform.wallet.application.service.WalletViewProjector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rebuilds every wallet's cached balance and today's spending by replaying the ledger.
+ *
+ * Wallets are split into id ranges of {@code ledger-replay.partition-size}; each range is
+ * replayed on a fork/join pool by streaming its ledger entries in wallet order and folding
+ * them into per-wallet totals. Only wallets whose cached values differ are written back, in
+ * JDBC batches. The ledger stays the source of truth, so a replay is safe to repeat.
+ *
+ * Writes are guarded by the wallet version read before the ledger scan. A wallet that a live
+ * posting changed in the meantime matches nothing and is replayed again, up to
+ * {@value #MAX_ATTEMPTS} times, so a replay never overwrites a newer balance.
+ */
+@Service
+public class LedgerReplayService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerReplayService.class);
+    private static final int MAX_ATTEMPTS = 3;
+
+    // Closed periods enter the replay as the wallet's closing balance of the latest period
+    private static final String WALLETS_IN_RANGE =
+        "SELECT w.id, w.balance, w.spent_today, w.last_spending_reset_date, c.balance, w.version " +
+        "FROM wallets w LEFT JOIN closing_balances c ON c.wallet_id = w.id AND c.period_id = ? " +
+        "WHERE w.id BETWEEN ? AND ?";
+
+    private static final String LATEST_PERIOD =
+        "SELECT id FROM accounting_periods ORDER BY closed_through DESC LIMIT 1";
+
+    // Wallet order keeps the scan walking idx_ledger_wallet
+    private static final String ENTRIES_IN_RANGE =
+        "SELECT e.wallet_id, e.entry_type, e.amount, e.created_at, t.type " +
+        "FROM ledger_entries e JOIN transactions t ON t.id = e.transaction_id " +
+        "WHERE e.wallet_id BETWEEN ? AND ? ORDER BY e.wallet_id";
+
+    private static final String UPDATE_WALLET =
+        "UPDATE wallets SET balance = ?, spent_today = ?, last_spending_reset_date = ?, " +
+        "updated_at = ?, version = version + 1 WHERE id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate writeBatch;
+    private final WalletViewProjector walletViewProjector;
+    private final Timer replayTimer;
+    private final int parallelism;
+    private final int partitionSize;
+    private final int writeBatchSize;
+    private final boolean replayOnStartup;
+
+    public LedgerReplayService(DataSource dataSource,
+                               PlatformTransactionManager transactionManager,
+                               WalletViewProjector walletViewProjector,
+                               MeterRegistry registry,
+                               @Value("${ledger-replay.parallelism:0}") int parallelism,
+                               @Value("${ledger-replay.partition-size:1000}") int partitionSize,
+                               @Value("${ledger-replay.fetch-size:5000}") int fetchSize,
+                               @Value("${ledger-replay.write-batch-size:500}") int writeBatchSize,
+                               @Value("${ledger-replay.on-startup:false}") boolean replayOnStartup) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.writeBatch = new TransactionTemplate(transactionManager);
+        this.writeBatch.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.walletViewProjector = walletViewProjector;
+        this.replayTimer = Timer.builder("ledger.replay")
+            .description("Full ledger replays")
+            .register(registry);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.partitionSize = partitionSize;
+        this.writeBatchSize = writeBatchSize;
+        this.replayOnStartup = replayOnStartup;
+    }
+
+    /**
+     * Replay once the application is up, after a restore, when {@code ledger-replay.on-startup} is set.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replayOnStartup() {
+        if (replayOnStartup) {
+            replay(true);
+        }
+    }
+
+    /**
+     * Replay the whole ledger into the wallets table.
+     *
+     * @param rebuildViews also rebuild the wallet read model afterwards
+     */
+    public ReplayResult replay(boolean rebuildViews) {
+        long started = System.nanoTime();
+        LocalDate today = LocalDate.now();
+
+        List<UUID> walletIds = jdbcTemplate.queryForList("SELECT id FROM wallets ORDER BY id", UUID.class);
+        UUID periodId = jdbcTemplate.queryForList(LATEST_PERIOD, UUID.class).stream().findFirst().orElse(null);
+        List<List<UUID>> partitions = new ArrayList<>();
+        for (int from = 0; from < walletIds.size(); from += partitionSize) {
+            partitions.add(walletIds.subList(from, Math.min(from + partitionSize, walletIds.size())));
+        }
+
+        AtomicLong entries = new AtomicLong();
+        int corrected;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            corrected = partitions.isEmpty() ? 0 : pool.invoke(new PartitionTask(partitions, periodId, today, entries));
+        } finally {
+            pool.shutdown();
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        replayTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        ReplayResult result = new ReplayResult(walletIds.size(), entries.get(), corrected,
+            partitions.size(), elapsedNanos / 1_000_000);
+        log.info("Replayed {} ledger entries into {} wallets ({} corrected) in {} ms",
+            result.entries(), result.wallets(), result.walletsCorrected(), result.durationMs());
+
+        if (rebuildViews) {
+            walletViewProjector.rebuild();
+        }
+        return result;
+    }
+
+    /**
+     * Splits the partition list in half until a single partition is left, then replays it.
+     */
+    private class PartitionTask extends RecursiveTask<Integer> {
+
+        private final List<List<UUID>> partitions;
+        private final UUID periodId;
+        private final LocalDate today;
+        private final AtomicLong entries;
+
+        PartitionTask(List<List<UUID>> partitions, UUID periodId, LocalDate today, AtomicLong entries) {
+            this.partitions = partitions;
+            this.periodId = periodId;
+            this.today = today;
+            this.entries = entries;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (partitions.size() == 1) {
+                return replayPartition(partitions.get(0), periodId, today, entries);
+            }
+            int middle = partitions.size() / 2;
+            PartitionTask left = new PartitionTask(partitions.subList(0, middle), periodId, today, entries);
+            PartitionTask right = new PartitionTask(partitions.subList(middle, partitions.size()), periodId, today, entries);
+            left.fork();
+            return right.compute() + left.join();
+        }
+    }
+
+    private int replayPartition(List<UUID> walletIds, UUID periodId, LocalDate today, AtomicLong entries) {
+        int corrected = 0;
+        List<UUID> pending = walletIds;
+        for (int attempt = 1; ; attempt++) {
+            List<UUID> changed = new ArrayList<>();
+            corrected += replayWallets(pending, periodId, today, entries, changed);
+            if (changed.isEmpty()) {
+                return corrected;
+            }
+            if (attempt == MAX_ATTEMPTS) {
+                // Their last writer refreshed them from the ledger, which is what the replay would do
+                log.warn("{} wallets kept changing during the replay and were left as last written", changed.size());
+                return corrected;
+            }
+            // Keep the partition's database order: first and last bound the BETWEEN queries, and
+            // UUID.compareTo (signed) would put them the wrong way round for ids across the sign bit
+            Set<UUID> retry = new HashSet<>(changed);
+            pending = walletIds.stream().filter(retry::contains).toList();
+        }
+    }
+
+    /**
+     * Replays the given wallets (in the database's id order) and returns how many were corrected.
+     * Wallets whose version moved since they were read are added to {@code changed}.
+     */
+    private int replayWallets(List<UUID> walletIds, UUID periodId, LocalDate today, AtomicLong entries,
+                              List<UUID> changed) {
+        UUID first = walletIds.get(0);
+        UUID last = walletIds.get(walletIds.size() - 1);
+        Set<UUID> wanted = new HashSet<>(walletIds);
+        Timestamp startOfDay = Timestamp.valueOf(today.atStartOfDay());
+
+        Map<UUID, WalletTotals> totals = new HashMap<>(walletIds.size() * 2);
+        jdbcTemplate.query(WALLETS_IN_RANGE, rs -> {
+            UUID walletId = rs.getObject(1, UUID.class);
+            if (!wanted.contains(walletId)) {
+                return; // created after the id snapshot, or not being retried
+            }
+            Date resetDate = rs.getDate(4);
+            BigDecimal opening = rs.getBigDecimal(5);
+            totals.put(walletId, new WalletTotals(
+                rs.getBigDecimal(2), rs.getBigDecimal(3), resetDate != null ? resetDate.toLocalDate() : null,
+                opening != null ? opening : BigDecimal.ZERO, rs.getLong(6)));
+        }, periodId, first, last);
+
+        jdbcTemplate.query(ENTRIES_IN_RANGE, rs -> {
+            UUID walletId = rs.getObject(1, UUID.class);
+            WalletTotals wallet = totals.get(walletId);
+            if (wallet == null) {
+                return;
+            }
+            boolean debit = "DEBIT".equals(rs.getString(2));
+            BigDecimal amount = rs.getBigDecimal(3);
+            wallet.balance = debit ? wallet.balance.subtract(amount) : wallet.balance.add(amount);
+
+            // Mirrors Wallet.recordSpending: only transfers out of the wallet use the daily limit
+            if (debit && "TRANSFER".equals(rs.getString(5)) && !rs.getTimestamp(4).before(startOfDay)) {
+                wallet.spentToday = wallet.spentToday.add(amount);
+            }
+            entries.incrementAndGet();
+        }, first, last);
+
+        List<Object[]> updates = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (Map.Entry<UUID, WalletTotals> entry : totals.entrySet()) {
+            WalletTotals wallet = entry.getValue();
+            BigDecimal balance = wallet.balance.setScale(2, RoundingMode.HALF_EVEN);
+            BigDecimal spentToday = wallet.spentToday.max(BigDecimal.ZERO).setScale(2, RoundingMode.HALF_EVEN);
+            if (balance.compareTo(wallet.cachedBalance) != 0
+                    || spentToday.compareTo(wallet.cachedSpentToday(today)) != 0) {
+                updates.add(new Object[] {
+                    balance, spentToday, Date.valueOf(today), now, entry.getKey(), wallet.version });
+            }
+        }
+        int corrected = 0;
+        for (int from = 0; from < updates.size(); from += writeBatchSize) {
+            List<Object[]> batch = updates.subList(from, Math.min(from + writeBatchSize, updates.size()));
+            int[] counts = writeBatch.execute(status -> jdbcTemplate.batchUpdate(UPDATE_WALLET, batch));
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    changed.add((UUID) batch.get(i)[4]);
+                } else {
+                    corrected++;
+                }
+            }
+        }
+        return corrected;
+    }
+
+    private static final class WalletTotals {
+        final BigDecimal cachedBalance;
+        final BigDecimal cachedSpentToday;
+        final LocalDate cachedResetDate;
+        final long version;
+        BigDecimal balance;
+        BigDecimal spentToday = BigDecimal.ZERO;
+
+        WalletTotals(BigDecimal cachedBalance, BigDecimal cachedSpentToday, LocalDate cachedResetDate,
+                     BigDecimal openingBalance, long version) {
+            this.cachedBalance = cachedBalance;
+            this.cachedSpentToday = cachedSpentToday;
+            this.cachedResetDate = cachedResetDate;
+            this.balance = openingBalance;
+            this.version = version;
+        }
+
+        BigDecimal cachedSpentToday(LocalDate today) {
+            return today.equals(cachedResetDate) ? cachedSpentToday : BigDecimal.ZERO;
+        }
+    }
+
+    public record ReplayResult(
+        int wallets,
+        long entries,
+        int walletsCorrected,
+        int partitions,
+        long durationMs
+    ) {}
+}
@@ -1,16 +1,28 @@
 package com.walletplatform.ledger.application.service;
 
 import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Money;
+import com.walletplatform.ledger.domain.ArchivedLedgerEntry;
+import com.walletplatform.ledger.domain.EntryType;
 import com.walletplatform.ledger.domain.LedgerEntry;
+import com.walletplatform.ledger.domain.LedgerRecord;
+import com.walletplatform.ledger.infrastructure.ArchivedLedgerEntryRepository;
+import com.walletplatform.ledger.infrastructure.ClosingBalanceRepository;
 import com.walletplatform.transaction.domain.Transaction;
 import com.walletplatform.wallet.domain.Wallet;
 import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.shared.event.DomainEventPublisher;
+import com.walletplatform.shared.event.LedgerEntriesCreatedEvent;
+import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,9 +36,23 @@ import java.util.UUID;
 public class LedgerService {
 
     private final LedgerEntryRepository ledgerEntryRepository;
-
-    public LedgerService(LedgerEntryRepository ledgerEntryRepository) {
+    private final ArchivedLedgerEntryRepository archivedLedgerEntryRepository;
+    private final ClosingBalanceRepository closingBalanceRepository;
+    private final LedgerChainService ledgerChainService;
+    private final DomainEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    public LedgerService(LedgerEntryRepository ledgerEntryRepository,
+                         ArchivedLedgerEntryRepository archivedLedgerEntryRepository,
+                         ClosingBalanceRepository closingBalanceRepository,
+                         LedgerChainService ledgerChainService,
+                         DomainEventPublisher eventPublisher, EntityManager entityManager) {
         this.ledgerEntryRepository = ledgerEntryRepository;
+        this.archivedLedgerEntryRepository = archivedLedgerEntryRepository;
+        this.closingBalanceRepository = closingBalanceRepository;
+        this.ledgerChainService = ledgerChainService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -35,12 +61,12 @@ public class LedgerService {
      * CREDIT: WALLET (wallet funded)
      */
     @Transactional
-    public List<LedgerEntry> recordTopUp(Transaction transaction, Wallet wallet, BigDecimal amount) {
+    public List<LedgerEntry> recordTopUp(Transaction transaction, Wallet wallet, Money amount) {
         List<LedgerEntry> entries = List.of(
-            LedgerEntry.debitSystemCash(transaction, amount, wallet.getCurrency(), "Cash received for top-up"),
+            LedgerEntry.debitSystemCash(transaction, amount, "Cash received for top-up"),
             LedgerEntry.creditWallet(transaction, wallet, amount, "Wallet funded")
         );
-        return ledgerEntryRepository.saveAll(entries);
+        return post(transaction, entries);
     }
 
     /**
@@ -49,12 +75,12 @@ public class LedgerService {
      * CREDIT: SYSTEM_CASH (cash paid out)
      */
     @Transactional
-    public List<LedgerEntry> recordWithdrawal(Transaction transaction, Wallet wallet, BigDecimal amount) {
+    public List<LedgerEntry> recordWithdrawal(Transaction transaction, Wallet wallet, Money amount) {
         List<LedgerEntry> entries = List.of(
             LedgerEntry.debitWallet(transaction, wallet, amount, "Withdrawal"),
-            LedgerEntry.creditSystemCash(transaction, amount, wallet.getCurrency(), "Cash paid out")
+            LedgerEntry.creditSystemCash(transaction, amount, "Cash paid out")
         );
-        return ledgerEntryRepository.saveAll(entries);
+        return post(transaction, entries);
     }
 
     /**
@@ -66,12 +92,12 @@ public class LedgerService {
     public List<LedgerEntry> recordSameCurrencyTransfer(Transaction transaction, 
                                                          Wallet sourceWallet, 
                                                          Wallet targetWallet, 
-                                                         BigDecimal amount) {
+                                                         Money amount) {
         List<LedgerEntry> entries = List.of(
             LedgerEntry.debitWallet(transaction, sourceWallet, amount, "Transfer out"),
             LedgerEntry.creditWallet(transaction, targetWallet, amount, "Transfer in")
         );
-        return ledgerEntryRepository.saveAll(entries);
+        return post(transaction, entries);
     }
 
     /**
@@ -87,39 +113,88 @@ public class LedgerService {
     public List<LedgerEntry> recordCrossCurrencyTransfer(Transaction transaction,
                                                           Wallet sourceWallet,
                                                           Wallet targetWallet,
-                                                          BigDecimal sourceAmount,
-                                                          BigDecimal targetAmount) {
+                                                          Money sourceAmount,
+                                                          Money targetAmount) {
         List<LedgerEntry> entries = List.of(
             LedgerEntry.debitWallet(transaction, sourceWallet, sourceAmount, "Transfer out (FX)"),
-            LedgerEntry.creditExchange(transaction, sourceAmount, sourceWallet.getCurrency(), "FX: received source currency"),
-            LedgerEntry.debitExchange(transaction, targetAmount, targetWallet.getCurrency(), "FX: released target currency"),
+            LedgerEntry.creditExchange(transaction, sourceAmount, "FX: received source currency"),
+            LedgerEntry.debitExchange(transaction, targetAmount, "FX: released target currency"),
             LedgerEntry.creditWallet(transaction, targetWallet, targetAmount, "Transfer in (FX)")
         );
-        return ledgerEntryRepository.saveAll(entries);
+        return post(transaction, entries);
+    }
+
+    /**
+     * Chain, persist and announce entries so read models can follow the ledger.
+     * Entries are append-only, so they go out as one JDBC batch without entering the persistence context.
+     */
+    private List<LedgerEntry> post(Transaction transaction, List<LedgerEntry> entries) {
+        ledgerChainService.link(transaction, entries);
+        ledgerEntryRepository.insertAll(entries);
+        BigDecimal debitTotal = entries.stream()
+            .filter(e -> e.getEntryType() == EntryType.DEBIT)
+            .map(LedgerEntry::getAmount)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<UUID> walletIds = entries.stream()
+            .filter(e -> e.getWallet() != null)
+            .map(e -> e.getWallet().getId())
+            .distinct()
+            .toList();
+        eventPublisher.publish(new LedgerEntriesCreatedEvent(
+            transaction.getId(), transaction.getId(), entries.size(), debitTotal,
+            transaction.getType().name(), walletIds));
+        return entries;
     }
 
+    /**
+     * Newest-first ledger history of a wallet. Archived entries are all older than live ones,
+     * so a page continues from the live table into the archive.
+     */
     @Transactional(readOnly = true)
-    public Page<LedgerEntry> getWalletLedger(UUID walletId, Pageable pageable) {
-        return ledgerEntryRepository.findByWalletIdOrderByCreatedAtDesc(walletId, pageable);
+    public Page<LedgerRecord> getWalletLedger(UUID walletId, Pageable pageable) {
+        Page<LedgerEntry> live = ledgerEntryRepository.findByWalletIdOrderByCreatedAtDesc(walletId, pageable);
+        List<LedgerRecord> content = new ArrayList<>(live.getContent());
+        long archived = archivedLedgerEntryRepository.countByWalletId(walletId);
+
+        int remaining = pageable.getPageSize() - content.size();
+        if (remaining > 0 && archived > 0) {
+            long archiveOffset = Math.max(0, pageable.getOffset() - live.getTotalElements());
+            content.addAll(entityManager.createQuery(
+                    "SELECT a FROM ArchivedLedgerEntry a WHERE a.walletId = :walletId ORDER BY a.createdAt DESC",
+                    ArchivedLedgerEntry.class)
+                .setParameter("walletId", walletId)
+                .setFirstResult((int) archiveOffset)
+                .setMaxResults(remaining)
+                .getResultList());
+        }
+        return new PageImpl<>(content, pageable, live.getTotalElements() + archived);
     }
 
     @Transactional(readOnly = true)
-    public List<LedgerEntry> getTransactionEntries(UUID transactionId) {
-        return ledgerEntryRepository.findByTransactionId(transactionId);
+    public List<LedgerRecord> getTransactionEntries(UUID transactionId) {
+        List<LedgerRecord> entries = new ArrayList<>(archivedLedgerEntryRepository.findByTransactionIdOrderByCreatedAtAsc(transactionId));
+        entries.addAll(ledgerEntryRepository.findByTransactionId(transactionId));
+        entries.sort(Comparator.comparing(LedgerRecord::getCreatedAt));
+        return entries;
     }
 
     @Transactional(readOnly = true)
     public BigDecimal calculateWalletBalanceFromLedger(UUID walletId) {
+        BigDecimal opening = closingBalanceRepository.findOpeningBalance(walletId);
         BigDecimal credits = ledgerEntryRepository.sumWalletCredits(walletId);
         BigDecimal debits = ledgerEntryRepository.sumWalletDebits(walletId);
-        return credits.subtract(debits);
+        return opening.add(credits).subtract(debits);
     }
 
+    /**
+     * Debits equal credits per currency, counting closed periods through their closing balances.
+     */
     @Transactional(readOnly = true)
     public boolean verifySystemBalance(Currency currency) {
         BigDecimal totalDebits = ledgerEntryRepository.sumDebitsByCurrency(currency);
         BigDecimal totalCredits = ledgerEntryRepository.sumCreditsByCurrency(currency);
-        return totalDebits.compareTo(totalCredits) == 0;
+        BigDecimal closedNet = closingBalanceRepository.sumOpeningBalancesByCurrency(currency);
+        return totalCredits.subtract(totalDebits).add(closedNet).signum() == 0;
     }
 
     @Transactional(readOnly = true)
@@ -130,11 +205,13 @@ public class LedgerService {
         for (Currency currency : Currency.values()) {
             BigDecimal debits = ledgerEntryRepository.sumDebitsByCurrency(currency);
             BigDecimal credits = ledgerEntryRepository.sumCreditsByCurrency(currency);
-            boolean balanced = debits.compareTo(credits) == 0;
+            BigDecimal closedNet = closingBalanceRepository.sumOpeningBalancesByCurrency(currency);
+            boolean balanced = credits.subtract(debits).add(closedNet).signum() == 0;
             
             Map<String, Object> currencyStatus = new HashMap<>();
             currencyStatus.put("totalDebits", debits);
             currencyStatus.put("totalCredits", credits);
+            currencyStatus.put("closedPeriodNet", closedNet);
             currencyStatus.put("balanced", balanced);
             
             result.put(currency.name(), currencyStatus);
@@ -143,6 +220,7 @@ public class LedgerService {
 
         result.put("allBalanced", allBalanced);
         result.put("entryCount", ledgerEntryRepository.count());
+        result.put("archivedEntryCount", archivedLedgerEntryRepository.count());
         
         return result;
     }
@@ -0,0 +1,122 @@
+package com.walletplatform.ledger.application.service;
+
+import com.walletplatform.ledger.domain.AccountType;
+import com.walletplatform.ledger.domain.AccountingPeriod;
+import com.walletplatform.ledger.domain.ClosingBalance;
+import com.walletplatform.ledger.infrastructure.AccountingPeriodRepository;
+import com.walletplatform.ledger.infrastructure.ArchivedLedgerEntryRepository;
+import com.walletplatform.ledger.infrastructure.ClosingBalanceRepository;
+import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.wallet.domain.Currency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Closes the ledger up to a boundary.
+ *
+ * Everything created before the boundary is copied to {@code ledger_entries_archive}, every
+ * account's cumulative balance is written to {@code closing_balances}, and the copied rows are
+ * removed from {@code ledger_entries}. Balance and verification queries then start from the
+ * latest closing balances and only sum the open period. The whole close is one transaction.
+ */
+@Service
+public class PeriodCloseService {
+
+    private static final Logger log = LoggerFactory.getLogger(PeriodCloseService.class);
+
+    private final AccountingPeriodRepository periodRepository;
+    private final ClosingBalanceRepository closingBalanceRepository;
+    private final ArchivedLedgerEntryRepository archivedLedgerEntryRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final LedgerIntegrityService ledgerIntegrityService;
+
+    public PeriodCloseService(AccountingPeriodRepository periodRepository,
+                              ClosingBalanceRepository closingBalanceRepository,
+                              ArchivedLedgerEntryRepository archivedLedgerEntryRepository,
+                              LedgerEntryRepository ledgerEntryRepository,
+                              LedgerIntegrityService ledgerIntegrityService) {
+        this.periodRepository = periodRepository;
+        this.closingBalanceRepository = closingBalanceRepository;
+        this.archivedLedgerEntryRepository = archivedLedgerEntryRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.ledgerIntegrityService = ledgerIntegrityService;
+    }
+
+    /**
+     * Close every entry created before {@code closedThrough}.
+     * The boundary must follow the previous close and may not be later than the start of today,
+     * so no in-flight posting can land on the closed side. Every hash chain must verify first;
+     * the period then records the Merkle root of the chain heads at the boundary.
+     */
+    @Transactional
+    public AccountingPeriod close(LocalDateTime closedThrough, UUID adminId) {
+        Optional<AccountingPeriod> previous = periodRepository.findTopByOrderByClosedThroughDesc();
+        LocalDateTime openedAfter = previous.map(AccountingPeriod::getClosedThrough).orElse(null);
+        if (openedAfter != null && !closedThrough.isAfter(openedAfter)) {
+            throw new IllegalArgumentException("Period already closed through " + openedAfter);
+        }
+        if (closedThrough.isAfter(LocalDate.now().atStartOfDay())) {
+            throw new IllegalArgumentException("Periods can only be closed through the start of today or earlier");
+        }
+        if (!ledgerIntegrityService.verifyIncremental().intact()) {
+            throw new IllegalStateException("Ledger hash chains failed verification; period not closed");
+        }
+
+        AccountingPeriod period = periodRepository.saveAndFlush(new AccountingPeriod(openedAfter, closedThrough, adminId));
+        long archived = archivedLedgerEntryRepository.archiveEntriesBefore(period.getId(), closedThrough);
+
+        // Carry every account forward from the previous close, then add this period's movement
+        Map<String, ClosingBalance> closing = new LinkedHashMap<>();
+        previous.ifPresent(p -> closingBalanceRepository.findByPeriodId(p.getId()).forEach(c ->
+            closing.put(key(c.getAccountType(), c.getWalletId(), c.getCurrency()), new ClosingBalance(
+                period.getId(), c.getAccountType(), c.getWalletId(), c.getCurrency(), c.getBalance(), 0))));
+        for (Object[] row : archivedLedgerEntryRepository.sumByAccount(period.getId())) {
+            AccountType accountType = (AccountType) row[0];
+            UUID walletId = (UUID) row[1];
+            Currency currency = (Currency) row[2];
+            BigDecimal net = (BigDecimal) row[3];
+            long count = ((Number) row[4]).longValue();
+            ClosingBalance carried = closing.get(key(accountType, walletId, currency));
+            BigDecimal balance = carried != null ? carried.getBalance().add(net) : net;
+            closing.put(key(accountType, walletId, currency),
+                new ClosingBalance(period.getId(), accountType, walletId, currency, balance, count));
+        }
+        closingBalanceRepository.saveAll(closing.values());
+
+        int deleted = ledgerEntryRepository.deleteArchived(period.getId());
+        if (deleted != archived) {
+            throw new IllegalStateException("Archived " + archived + " ledger entries but removed " + deleted);
+        }
+        String merkleRoot = ledgerIntegrityService.sealPeriod(period, previous);
+        period.recordClose(archived, closing.size(), merkleRoot);
+        periodRepository.save(period);
+        log.info("Closed ledger period through {}: {} entries archived, {} accounts carried forward, root {}",
+            closedThrough, archived, closing.size(), merkleRoot);
+        return period;
+    }
+
+    @Transactional(readOnly = true)
+    public List<AccountingPeriod> getPeriods() {
+        return periodRepository.findAllByOrderByClosedThroughDesc();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<AccountingPeriod> getPeriod(UUID periodId) {
+        return periodRepository.findById(periodId);
+    }
+
+    private static String key(AccountType accountType, UUID walletId, Currency currency) {
+        return accountType + ":" + walletId + ":" + currency;
+    }
+}
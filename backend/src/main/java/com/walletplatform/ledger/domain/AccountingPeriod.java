@@ -0,0 +1,67 @@
+package com.walletplatform.ledger.domain;
+
+import com.walletplatform.shared.infrastructure.id.UuidV7;
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A closed accounting period. Entries created before {@code closedThrough} have been summarized
+ * into closing balances and moved to the archive table; they never change again.
+ */
+@Entity
+@Table(name = "accounting_periods")
+public class AccountingPeriod {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    // Exclusive end of the period
+    @Column(nullable = false, unique = true)
+    private LocalDateTime closedThrough;
+
+    // Exclusive end of the previous period, null for the first
+    private LocalDateTime openedAfter;
+
+    @Column(nullable = false)
+    private long entriesArchived;
+
+    @Column(nullable = false)
+    private int accounts;
+
+    private UUID closedBy;
+
+    // Root over the chain heads at the boundary (see PeriodChainHead)
+    @Column(length = 64)
+    private String merkleRoot;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime closedAt;
+
+    protected AccountingPeriod() {}
+
+    public AccountingPeriod(LocalDateTime openedAfter, LocalDateTime closedThrough, UUID closedBy) {
+        this.openedAfter = openedAfter;
+        this.closedThrough = closedThrough;
+        this.closedBy = closedBy;
+    }
+
+    public void recordClose(long entriesArchived, int accounts, String merkleRoot) {
+        this.entriesArchived = entriesArchived;
+        this.accounts = accounts;
+        this.merkleRoot = merkleRoot;
+    }
+
+    public UUID getId() { return id; }
+    public LocalDateTime getClosedThrough() { return closedThrough; }
+    public LocalDateTime getOpenedAfter() { return openedAfter; }
+    public long getEntriesArchived() { return entriesArchived; }
+    public int getAccounts() { return accounts; }
+    public UUID getClosedBy() { return closedBy; }
+    public String getMerkleRoot() { return merkleRoot; }
+    public LocalDateTime getClosedAt() { return closedAt; }
+}
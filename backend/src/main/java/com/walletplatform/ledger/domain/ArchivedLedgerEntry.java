@@ -0,0 +1,84 @@
+package com.walletplatform.ledger.domain;
+
+import com.walletplatform.wallet.domain.Currency;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A ledger entry from a closed period. Read-only; rows are moved here by the period close
+ * with their original ids and timestamps. References are plain ids so archived rows never
+ * hold locks or foreign keys against live tables.
+ */
+@Entity
+@Table(name = "ledger_entries_archive", indexes = {
+    @Index(name = "idx_ledger_archive_wallet", columnList = "wallet_id, created_at"),
+    @Index(name = "idx_ledger_archive_transaction", columnList = "transaction_id"),
+    @Index(name = "idx_ledger_archive_chain", columnList = "chain_key, chain_sequence")
+})
+public class ArchivedLedgerEntry implements LedgerRecord {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "period_id", nullable = false)
+    private UUID periodId;
+
+    @Column(name = "transaction_id", nullable = false)
+    private UUID transactionId;
+
+    @Column(name = "wallet_id")
+    private UUID walletId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false)
+    private AccountType accountType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private EntryType entryType;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Currency currency;
+
+    @Column(length = 255)
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "chain_key", nullable = false, length = 64)
+    private String chainKey;
+
+    @Column(name = "chain_sequence", nullable = false)
+    private long chainSequence;
+
+    @Column(name = "previous_hash", nullable = false, length = 64)
+    private String previousHash;
+
+    @Column(name = "entry_hash", nullable = false, length = 64)
+    private String entryHash;
+
+    protected ArchivedLedgerEntry() {}
+
+    public UUID getId() { return id; }
+    public UUID getPeriodId() { return periodId; }
+    public UUID getTransactionId() { return transactionId; }
+    public UUID getWalletId() { return walletId; }
+    public AccountType getAccountType() { return accountType; }
+    public EntryType getEntryType() { return entryType; }
+    public BigDecimal getAmount() { return amount; }
+    public Currency getCurrency() { return currency; }
+    public String getDescription() { return description; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public String getChainKey() { return chainKey; }
+    public long getChainSequence() { return chainSequence; }
+    public String getPreviousHash() { return previousHash; }
+    public String getEntryHash() { return entryHash; }
+}
@@ -0,0 +1,65 @@
+package com.walletplatform.ledger.domain;
+
+import com.walletplatform.shared.infrastructure.id.UuidV7;
+import com.walletplatform.wallet.domain.Currency;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Cumulative balance (credits minus debits) of one ledger account at the end of a closed period.
+ * Every period carries a row for every account that has ever had entries, so the latest period
+ * alone is the opening balance for everything still in {@code ledger_entries}.
+ */
+@Entity
+@Table(name = "closing_balances", indexes = {
+    @Index(name = "idx_closing_period_wallet", columnList = "period_id, wallet_id")
+})
+public class ClosingBalance {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "period_id", nullable = false)
+    private UUID periodId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false)
+    private AccountType accountType;
+
+    @Column(name = "wallet_id")
+    private UUID walletId;  // NULL for system accounts
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Currency currency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal balance;
+
+    // Entries of this account archived by this period's close
+    @Column(nullable = false)
+    private long entryCount;
+
+    protected ClosingBalance() {}
+
+    public ClosingBalance(UUID periodId, AccountType accountType, UUID walletId, Currency currency,
+                          BigDecimal balance, long entryCount) {
+        this.periodId = periodId;
+        this.accountType = accountType;
+        this.walletId = walletId;
+        this.currency = currency;
+        this.balance = balance;
+        this.entryCount = entryCount;
+    }
+
+    public UUID getId() { return id; }
+    public UUID getPeriodId() { return periodId; }
+    public AccountType getAccountType() { return accountType; }
+    public UUID getWalletId() { return walletId; }
+    public Currency getCurrency() { return currency; }
+    public BigDecimal getBalance() { return balance; }
+    public long getEntryCount() { return entryCount; }
+}
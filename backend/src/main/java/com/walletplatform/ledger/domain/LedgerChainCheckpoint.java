@@ -0,0 +1,47 @@
+package com.walletplatform.ledger.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last position of a hash chain that verification has rehashed and found intact.
+ * The next pass only rehashes entries after it.
+ */
+@Entity
+@Table(name = "ledger_chain_checkpoints")
+public class LedgerChainCheckpoint {
+
+    @Id
+    @Column(length = 64)
+    private String chainKey;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private LocalDateTime verifiedAt;
+
+    protected LedgerChainCheckpoint() {}
+
+    public LedgerChainCheckpoint(String chainKey) {
+        this.chainKey = chainKey;
+        this.sequence = 0;
+        this.hash = LedgerHash.GENESIS;
+        this.verifiedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(long sequence, String hash) {
+        this.sequence = sequence;
+        this.hash = hash;
+        this.verifiedAt = LocalDateTime.now();
+    }
+
+    public String getChainKey() { return chainKey; }
+    public long getSequence() { return sequence; }
+    public String getHash() { return hash; }
+    public LocalDateTime getVerifiedAt() { return verifiedAt; }
+}
@@ -0,0 +1,46 @@
+package com.walletplatform.ledger.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Newest entry of one ledger hash chain. Postings lock the row, link their entries after it
+ * and move it forward, so each chain stays a single gap-free sequence.
+ */
+@Entity
+@Table(name = "ledger_chain_heads")
+public class LedgerChainHead {
+
+    @Id
+    @Column(length = 64)
+    private String chainKey;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Column(nullable = false, length = 64)
+    private String headHash;
+
+    protected LedgerChainHead() {}
+
+    public LedgerChainHead(String chainKey) {
+        this.chainKey = chainKey;
+        this.sequence = 0;
+        this.headHash = LedgerHash.GENESIS;
+    }
+
+    /**
+     * Append an entry to the chain and return it sealed.
+     */
+    public LedgerEntry append(LedgerEntry entry, LocalDateTime createdAt) {
+        entry.seal(chainKey, sequence + 1, headHash, createdAt);
+        this.sequence = entry.getChainSequence();
+        this.headHash = entry.getEntryHash();
+        return entry;
+    }
+
+    public String getChainKey() { return chainKey; }
+    public long getSequence() { return sequence; }
+    public String getHeadHash() { return headHash; }
+}
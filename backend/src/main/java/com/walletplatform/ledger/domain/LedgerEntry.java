@@ -1,13 +1,15 @@
 package com.walletplatform.ledger.domain;
 
+import com.walletplatform.shared.infrastructure.id.UuidV7;
 import com.walletplatform.transaction.domain.Transaction;
 import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Money;
 import com.walletplatform.wallet.domain.Wallet;
 import jakarta.persistence.*;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -19,12 +21,15 @@ import java.util.UUID;
 @Table(name = "ledger_entries", indexes = {
     @Index(name = "idx_ledger_wallet", columnList = "wallet_id"),
     @Index(name = "idx_ledger_transaction", columnList = "transaction_id"),
-    @Index(name = "idx_ledger_account_type", columnList = "account_type")
+    @Index(name = "idx_ledger_account_type", columnList = "account_type"),
+    @Index(name = "idx_ledger_created", columnList = "created_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_ledger_chain_position", columnNames = {"chain_key", "chain_sequence"})
 })
-public class LedgerEntry {
+public class LedgerEntry implements LedgerRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -53,10 +58,23 @@ public class LedgerEntry {
     @Column(length = 255)
     private String description;
 
-    @CreationTimestamp
+    // Set by seal() rather than at insert, because the entry hash covers it
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Hash chain: per wallet, or per partition of a system account
+    @Column(name = "chain_key", nullable = false, updatable = false, length = 64)
+    private String chainKey;
+
+    @Column(name = "chain_sequence", nullable = false, updatable = false)
+    private long chainSequence;
+
+    @Column(name = "previous_hash", nullable = false, updatable = false, length = 64)
+    private String previousHash;
+
+    @Column(name = "entry_hash", nullable = false, updatable = false, length = 64)
+    private String entryHash;
+
     public LedgerEntry() {}
 
     private LedgerEntry(Transaction transaction, Wallet wallet, AccountType accountType,
@@ -73,12 +91,18 @@ public class LedgerEntry {
     public UUID getId() { return id; }
     public Transaction getTransaction() { return transaction; }
     public Wallet getWallet() { return wallet; }
+    public UUID getTransactionId() { return transaction.getId(); }
+    public UUID getWalletId() { return wallet != null ? wallet.getId() : null; }
     public AccountType getAccountType() { return accountType; }
     public EntryType getEntryType() { return entryType; }
     public BigDecimal getAmount() { return amount; }
     public Currency getCurrency() { return currency; }
     public String getDescription() { return description; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public String getChainKey() { return chainKey; }
+    public long getChainSequence() { return chainSequence; }
+    public String getPreviousHash() { return previousHash; }
+    public String getEntryHash() { return entryHash; }
 
     public void setId(UUID id) { this.id = id; }
     public void setTransaction(Transaction transaction) { this.transaction = transaction; }
@@ -89,34 +113,53 @@ public class LedgerEntry {
     public void setCurrency(Currency currency) { this.currency = currency; }
     public void setDescription(String description) { this.description = description; }
 
-    public static LedgerEntry debitWallet(Transaction txn, Wallet wallet, BigDecimal amount, String description) {
-        return new LedgerEntry(txn, wallet, AccountType.WALLET, EntryType.DEBIT, 
-                               amount, wallet.getCurrency(), description);
+    /**
+     * Link the entry into its hash chain right before it is persisted.
+     */
+    public void seal(String chainKey, long chainSequence, String previousHash, LocalDateTime createdAt) {
+        this.chainKey = chainKey;
+        this.chainSequence = chainSequence;
+        this.previousHash = previousHash;
+        this.createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+        this.entryHash = LedgerHash.of(this);
     }
 
-    public static LedgerEntry creditWallet(Transaction txn, Wallet wallet, BigDecimal amount, String description) {
-        return new LedgerEntry(txn, wallet, AccountType.WALLET, EntryType.CREDIT, 
-                               amount, wallet.getCurrency(), description);
+    public static LedgerEntry debitWallet(Transaction txn, Wallet wallet, Money amount, String description) {
+        return walletEntry(txn, wallet, EntryType.DEBIT, amount, description);
     }
 
-    public static LedgerEntry debitSystemCash(Transaction txn, BigDecimal amount, Currency currency, String description) {
+    public static LedgerEntry creditWallet(Transaction txn, Wallet wallet, Money amount, String description) {
+        return walletEntry(txn, wallet, EntryType.CREDIT, amount, description);
+    }
+
+    public static LedgerEntry debitSystemCash(Transaction txn, Money amount, String description) {
         return new LedgerEntry(txn, null, AccountType.SYSTEM_CASH, EntryType.DEBIT, 
-                               amount, currency, description);
+                               amount.toBigDecimal(), amount.getCurrency(), description);
     }
 
-    public static LedgerEntry creditSystemCash(Transaction txn, BigDecimal amount, Currency currency, String description) {
+    public static LedgerEntry creditSystemCash(Transaction txn, Money amount, String description) {
         return new LedgerEntry(txn, null, AccountType.SYSTEM_CASH, EntryType.CREDIT, 
-                               amount, currency, description);
+                               amount.toBigDecimal(), amount.getCurrency(), description);
     }
 
-    public static LedgerEntry debitExchange(Transaction txn, BigDecimal amount, Currency currency, String description) {
+    public static LedgerEntry debitExchange(Transaction txn, Money amount, String description) {
         return new LedgerEntry(txn, null, AccountType.EXCHANGE, EntryType.DEBIT, 
-                               amount, currency, description);
+                               amount.toBigDecimal(), amount.getCurrency(), description);
     }
 
-    public static LedgerEntry creditExchange(Transaction txn, BigDecimal amount, Currency currency, String description) {
+    public static LedgerEntry creditExchange(Transaction txn, Money amount, String description) {
         return new LedgerEntry(txn, null, AccountType.EXCHANGE, EntryType.CREDIT, 
-                               amount, currency, description);
+                               amount.toBigDecimal(), amount.getCurrency(), description);
+    }
+
+    private static LedgerEntry walletEntry(Transaction txn, Wallet wallet, EntryType entryType,
+                                           Money amount, String description) {
+        if (amount.getCurrency() != wallet.getCurrency()) {
+            throw new IllegalArgumentException("Ledger amount in " + amount.getCurrency()
+                + " does not match wallet currency " + wallet.getCurrency());
+        }
+        return new LedgerEntry(txn, wallet, AccountType.WALLET, entryType,
+                               amount.toBigDecimal(), wallet.getCurrency(), description);
     }
 
     public static Builder builder() { return new Builder(); }
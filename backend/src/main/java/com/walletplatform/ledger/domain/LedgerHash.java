@@ -0,0 +1,117 @@
+package com.walletplatform.ledger.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * SHA-256 hashing for the ledger hash chains and the per-period Merkle trees.
+ *
+ * An entry's hash covers its chain position, the previous entry's hash and every business
+ * field, in a fixed textual form that survives a database round trip (amount at column scale,
+ * timestamp at microsecond precision).
+ */
+public final class LedgerHash {
+
+    public static final String GENESIS = "0".repeat(64);
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSSSSS");
+    private static final HexFormat HEX = HexFormat.of();
+
+    private LedgerHash() {}
+
+    public static String of(LedgerRecord entry) {
+        return sha256(String.join("|",
+            entry.getChainKey(),
+            String.valueOf(entry.getChainSequence()),
+            entry.getPreviousHash(),
+            String.valueOf(entry.getTransactionId()),
+            String.valueOf(entry.getWalletId()),
+            entry.getAccountType().name(),
+            entry.getEntryType().name(),
+            canonicalAmount(entry.getAmount()),
+            entry.getCurrency().name(),
+            String.valueOf(entry.getDescription()),
+            TIMESTAMP.format(entry.getCreatedAt())));
+    }
+
+    /**
+     * Leaf of a period's Merkle tree: one chain's head at the period boundary.
+     */
+    public static String leaf(String chainKey, long sequence, String headHash) {
+        return sha256(chainKey + "|" + sequence + "|" + headHash);
+    }
+
+    /**
+     * Root over leaves in the given order; an odd node is paired with itself.
+     */
+    public static String merkleRoot(List<String> leaves) {
+        if (leaves.isEmpty()) {
+            return GENESIS;
+        }
+        List<String> level = leaves;
+        while (level.size() > 1) {
+            level = parentLevel(level);
+        }
+        return level.get(0);
+    }
+
+    /**
+     * Sibling path from the leaf at {@code index} to the root, bottom up.
+     */
+    public static List<ProofStep> merkleProof(List<String> leaves, int index) {
+        List<ProofStep> path = new ArrayList<>();
+        List<String> level = leaves;
+        while (level.size() > 1) {
+            int sibling = index % 2 == 0 ? Math.min(index + 1, level.size() - 1) : index - 1;
+            path.add(new ProofStep(level.get(sibling), index % 2 == 0));
+            level = parentLevel(level);
+            index /= 2;
+        }
+        return path;
+    }
+
+    /**
+     * Fold a proof back up to a root, as a client holding only the leaf and the path would.
+     */
+    public static String rootFromProof(String leaf, List<ProofStep> path) {
+        String hash = leaf;
+        for (ProofStep step : path) {
+            hash = step.siblingOnRight() ? node(hash, step.sibling()) : node(step.sibling(), hash);
+        }
+        return hash;
+    }
+
+    public record ProofStep(String sibling, boolean siblingOnRight) {}
+
+    private static List<String> parentLevel(List<String> level) {
+        List<String> parents = new ArrayList<>((level.size() + 1) / 2);
+        for (int i = 0; i < level.size(); i += 2) {
+            parents.add(node(level.get(i), level.get(Math.min(i + 1, level.size() - 1))));
+        }
+        return parents;
+    }
+
+    private static String node(String left, String right) {
+        return sha256(left + right);
+    }
+
+    private static String canonicalAmount(BigDecimal amount) {
+        return amount.setScale(4, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.walletplatform.ledger.domain;
+
+import com.walletplatform.wallet.domain.Currency;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read view shared by live ledger entries and entries archived by a period close,
+ * so ledger history can be browsed and hash chains verified across the archive boundary.
+ */
+public interface LedgerRecord {
+    UUID getId();
+    UUID getTransactionId();
+    UUID getWalletId();
+    AccountType getAccountType();
+    EntryType getEntryType();
+    BigDecimal getAmount();
+    Currency getCurrency();
+    String getDescription();
+    LocalDateTime getCreatedAt();
+    String getChainKey();
+    long getChainSequence();
+    String getPreviousHash();
+    String getEntryHash();
+}
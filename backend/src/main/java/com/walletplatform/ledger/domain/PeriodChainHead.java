@@ -0,0 +1,52 @@
+package com.walletplatform.ledger.domain;
+
+import com.walletplatform.shared.infrastructure.id.UuidV7;
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Head of one hash chain at a period boundary; a leaf of that period's Merkle tree.
+ * Like closing balances, every period carries a row for every chain that has ever had entries.
+ */
+@Entity
+@Table(name = "period_chain_heads", indexes = {
+    @Index(name = "idx_period_chain_head", columnList = "period_id, chain_key")
+})
+public class PeriodChainHead {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Column(name = "period_id", nullable = false)
+    private UUID periodId;
+
+    @Column(name = "chain_key", nullable = false, length = 64)
+    private String chainKey;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Column(nullable = false, length = 64)
+    private String headHash;
+
+    protected PeriodChainHead() {}
+
+    public PeriodChainHead(UUID periodId, String chainKey, long sequence, String headHash) {
+        this.periodId = periodId;
+        this.chainKey = chainKey;
+        this.sequence = sequence;
+        this.headHash = headHash;
+    }
+
+    public String leafHash() {
+        return LedgerHash.leaf(chainKey, sequence, headHash);
+    }
+
+    public UUID getId() { return id; }
+    public UUID getPeriodId() { return periodId; }
+    public String getChainKey() { return chainKey; }
+    public long getSequence() { return sequence; }
+    public String getHeadHash() { return headHash; }
+}
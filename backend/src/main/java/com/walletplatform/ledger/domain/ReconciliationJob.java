@@ -0,0 +1,107 @@
+package com.walletplatform.ledger.domain;
+
+import com.walletplatform.shared.infrastructure.id.UuidV7;
+import jakarta.persistence.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress and checkpoint of a bulk balance reconciliation run.
+ * Wallets are processed in id order, so the checkpoint is the last wallet id fully reconciled.
+ */
+@Entity
+@Table(name = "reconciliation_jobs")
+public class ReconciliationJob {
+
+    @Id
+    @UuidV7
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReconciliationJobStatus status = ReconciliationJobStatus.RUNNING;
+
+    @Column(nullable = false)
+    private UUID requestedBy;
+
+    // Last wallet id of the last completed wave; the next scan starts after it
+    private UUID checkpointWalletId;
+
+    @Column(nullable = false)
+    private int candidates;
+
+    @Column(nullable = false)
+    private int processed;
+
+    @Column(nullable = false)
+    private int corrected;
+
+    @Column(nullable = false)
+    private int batches;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    protected ReconciliationJob() {}
+
+    public ReconciliationJob(UUID requestedBy) {
+        this.requestedBy = requestedBy;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Start (or restart) a pass whose scan found the given number of wallets still to fix.
+     */
+    public void begin(int remainingCandidates) {
+        this.status = ReconciliationJobStatus.RUNNING;
+        this.candidates = processed + remainingCandidates;
+        this.lastError = null;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void recordWave(UUID lastWalletId, int processed, int corrected, int batches) {
+        this.checkpointWalletId = lastWalletId;
+        this.processed += processed;
+        this.corrected += corrected;
+        this.batches += batches;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void finish(ReconciliationJobStatus status, String error) {
+        this.status = status;
+        this.lastError = error;
+        this.updatedAt = LocalDateTime.now();
+        if (status == ReconciliationJobStatus.COMPLETED) {
+            this.completedAt = this.updatedAt;
+        }
+    }
+
+    public boolean isResumable() {
+        return status == ReconciliationJobStatus.PAUSED
+            || status == ReconciliationJobStatus.INTERRUPTED
+            || status == ReconciliationJobStatus.FAILED;
+    }
+
+    public UUID getId() { return id; }
+    public ReconciliationJobStatus getStatus() { return status; }
+    public UUID getRequestedBy() { return requestedBy; }
+    public UUID getCheckpointWalletId() { return checkpointWalletId; }
+    public int getCandidates() { return candidates; }
+    public int getProcessed() { return processed; }
+    public int getCorrected() { return corrected; }
+    public int getBatches() { return batches; }
+    public String getLastError() { return lastError; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getCompletedAt() { return completedAt; }
+}
@@ -0,0 +1,9 @@
+package com.walletplatform.ledger.domain;
+
+public enum ReconciliationJobStatus {
+    RUNNING,
+    PAUSED,       // Stopped on request after the current wave; resumable
+    INTERRUPTED,  // Was running when the application stopped; resumable
+    FAILED,       // A batch failed; resumable once the cause is fixed
+    COMPLETED
+}
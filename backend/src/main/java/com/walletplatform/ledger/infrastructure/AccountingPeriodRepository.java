@@ -0,0 +1,17 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.AccountingPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface AccountingPeriodRepository extends JpaRepository<AccountingPeriod, UUID> {
+
+    Optional<AccountingPeriod> findTopByOrderByClosedThroughDesc();
+
+    List<AccountingPeriod> findAllByOrderByClosedThroughDesc();
+}
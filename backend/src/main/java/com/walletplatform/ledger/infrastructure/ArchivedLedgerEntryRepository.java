@@ -0,0 +1,75 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.ArchivedLedgerEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface ArchivedLedgerEntryRepository extends JpaRepository<ArchivedLedgerEntry, UUID> {
+
+    long countByWalletId(UUID walletId);
+
+    List<ArchivedLedgerEntry> findByTransactionIdOrderByCreatedAtAsc(UUID transactionId);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM ArchivedLedgerEntry a WHERE a.walletId = :walletId ORDER BY a.createdAt ASC")
+    Stream<ArchivedLedgerEntry> streamByWalletId(@Param("walletId") UUID walletId);
+
+    /**
+     * Copy live entries created before the boundary into the archive under the given period.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO ledger_entries_archive " +
+                   "(id, period_id, transaction_id, wallet_id, account_type, entry_type, amount, currency, description, created_at, " +
+                   "chain_key, chain_sequence, previous_hash, entry_hash) " +
+                   "SELECT id, :periodId, transaction_id, wallet_id, account_type, entry_type, amount, currency, description, created_at, " +
+                   "chain_key, chain_sequence, previous_hash, entry_hash " +
+                   "FROM ledger_entries WHERE created_at < :closedThrough",
+           nativeQuery = true)
+    int archiveEntriesBefore(@Param("periodId") UUID periodId, @Param("closedThrough") LocalDateTime closedThrough);
+
+    /**
+     * Per-account totals of one period's archived entries.
+     * Rows are [accountType, walletId, currency, net (credits minus debits), entryCount].
+     */
+    @Query("SELECT a.accountType, a.walletId, a.currency, " +
+           "SUM(CASE WHEN a.entryType = 'CREDIT' THEN a.amount ELSE -a.amount END), COUNT(a) " +
+           "FROM ArchivedLedgerEntry a WHERE a.periodId = :periodId " +
+           "GROUP BY a.accountType, a.walletId, a.currency")
+    List<Object[]> sumByAccount(@Param("periodId") UUID periodId);
+
+    /**
+     * The next page of a chain after the given position, in chain order.
+     */
+    @Query("SELECT a FROM ArchivedLedgerEntry a WHERE a.chainKey = :chainKey AND a.chainSequence > :afterSequence " +
+           "ORDER BY a.chainSequence")
+    List<ArchivedLedgerEntry> findChainAfter(@Param("chainKey") String chainKey, @Param("afterSequence") long afterSequence,
+                                             Pageable page);
+
+    /**
+     * Every entry archived by one period, chain by chain in chain order.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM ArchivedLedgerEntry a WHERE a.periodId = :periodId ORDER BY a.chainKey, a.chainSequence")
+    Stream<ArchivedLedgerEntry> streamPeriodChains(@Param("periodId") UUID periodId);
+}
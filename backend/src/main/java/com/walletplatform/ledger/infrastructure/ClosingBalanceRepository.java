@@ -0,0 +1,37 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.ClosingBalance;
+import com.walletplatform.wallet.domain.Currency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ClosingBalanceRepository extends JpaRepository<ClosingBalance, UUID> {
+
+    /**
+     * Id of the most recently closed period, for use inside other queries.
+     */
+    String LATEST_PERIOD_ID =
+        "(SELECT p.id FROM AccountingPeriod p WHERE p.closedThrough = (SELECT MAX(p2.closedThrough) FROM AccountingPeriod p2))";
+
+    List<ClosingBalance> findByPeriodId(UUID periodId);
+
+    /**
+     * Wallet balance carried into the open period, zero before the first close.
+     */
+    @Query("SELECT COALESCE(SUM(c.balance), 0) FROM ClosingBalance c WHERE c.walletId = :walletId AND c.periodId = " + LATEST_PERIOD_ID)
+    BigDecimal findOpeningBalance(@Param("walletId") UUID walletId);
+
+    /**
+     * Net (credits minus debits) of all accounts in a currency carried into the open period.
+     * Zero while every closed entry was balanced.
+     */
+    @Query("SELECT COALESCE(SUM(c.balance), 0) FROM ClosingBalance c WHERE c.currency = :currency AND c.periodId = " + LATEST_PERIOD_ID)
+    BigDecimal sumOpeningBalancesByCurrency(@Param("currency") Currency currency);
+}
@@ -0,0 +1,9 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.LedgerChainCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerChainCheckpointRepository extends JpaRepository<LedgerChainCheckpoint, String> {
+}
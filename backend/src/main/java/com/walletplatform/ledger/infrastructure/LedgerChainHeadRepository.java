@@ -0,0 +1,36 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.LedgerChainHead;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface LedgerChainHeadRepository extends JpaRepository<LedgerChainHead, String> {
+
+    /**
+     * Locks chain heads in key order, so concurrent postings cannot deadlock each other.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM LedgerChainHead h WHERE h.chainKey IN :keys ORDER BY h.chainKey")
+    List<LedgerChainHead> findAllByChainKeyInWithLock(@Param("keys") Collection<String> keys);
+
+    /**
+     * Chains with entries past their verification checkpoint, after the given key in key order.
+     */
+    @Query("SELECT h.chainKey FROM LedgerChainHead h LEFT JOIN LedgerChainCheckpoint c ON c.chainKey = h.chainKey " +
+           "WHERE h.chainKey > :afterKey AND (c.chainKey IS NULL OR h.sequence > c.sequence) " +
+           "ORDER BY h.chainKey")
+    List<String> findChainsAheadOfCheckpoint(@Param("afterKey") String afterKey, Pageable pageable);
+
+    @Query("SELECT COUNT(h) FROM LedgerChainHead h LEFT JOIN LedgerChainCheckpoint c ON c.chainKey = h.chainKey " +
+           "WHERE c.chainKey IS NULL OR h.sequence > c.sequence")
+    long countChainsAheadOfCheckpoint();
+}
@@ -0,0 +1,19 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.LedgerEntry;
+
+import java.util.List;
+
+/**
+ * Append-only writes of ledger entries that bypass the persistence context.
+ */
+public interface LedgerEntryBulkRepository {
+
+    /**
+     * Insert sealed entries in JDBC batches within the current transaction, assigning ids to
+     * entries that have none. The entries stay detached, so they must not be changed afterwards.
+     * The persistence context is not flushed first, so a transaction saved in the same unit of
+     * work must be flushed before its entries are inserted.
+     */
+    void insertAll(List<LedgerEntry> entries);
+}
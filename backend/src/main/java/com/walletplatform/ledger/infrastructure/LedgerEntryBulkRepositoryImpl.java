@@ -0,0 +1,53 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.LedgerEntry;
+import com.walletplatform.shared.infrastructure.JdbcBatchInsert;
+import com.walletplatform.shared.infrastructure.id.TimeOrderedUuid;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.sql.Types;
+import java.util.List;
+
+public class LedgerEntryBulkRepositoryImpl implements LedgerEntryBulkRepository {
+
+    private static final String INSERT = "INSERT INTO ledger_entries " +
+        "(id, transaction_id, wallet_id, account_type, entry_type, amount, currency, description, created_at, " +
+        "chain_key, chain_sequence, previous_hash, entry_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public LedgerEntryBulkRepositoryImpl(EntityManager entityManager,
+                                         @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void insertAll(List<LedgerEntry> entries) {
+        for (LedgerEntry entry : entries) {
+            if (entry.getEntryHash() == null) {
+                throw new IllegalStateException("Ledger entry must be sealed before it is inserted");
+            }
+            if (entry.getId() == null) {
+                entry.setId(TimeOrderedUuid.next());
+            }
+        }
+        JdbcBatchInsert.<LedgerEntry>execute(entityManager, INSERT, entries, batchSize, (statement, entry) -> {
+            statement.setObject(1, entry.getId());
+            statement.setObject(2, entry.getTransactionId());
+            JdbcBatchInsert.setNullable(statement, 3, entry.getWalletId(), Types.OTHER);
+            statement.setString(4, entry.getAccountType().name());
+            statement.setString(5, entry.getEntryType().name());
+            statement.setBigDecimal(6, entry.getAmount());
+            statement.setString(7, entry.getCurrency().name());
+            JdbcBatchInsert.setNullable(statement, 8, entry.getDescription(), Types.VARCHAR);
+            statement.setObject(9, entry.getCreatedAt());
+            statement.setString(10, entry.getChainKey());
+            statement.setLong(11, entry.getChainSequence());
+            statement.setString(12, entry.getPreviousHash());
+            statement.setString(13, entry.getEntryHash());
+        });
+    }
+}
@@ -4,28 +4,59 @@ import com.walletplatform.ledger.domain.AccountType;
 import com.walletplatform.ledger.domain.EntryType;
 import com.walletplatform.ledger.domain.LedgerEntry;
 import com.walletplatform.wallet.domain.Currency;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID> {
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID>, LedgerEntryBulkRepository {
+
+    /**
+     * Ledger balance of wallet {@code w} over its joined live entries {@code e}:
+     * the closing balance of the latest closed period plus everything since.
+     */
+    String LEDGER_BALANCE =
+        "(COALESCE(SUM(CASE WHEN e.entryType = 'CREDIT' THEN e.amount ELSE -e.amount END), 0) + " +
+        "COALESCE((SELECT SUM(c.balance) FROM ClosingBalance c WHERE c.walletId = w.id AND c.periodId = " +
+        ClosingBalanceRepository.LATEST_PERIOD_ID + "), 0))";
 
     /**
      * Find all ledger entries for a specific wallet
      */
-    Page<LedgerEntry> findByWalletIdOrderByCreatedAtDesc(UUID walletId, Pageable pageable);
+    @Query("SELECT e FROM LedgerEntry e WHERE e.wallet.id = :walletId ORDER BY e.createdAt DESC")
+    Page<LedgerEntry> findByWalletIdOrderByCreatedAtDesc(@Param("walletId") UUID walletId, Pageable pageable);
+
+    /**
+     * Server-side cursor over a wallet's ledger entries, oldest first.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT e FROM LedgerEntry e WHERE e.wallet.id = :walletId ORDER BY e.createdAt ASC")
+    Stream<LedgerEntry> streamByWalletId(@Param("walletId") UUID walletId);
 
     /**
      * Find all ledger entries for a specific transaction
      */
-    List<LedgerEntry> findByTransactionId(UUID transactionId);
+    @Query("SELECT e FROM LedgerEntry e WHERE e.transaction.id = :transactionId")
+    List<LedgerEntry> findByTransactionId(@Param("transactionId") UUID transactionId);
 
     /**
      * Sum all debits for a specific currency
@@ -51,6 +82,52 @@ public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, UUID>
     @Query("SELECT COALESCE(SUM(e.amount), 0) FROM LedgerEntry e WHERE e.wallet.id = :walletId AND e.entryType = 'CREDIT'")
     BigDecimal sumWalletCredits(UUID walletId);
 
+    /**
+     * Wallets with entries created after the given time, with the time of their latest entry.
+     */
+    @Query("SELECT e.wallet.id, MAX(e.createdAt) FROM LedgerEntry e WHERE e.wallet IS NOT NULL AND e.createdAt > :since GROUP BY e.wallet.id")
+    List<Object[]> findWalletActivitySince(@Param("since") LocalDateTime since);
+
+    /**
+     * Cached balance next to the ledger balance for a batch of wallets, in one grouped query.
+     * Rows are [walletId, cachedBalance, ledgerBalance].
+     */
+    @Query("SELECT w.id, w.balance, " + LEDGER_BALANCE + " " +
+           "FROM Wallet w LEFT JOIN LedgerEntry e ON e.wallet.id = w.id " +
+           "WHERE w.id IN :walletIds GROUP BY w.id, w.balance")
+    List<Object[]> compareCachedBalances(@Param("walletIds") Collection<UUID> walletIds);
+
+    /**
+     * Wallets after the given id whose cached balance disagrees with the ledger, in id order.
+     */
+    @Query("SELECT w.id FROM Wallet w LEFT JOIN LedgerEntry e ON e.wallet.id = w.id " +
+           "WHERE w.id > :afterWalletId GROUP BY w.id, w.balance " +
+           "HAVING w.balance <> " + LEDGER_BALANCE + " " +
+           "ORDER BY w.id")
+    List<UUID> findDiscrepantWalletIds(@Param("afterWalletId") UUID afterWalletId);
+
+    /**
+     * The next page of a chain after the given position, in chain order.
+     */
+    @Query("SELECT e FROM LedgerEntry e WHERE e.chainKey = :chainKey AND e.chainSequence > :afterSequence " +
+           "ORDER BY e.chainSequence")
+    List<LedgerEntry> findChainAfter(@Param("chainKey") String chainKey, @Param("afterSequence") long afterSequence,
+                                     Pageable page);
+
+    @Query("SELECT MAX(e.createdAt) FROM LedgerEntry e")
+    LocalDateTime findLatestCreatedAt();
+
+    /**
+     * Drop live entries that a period close has copied to the archive.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM ledger_entries WHERE id IN (SELECT id FROM ledger_entries_archive WHERE period_id = :periodId)",
+           nativeQuery = true)
+    int deleteArchived(@Param("periodId") UUID periodId);
+
+    @Query("SELECT MAX(e.createdAt) FROM LedgerEntry e WHERE e.wallet.id = :walletId")
+    LocalDateTime findLatestCreatedAtByWalletId(@Param("walletId") UUID walletId);
+
     /**
      * Count entries by entry type for verification
      */
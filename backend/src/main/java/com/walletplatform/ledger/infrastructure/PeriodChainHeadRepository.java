@@ -0,0 +1,14 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.PeriodChainHead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PeriodChainHeadRepository extends JpaRepository<PeriodChainHead, UUID> {
+
+    List<PeriodChainHead> findByPeriodId(UUID periodId);
+}
@@ -0,0 +1,19 @@
+package com.walletplatform.ledger.infrastructure;
+
+import com.walletplatform.ledger.domain.ReconciliationJob;
+import com.walletplatform.ledger.domain.ReconciliationJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ReconciliationJobRepository extends JpaRepository<ReconciliationJob, UUID> {
+
+    boolean existsByStatus(ReconciliationJobStatus status);
+
+    List<ReconciliationJob> findByStatus(ReconciliationJobStatus status);
+
+    List<ReconciliationJob> findTop20ByOrderByCreatedAtDesc();
+}
@@ -0,0 +1,20 @@
+package com.walletplatform.shared.api;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the caller's address, preferring the first X-Forwarded-For hop set by the proxy.
+ */
+public final class ClientIp {
+
+    private ClientIp() {}
+
+    public static String resolve(HttpServletRequest request) {
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
+            int comma = xForwardedFor.indexOf(',');
+            return (comma < 0 ? xForwardedFor : xForwardedFor.substring(0, comma)).trim();
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -1,12 +1,17 @@
 package com.walletplatform.shared.api;
 
 import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.shared.application.FxRateHistoryService;
 import com.walletplatform.shared.config.ExchangeRateService;
+import com.walletplatform.shared.domain.RateSnapshot;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -14,18 +19,22 @@ import java.util.Map;
 public class ExchangeRateController {
 
     private final ExchangeRateService exchangeRateService;
+    private final FxRateHistoryService fxRateHistoryService;
 
-    public ExchangeRateController(ExchangeRateService exchangeRateService) {
+    public ExchangeRateController(ExchangeRateService exchangeRateService,
+                                  FxRateHistoryService fxRateHistoryService) {
         this.exchangeRateService = exchangeRateService;
+        this.fxRateHistoryService = fxRateHistoryService;
     }
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllRates() {
-        ExchangeRateService.RateInfo info = exchangeRateService.getRateInfo();
+        RateSnapshot rates = exchangeRateService.getSnapshot();
         
         Map<String, Object> response = new HashMap<>();
-        response.put("source", info.source());
-        response.put("lastUpdated", info.lastUpdated());
+        response.put("source", rates.getSource());
+        response.put("lastUpdated", rates.getFetchedAt());
+        response.put("version", rates.getVersion());
         response.put("baseCurrency", "USD");
         
         Map<String, BigDecimal> formattedRates = new HashMap<>();
@@ -33,7 +42,7 @@ public class ExchangeRateController {
             for (Currency to : Currency.values()) {
                 if (from != to) {
                     String key = from.name() + "/" + to.name();
-                    formattedRates.put(key, exchangeRateService.getExchangeRate(from, to));
+                    formattedRates.put(key, rates.getRate(from, to));
                 }
             }
         }
@@ -48,8 +57,9 @@ public class ExchangeRateController {
             @RequestParam Currency to,
             @RequestParam BigDecimal amount) {
         
-        BigDecimal rate = exchangeRateService.getExchangeRate(from, to);
-        BigDecimal converted = exchangeRateService.convert(amount, from, to);
+        RateSnapshot rates = exchangeRateService.getSnapshot();
+        BigDecimal rate = rates.getRate(from, to);
+        BigDecimal converted = rates.convert(amount, from, to);
         
         Map<String, Object> response = new HashMap<>();
         response.put("from", from.name());
@@ -57,8 +67,33 @@ public class ExchangeRateController {
         response.put("amount", amount);
         response.put("rate", rate);
         response.put("convertedAmount", converted);
-        response.put("source", exchangeRateService.getRateInfo().source());
+        response.put("source", rates.getSource());
+        response.put("version", rates.getVersion());
         
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/history")
+    public ResponseEntity<List<FxRateHistoryService.RatePoint>> getHistory(
+            @RequestParam Currency from,
+            @RequestParam Currency to,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end) {
+        
+        LocalDateTime rangeEnd = end != null ? end : LocalDateTime.now();
+        LocalDateTime rangeStart = start != null ? start : rangeEnd.minusDays(7);
+        
+        return ResponseEntity.ok(fxRateHistoryService.getHistory(from, to, rangeStart, rangeEnd));
+    }
+
+    @GetMapping("/history/as-of")
+    public ResponseEntity<FxRateHistoryService.RatePoint> getRateAsOf(
+            @RequestParam Currency from,
+            @RequestParam Currency to,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        
+        return fxRateHistoryService.getRateAsOf(from, to, at)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,208 @@
+package com.walletplatform.shared.application;
+
+import com.walletplatform.shared.config.ExchangeRateService;
+import com.walletplatform.shared.domain.FxRateHistory;
+import com.walletplatform.shared.domain.RateSnapshot;
+import com.walletplatform.shared.event.ExchangeRatesUpdatedEvent;
+import com.walletplatform.shared.infrastructure.FxRateHistoryRepository;
+import com.walletplatform.wallet.domain.Currency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Append-only history of published exchange rates with as-of lookup.
+ *
+ * The most recent days are held per currency pair in sorted arrays and
+ * answered by binary search; anything older falls through to the database.
+ */
+@Service
+public class FxRateHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(FxRateHistoryService.class);
+    private static final int CURRENCY_COUNT = Currency.values().length;
+    private static final int MAX_RANGE_ROWS = 1000;
+
+    private final FxRateHistoryRepository historyRepository;
+    private final ExchangeRateService exchangeRateService;
+    private final long memoryWindowMs;
+
+    private final AtomicReferenceArray<Series> seriesByPair = new AtomicReferenceArray<>(CURRENCY_COUNT * CURRENCY_COUNT);
+    private long lastRecordedVersion = -1;
+
+    public FxRateHistoryService(FxRateHistoryRepository historyRepository,
+                                ExchangeRateService exchangeRateService,
+                                @Value("${fx-history.memory-days:7}") int memoryDays) {
+        this.historyRepository = historyRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.memoryWindowMs = memoryDays * 24L * 60 * 60 * 1000;
+        for (int i = 0; i < seriesByPair.length(); i++) {
+            seriesByPair.set(i, Series.EMPTY);
+        }
+    }
+
+    /**
+     * Load the in-memory window from the database, then record the snapshot
+     * that was already in effect before this listener was registered.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onStartup() {
+        LocalDateTime since = LocalDateTime.now().minusNanos(memoryWindowMs * 1_000_000);
+        for (FxRateHistory row : historyRepository.findByEffectiveAtGreaterThanEqualOrderByEffectiveAtAsc(since)) {
+            append(row.getBaseCurrency(), row.getQuoteCurrency(), row.getRate(),
+                row.getSnapshotVersion(), row.getEffectiveAt());
+        }
+        // Versions older than the window still count; the current snapshot is numbered past all of them
+        lastRecordedVersion = Math.max(lastRecordedVersion, historyRepository.findMaxSnapshotVersion());
+        record(exchangeRateService.getSnapshot(), LocalDateTime.now());
+    }
+
+    @EventListener
+    @Transactional
+    public void onRatesUpdated(ExchangeRatesUpdatedEvent event) {
+        record(event.getSnapshot(), event.getEffectiveAt());
+    }
+
+    /**
+     * The rate that was in effect for the pair at the given time, if any was recorded.
+     */
+    @Transactional(readOnly = true)
+    public Optional<RatePoint> getRateAsOf(Currency from, Currency to, LocalDateTime at) {
+        if (from == to) {
+            return Optional.of(new RatePoint(from, to, BigDecimal.ONE, 0, at));
+        }
+
+        Series series = seriesByPair.get(index(from, to));
+        long atMillis = toMillis(at);
+        if (series.size() > 0 && atMillis >= series.times[0]) {
+            int i = Arrays.binarySearch(series.times, atMillis);
+            // Exact match, or the last entry before the insertion point
+            int found = i >= 0 ? lastWithSameTime(series, i) : -i - 2;
+            return Optional.of(series.point(from, to, found));
+        }
+
+        return historyRepository
+            .findFirstByBaseCurrencyAndQuoteCurrencyAndEffectiveAtLessThanEqualOrderByEffectiveAtDesc(from, to, at)
+            .map(row -> new RatePoint(from, to, row.getRate(), row.getSnapshotVersion(), row.getEffectiveAt()));
+    }
+
+    /**
+     * Recorded rates for a pair in a time range, oldest first, capped at {@value #MAX_RANGE_ROWS} rows.
+     */
+    @Transactional(readOnly = true)
+    public List<RatePoint> getHistory(Currency from, Currency to, LocalDateTime start, LocalDateTime end) {
+        return historyRepository
+            .findByBaseCurrencyAndQuoteCurrencyAndEffectiveAtBetweenOrderByEffectiveAtAsc(
+                from, to, start, end, PageRequest.of(0, MAX_RANGE_ROWS))
+            .stream()
+            .map(row -> new RatePoint(from, to, row.getRate(), row.getSnapshotVersion(), row.getEffectiveAt()))
+            .toList();
+    }
+
+    private synchronized void record(RateSnapshot snapshot, LocalDateTime effectiveAt) {
+        if (snapshot.getVersion() <= lastRecordedVersion) {
+            return;
+        }
+
+        List<FxRateHistory> rows = new ArrayList<>(CURRENCY_COUNT * (CURRENCY_COUNT - 1));
+        for (Currency from : Currency.values()) {
+            for (Currency to : Currency.values()) {
+                if (from != to) {
+                    // Same scale as the column, so memory and database answers are identical
+                    BigDecimal rate = snapshot.getRate(from, to).setScale(6, RoundingMode.HALF_UP);
+                    rows.add(new FxRateHistory(from, to, rate,
+                        snapshot.getVersion(), snapshot.getSource(), effectiveAt));
+                }
+            }
+        }
+        historyRepository.saveAll(rows);
+
+        for (FxRateHistory row : rows) {
+            append(row.getBaseCurrency(), row.getQuoteCurrency(), row.getRate(),
+                row.getSnapshotVersion(), row.getEffectiveAt());
+        }
+        lastRecordedVersion = snapshot.getVersion();
+        log.debug("Recorded FX rate snapshot version {} effective at {}", snapshot.getVersion(), effectiveAt);
+    }
+
+    private synchronized void append(Currency from, Currency to, BigDecimal rate, long version, LocalDateTime at) {
+        int pair = index(from, to);
+        long atMillis = toMillis(at);
+        seriesByPair.set(pair, seriesByPair.get(pair).append(atMillis, rate, version, atMillis - memoryWindowMs));
+    }
+
+    private static int lastWithSameTime(Series series, int i) {
+        while (i + 1 < series.size() && series.times[i + 1] == series.times[i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int index(Currency from, Currency to) {
+        return from.ordinal() * CURRENCY_COUNT + to.ordinal();
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public record RatePoint(Currency from, Currency to, BigDecimal rate, long version, LocalDateTime effectiveAt) {}
+
+    /**
+     * Immutable, time-ordered rates for one pair; replaced wholesale on each append.
+     */
+    private static final class Series {
+        static final Series EMPTY = new Series(new long[0], new BigDecimal[0], new long[0]);
+
+        final long[] times;
+        final BigDecimal[] rates;
+        final long[] versions;
+
+        Series(long[] times, BigDecimal[] rates, long[] versions) {
+            this.times = times;
+            this.rates = rates;
+            this.versions = versions;
+        }
+
+        int size() {
+            return times.length;
+        }
+
+        RatePoint point(Currency from, Currency to, int i) {
+            return new RatePoint(from, to, rates[i],
+                versions[i], LocalDateTime.ofEpochSecond(Math.floorDiv(times[i], 1000),
+                    (int) Math.floorMod(times[i], 1000) * 1_000_000, ZoneOffset.UTC));
+        }
+
+        Series append(long time, BigDecimal rate, long version, long evictBefore) {
+            int from = 0;
+            while (from < times.length && times[from] < evictBefore) {
+                from++;
+            }
+            int keep = times.length - from;
+            long[] newTimes = Arrays.copyOfRange(times, from, from + keep + 1);
+            BigDecimal[] newRates = Arrays.copyOfRange(rates, from, from + keep + 1);
+            long[] newVersions = Arrays.copyOfRange(versions, from, from + keep + 1);
+            newTimes[keep] = time;
+            newRates[keep] = rate;
+            newVersions[keep] = version;
+            return new Series(newTimes, newRates, newVersions);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.walletplatform.shared.config;
 import com.walletplatform.identity.domain.User;
 import com.walletplatform.identity.domain.UserRole;
 import com.walletplatform.identity.infrastructure.UserRepository;
+import com.walletplatform.wallet.application.service.WalletViewProjector;
 import com.walletplatform.wallet.domain.Currency;
 import com.walletplatform.wallet.domain.Wallet;
 import com.walletplatform.wallet.infrastructure.WalletRepository;
@@ -22,6 +23,7 @@ public class DataInitializer implements CommandLineRunner {
     private final UserRepository userRepository;
     private final WalletRepository walletRepository;
     private final PasswordEncoder passwordEncoder;
+    private final WalletViewProjector walletViewProjector;
 
     @Value("${app.admin.email:admin@walletplatform.com}")
     private String adminEmail;
@@ -37,10 +39,12 @@ public class DataInitializer implements CommandLineRunner {
 
     public DataInitializer(UserRepository userRepository, 
                           WalletRepository walletRepository,
-                          PasswordEncoder passwordEncoder) {
+                          PasswordEncoder passwordEncoder,
+                          WalletViewProjector walletViewProjector) {
         this.userRepository = userRepository;
         this.walletRepository = walletRepository;
         this.passwordEncoder = passwordEncoder;
+        this.walletViewProjector = walletViewProjector;
     }
 
     @Override
@@ -73,6 +77,7 @@ public class DataInitializer implements CommandLineRunner {
                 .currency(Currency.USD)
                 .build();
         walletRepository.save(wallet);
+        walletViewProjector.projectCreated(wallet);
 
         log.info("Default admin user created successfully");
         log.info("  Email: {}", adminEmail);
@@ -1,59 +1,123 @@
 package com.walletplatform.shared.config;
 
+import com.walletplatform.shared.domain.RateSnapshot;
+import com.walletplatform.shared.event.ExchangeRatesUpdatedEvent;
+import com.walletplatform.shared.infrastructure.FxRateHistoryRepository;
 import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.shared.infrastructure.fx.CircuitBreaker;
+import com.walletplatform.shared.infrastructure.fx.FxRateProvider;
+import com.walletplatform.shared.infrastructure.fx.StandInFxRateProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
 import jakarta.annotation.PostConstruct;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Exchange rate service with live rates from external API.
+ * Exchange rate service with live rates from a pluggable {@link FxRateProvider}.
  * Configuration is externalized to application.yml for flexibility.
+ *
+ * Rates are published as immutable {@link RateSnapshot}s; readers always see
+ * one complete, consistent set of rates and its version.
+ *
+ * Refreshes run asynchronously behind a circuit breaker, so neither startup nor
+ * the scheduler thread ever waits on the network. When a refresh fails the last
+ * live snapshot keeps being served until it is older than
+ * {@code exchange-rate.max-stale-ms}, after which the static rates take over.
+ *
+ * Snapshot versions continue from the highest version in the FX history, so a
+ * version names one snapshot across restarts.
  */
 @Component
 public class ExchangeRateService {
 
     private static final Logger log = LoggerFactory.getLogger(ExchangeRateService.class);
     
-    @Value("${exchange-rate.api.url}")
-    private String apiUrl;
+    private static final String SOURCE_LIVE = "LIVE";
+    private static final String SOURCE_STATIC = "STATIC";
     
-    @Value("${exchange-rate.api.enabled:true}")
-    private boolean liveRatesEnabled;
+    // Fallback static rates (updated Dec 2025)
+    private static final Map<Currency, Map<Currency, BigDecimal>> STATIC_RATES = Map.of(
+        Currency.USD, Map.of(Currency.EUR, new BigDecimal("0.92"), Currency.GBP, new BigDecimal("0.79")),
+        Currency.EUR, Map.of(Currency.USD, new BigDecimal("1.09"), Currency.GBP, new BigDecimal("0.86")),
+        Currency.GBP, Map.of(Currency.USD, new BigDecimal("1.27"), Currency.EUR, new BigDecimal("1.16"))
+    );
     
-    private final RestTemplate restTemplate;
-    private final Map<String, BigDecimal> liveRates = new ConcurrentHashMap<>();
-    private LocalDateTime lastFetched = null;
-    private boolean useLiveRates = false;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FxRateProvider provider;
+    private final CircuitBreaker circuitBreaker;
+    private final boolean liveRatesEnabled;
+    private final long timeoutMs;
+    private final long maxStaleMs;
     
-    // Fallback static rates (updated Dec 2025)
-    private static final Map<String, BigDecimal> STATIC_RATES = new HashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter refreshFailures;
+    
+    private final AtomicBoolean refreshInFlight = new AtomicBoolean();
+    private final AtomicLong versions = new AtomicLong();
+    private final AtomicReference<RateSnapshot> current;
 
-    static {
-        STATIC_RATES.put("USD_USD", BigDecimal.ONE);
-        STATIC_RATES.put("USD_EUR", new BigDecimal("0.92"));
-        STATIC_RATES.put("USD_GBP", new BigDecimal("0.79"));
-        STATIC_RATES.put("EUR_USD", new BigDecimal("1.09"));
-        STATIC_RATES.put("EUR_EUR", BigDecimal.ONE);
-        STATIC_RATES.put("EUR_GBP", new BigDecimal("0.86"));
-        STATIC_RATES.put("GBP_USD", new BigDecimal("1.27"));
-        STATIC_RATES.put("GBP_EUR", new BigDecimal("1.16"));
-        STATIC_RATES.put("GBP_GBP", BigDecimal.ONE);
+    /**
+     * Standalone instance serving static rates, for use outside the application context.
+     */
+    public ExchangeRateService() {
+        this(event -> { }, new StandInFxRateProvider(), new SimpleMeterRegistry(), null,
+            false, 5000, 3, 300000, 21600000);
     }
 
-    public ExchangeRateService() {
-        this.restTemplate = new RestTemplate();
+    @Autowired
+    public ExchangeRateService(ApplicationEventPublisher eventPublisher,
+                               FxRateProvider provider,
+                               MeterRegistry meterRegistry,
+                               FxRateHistoryRepository historyRepository,
+                               @Value("${exchange-rate.api.enabled:true}") boolean liveRatesEnabled,
+                               @Value("${exchange-rate.timeout-ms:5000}") long timeoutMs,
+                               @Value("${exchange-rate.circuit-breaker.failure-threshold:3}") int failureThreshold,
+                               @Value("${exchange-rate.circuit-breaker.open-ms:300000}") long openMs,
+                               @Value("${exchange-rate.max-stale-ms:21600000}") long maxStaleMs) {
+        this.eventPublisher = eventPublisher;
+        this.provider = provider;
+        this.meterRegistry = meterRegistry;
+        this.liveRatesEnabled = liveRatesEnabled;
+        this.timeoutMs = timeoutMs;
+        this.maxStaleMs = maxStaleMs;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMs);
+        if (historyRepository != null) {
+            versions.set(historyRepository.findMaxSnapshotVersion());
+        }
+        this.current = new AtomicReference<>(staticSnapshot(versions.incrementAndGet()));
+        
+        this.refreshFailures = Counter.builder("fx.refresh.failures")
+            .description("Failed or rejected FX rate refreshes")
+            .tag("provider", provider.getName())
+            .register(meterRegistry);
+        Gauge.builder("fx.rates.age.seconds", this, ExchangeRateService::getRatesAgeSeconds)
+            .description("Age of the live rates being served; -1 while serving static rates")
+            .register(meterRegistry);
+        Gauge.builder("fx.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+            .description("FX provider circuit state: 0 closed, 1 open, 2 half-open")
+            .tag("provider", provider.getName())
+            .register(meterRegistry);
     }
     
     @PostConstruct
@@ -61,92 +125,159 @@ public class ExchangeRateService {
         refreshRates();
     }
 
+    /**
+     * Starts a refresh and returns immediately. Overlapping runs are skipped while one is in flight.
+     */
     @Scheduled(fixedRateString = "${exchange-rate.refresh-interval-ms:3600000}")
     public void refreshRates() {
         if (!liveRatesEnabled) {
             log.info("Live exchange rates disabled. Using static rates.");
             return;
         }
+        if (!refreshInFlight.compareAndSet(false, true)) {
+            log.debug("Exchange rate refresh already in flight, skipping");
+            return;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            refreshInFlight.set(false);
+            log.info("Exchange rate provider '{}' circuit open, serving rates version {}",
+                provider.getName(), current.get().getVersion());
+            expireIfStale();
+            return;
+        }
         
+        log.info("Fetching live exchange rates from provider '{}'", provider.getName());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // A provider that throws instead of returning a failed future must still clear the in-flight flag
+        CompletableFuture<Map<Currency, BigDecimal>> fetch;
         try {
-            log.info("Fetching live exchange rates from: {}", apiUrl);
-            ResponseEntity<ExchangeRateResponse> response = 
-                restTemplate.getForEntity(apiUrl, ExchangeRateResponse.class);
-            
-            if (response.getBody() != null && response.getBody().rates != null) {
-                Map<String, Double> rates = response.getBody().rates;
-                
-                for (Currency from : Currency.values()) {
-                    for (Currency to : Currency.values()) {
-                        String key = from.name() + "_" + to.name();
-                        BigDecimal rate = calculateCrossRate(rates, from.name(), to.name());
-                        liveRates.put(key, rate);
+            fetch = provider.fetchUsdRates();
+        } catch (RuntimeException e) {
+            fetch = CompletableFuture.failedFuture(e);
+        }
+        fetch
+            .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+            .whenComplete((usdRates, error) -> {
+                try {
+                    if (error == null) {
+                        onRatesFetched(usdRates);
+                        circuitBreaker.recordSuccess();
+                        sample.stop(refreshTimer("success"));
+                    } else {
+                        circuitBreaker.recordFailure();
+                        refreshFailures.increment();
+                        sample.stop(refreshTimer("failure"));
+                        log.warn("Failed to fetch live exchange rates: {}. Serving rates version {}.",
+                            (error instanceof CompletionException && error.getCause() != null
+                                ? error.getCause() : error).toString(),
+                            current.get().getVersion());
+                        expireIfStale();
                     }
+                } finally {
+                    refreshInFlight.set(false);
                 }
-                
-                lastFetched = LocalDateTime.now();
-                useLiveRates = true;
-                log.info("Live exchange rates updated successfully. USD/EUR: {}, USD/GBP: {}", 
-                    liveRates.get("USD_EUR"), liveRates.get("USD_GBP"));
+            });
+    }
+    
+    private void onRatesFetched(Map<Currency, BigDecimal> usdRates) {
+        RateSnapshot.Builder builder = RateSnapshot.builder(
+            versions.incrementAndGet(), SOURCE_LIVE, LocalDateTime.now());
+        for (Currency from : Currency.values()) {
+            for (Currency to : Currency.values()) {
+                builder.rate(from, to, calculateCrossRate(usdRates, from, to));
             }
-        } catch (Exception e) {
-            log.warn("Failed to fetch live exchange rates: {}. Using fallback rates.", e.getMessage());
-            useLiveRates = false;
         }
+        RateSnapshot snapshot = builder.build();
+        publish(snapshot);
+        
+        log.info("Live exchange rates updated successfully (version {}). USD/EUR: {}, USD/GBP: {}", 
+            snapshot.getVersion(),
+            snapshot.getRate(Currency.USD, Currency.EUR),
+            snapshot.getRate(Currency.USD, Currency.GBP));
+    }
+    
+    /**
+     * Stale-while-revalidate: live rates stay in service until they exceed the staleness budget.
+     */
+    private void expireIfStale() {
+        RateSnapshot snapshot = current.get();
+        if (SOURCE_LIVE.equals(snapshot.getSource())
+                && Duration.between(snapshot.getFetchedAt(), LocalDateTime.now()).toMillis() > maxStaleMs) {
+            log.warn("Live exchange rates version {} older than {} ms. Using fallback rates.",
+                snapshot.getVersion(), maxStaleMs);
+            publish(staticSnapshot(versions.incrementAndGet()));
+        }
+    }
+    
+    private Timer refreshTimer(String outcome) {
+        return Timer.builder("fx.refresh.latency")
+            .description("FX rate refresh latency")
+            .tag("provider", provider.getName())
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+    
+    private double getRatesAgeSeconds() {
+        RateSnapshot snapshot = current.get();
+        if (snapshot.getFetchedAt() == null) {
+            return -1;
+        }
+        return Duration.between(snapshot.getFetchedAt(), LocalDateTime.now()).toMillis() / 1000.0;
     }
     
-    private BigDecimal calculateCrossRate(Map<String, Double> usdRates, String from, String to) {
-        if (from.equals(to)) {
+    private BigDecimal calculateCrossRate(Map<Currency, BigDecimal> usdRates, Currency from, Currency to) {
+        if (from == to) {
             return BigDecimal.ONE;
         }
         
-        Double fromRate = from.equals("USD") ? 1.0 : usdRates.get(from);
-        Double toRate = to.equals("USD") ? 1.0 : usdRates.get(to);
+        BigDecimal fromRate = from == Currency.USD ? BigDecimal.ONE : usdRates.get(from);
+        BigDecimal toRate = to == Currency.USD ? BigDecimal.ONE : usdRates.get(to);
         
         if (fromRate == null || toRate == null) {
             // Fallback for unsupported currencies
-            return STATIC_RATES.getOrDefault(from + "_" + to, BigDecimal.ONE);
+            return STATIC_RATES.get(from).get(to);
         }
         
         // Cross rate: to_USD / from_USD
-        double crossRate = toRate / fromRate;
-        return BigDecimal.valueOf(crossRate).setScale(6, RoundingMode.HALF_UP);
+        return toRate.divide(fromRate, 6, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The snapshot in effect right now. Read it once and use it for both the
+     * quoted rate and the conversion, so a refresh in between cannot mix versions.
+     */
+    public RateSnapshot getSnapshot() {
+        return current.get();
     }
 
     public BigDecimal getExchangeRate(Currency from, Currency to) {
-        String key = from.name() + "_" + to.name();
-        
-        // Use live rates if available and recent
-        if (useLiveRates && liveRates.containsKey(key)) {
-            return liveRates.get(key);
-        }
-        
-        // Fallback to static rates
-        BigDecimal rate = STATIC_RATES.get(key);
-        if (rate == null) {
-            throw new IllegalArgumentException("Exchange rate not found for " + from + " to " + to);
-        }
-        return rate;
+        return current.get().getRate(from, to);
     }
 
     public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
-        BigDecimal rate = getExchangeRate(from, to);
-        return amount.multiply(rate).setScale(2, RoundingMode.HALF_UP);
+        return current.get().convert(amount, from, to);
     }
-    
 
     public RateInfo getRateInfo() {
+        RateSnapshot snapshot = current.get();
         return new RateInfo(
-            useLiveRates ? "LIVE" : "STATIC",
-            lastFetched,
-            liveRates.isEmpty() ? STATIC_RATES : liveRates
+            snapshot.getSource(),
+            snapshot.getFetchedAt(),
+            snapshot.getVersion(),
+            snapshot.toMap()
         );
     }
     
-    public static class ExchangeRateResponse {
-        public String base;
-        public Map<String, Double> rates;
+    private void publish(RateSnapshot snapshot) {
+        current.set(snapshot);
+        eventPublisher.publishEvent(new ExchangeRatesUpdatedEvent(this, snapshot, LocalDateTime.now()));
+    }
+    
+    private static RateSnapshot staticSnapshot(long version) {
+        RateSnapshot.Builder builder = RateSnapshot.builder(version, SOURCE_STATIC, null);
+        STATIC_RATES.forEach((from, targets) -> targets.forEach((to, rate) -> builder.rate(from, to, rate)));
+        return builder.build();
     }
     
-    public record RateInfo(String source, LocalDateTime lastUpdated, Map<String, BigDecimal> rates) {}
+    public record RateInfo(String source, LocalDateTime lastUpdated, long version, Map<String, BigDecimal> rates) {}
 }
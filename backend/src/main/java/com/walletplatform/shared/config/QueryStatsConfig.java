@@ -0,0 +1,27 @@
+package com.walletplatform.shared.config;
+
+import com.walletplatform.shared.metrics.QueryStatsIntegrator;
+import com.walletplatform.shared.metrics.QueryStatsSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Hooks the per-request query statistics into Hibernate.
+ */
+@Configuration
+public class QueryStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatsSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(new QueryStatsIntegrator()));
+        };
+    }
+}
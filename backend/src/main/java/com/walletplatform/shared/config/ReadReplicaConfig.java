@@ -0,0 +1,95 @@
+package com.walletplatform.shared.config;
+
+import com.walletplatform.shared.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.walletplatform.shared.infrastructure.datasource.ReadYourWritesTracker;
+import com.walletplatform.shared.infrastructure.datasource.ReplicaHealthMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the single connection pool with a primary and a read replica pool.
+ *
+ * Read-only transactions go to the replica (see {@link ReadWriteRoutingDataSource}); writes,
+ * schema management and non-transactional work stay on the primary from {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource-routing.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${datasource-routing.replica.url}") String url,
+                                              @Value("${datasource-routing.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${datasource-routing.replica.password:${spring.datasource.password:}}") String password,
+                                              @Value("${datasource-routing.replica.pool-size:10}") int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                                     @Qualifier("replicaDataSource") DataSource replica,
+                                                     @Value("${datasource-routing.replica.max-lag-ms:1000}") long maxLagMs,
+                                                     @Value("${datasource-routing.replica.lag-check-interval-ms:1000}") long checkIntervalMs,
+                                                     MeterRegistry registry) {
+        return new ReplicaHealthMonitor(primary, replica, maxLagMs, checkIntervalMs, registry);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource-routing.sticky-window-ms:5000}") long stickyWindowMs) {
+        return new ReadYourWritesTracker(stickyWindowMs);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaHealthMonitor replicaHealthMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 MeterRegistry registry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+            primary, replica, replicaHealthMonitor, readYourWritesTracker, registry));
+    }
+
+    /**
+     * Spring holds a session's connection until the session closes, which with open-in-view is the
+     * whole request: whichever pool served the first transaction would serve all later ones too.
+     * Releasing it after each transaction lets every transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,9 @@
+package com.walletplatform.shared.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.walletplatform.BalanceCalculation")
+@Label("Balance Calculation")
+public class BalanceCalculationEvent extends WalletDiagnosticEvent {
+}
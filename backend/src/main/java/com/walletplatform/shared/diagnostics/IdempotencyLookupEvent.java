@@ -0,0 +1,39 @@
+package com.walletplatform.shared.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.walletplatform.IdempotencyLookup")
+@Label("Idempotency Lookup")
+@Category({"Wallet Platform", "Money Movement"})
+@StackTrace(false)
+public class IdempotencyLookupEvent extends Event {
+
+    public static final String HIT = "HIT";
+    public static final String MISS = "MISS";
+
+    @Label("Result Type")
+    String resultType;
+
+    @Label("Outcome")
+    String outcome;
+
+    public IdempotencyLookupEvent start(Class<?> resultType) {
+        begin();
+        if (isEnabled()) {
+            this.resultType = resultType.getSimpleName();
+        }
+        return this;
+    }
+
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.walletplatform.shared.diagnostics;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controls one bounded, continuous Flight Recorder recording for on-demand diagnostics.
+ *
+ * The recording uses the JDK "default" settings plus the wallet platform events,
+ * and is capped by age and size so it can be left running. Dumps snapshot the
+ * current contents without stopping it.
+ */
+@Service
+public class JfrRecordingService {
+
+    private static final Logger log = LoggerFactory.getLogger(JfrRecordingService.class);
+
+    private static final String RECORDING_NAME = "wallet-platform";
+    private static final List<Class<? extends jdk.jfr.Event>> EVENT_TYPES = List.of(
+        TransferEvent.class, TopUpEvent.class, WithdrawalEvent.class,
+        BalanceCalculationEvent.class, WalletLockEvent.class, IdempotencyLookupEvent.class
+    );
+
+    private final Duration defaultMaxAge;
+    private final long defaultMaxSizeBytes;
+    private final Duration maxAgeLimit;
+    private final long maxSizeLimitBytes;
+
+    private Recording recording;
+
+    public JfrRecordingService(@Value("${diagnostics.jfr.max-age-minutes:30}") long defaultMaxAgeMinutes,
+                               @Value("${diagnostics.jfr.max-size-mb:100}") long defaultMaxSizeMb,
+                               @Value("${diagnostics.jfr.max-age-limit-minutes:240}") long maxAgeLimitMinutes,
+                               @Value("${diagnostics.jfr.max-size-limit-mb:500}") long maxSizeLimitMb) {
+        this.defaultMaxAge = Duration.ofMinutes(defaultMaxAgeMinutes);
+        this.defaultMaxSizeBytes = defaultMaxSizeMb * 1024 * 1024;
+        this.maxAgeLimit = Duration.ofMinutes(maxAgeLimitMinutes);
+        this.maxSizeLimitBytes = maxSizeLimitMb * 1024 * 1024;
+    }
+
+    /**
+     * Starts the recording, or returns the status of the one already running.
+     * Requested bounds are clamped to the configured limits.
+     */
+    public synchronized Map<String, Object> start(Long maxAgeMinutes, Long maxSizeMb) {
+        if (isRunning()) {
+            return status();
+        }
+        Duration maxAge = maxAgeMinutes != null ? Duration.ofMinutes(maxAgeMinutes) : defaultMaxAge;
+        long maxSize = maxSizeMb != null ? maxSizeMb * 1024 * 1024 : defaultMaxSizeBytes;
+        if (maxAge.isNegative() || maxAge.isZero() || maxSize <= 0) {
+            throw new IllegalArgumentException("Recording bounds must be positive");
+        }
+
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR default configuration", e);
+        }
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge.compareTo(maxAgeLimit) > 0 ? maxAgeLimit : maxAge);
+        recording.setMaxSize(Math.min(maxSize, maxSizeLimitBytes));
+        for (Class<? extends jdk.jfr.Event> type : EVENT_TYPES) {
+            recording.enable(type).withoutStackTrace();
+        }
+        recording.start();
+        log.info("Started JFR recording '{}' (max age {}, max size {} bytes)",
+            RECORDING_NAME, recording.getMaxAge(), recording.getMaxSize());
+        return status();
+    }
+
+    /**
+     * Writes the current contents of the running recording to a temporary file.
+     * The caller owns the file and must delete it.
+     */
+    public synchronized Path dump() {
+        if (!isRunning()) {
+            throw new IllegalStateException("No JFR recording is running");
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording", e);
+        }
+    }
+
+    public synchronized Map<String, Object> stop() {
+        if (recording != null) {
+            recording.close();
+            log.info("Stopped JFR recording '{}'", RECORDING_NAME);
+            recording = null;
+        }
+        return status();
+    }
+
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", isRunning());
+        if (recording != null) {
+            status.put("name", recording.getName());
+            status.put("state", recording.getState().name());
+            Instant startTime = recording.getStartTime();
+            status.put("startedAt", startTime);
+            status.put("maxAgeMinutes", recording.getMaxAge().toMinutes());
+            status.put("maxSizeMb", recording.getMaxSize() / (1024 * 1024));
+            status.put("sizeBytes", recording.getSize());
+        }
+        return status;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+
+    private boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+}
@@ -0,0 +1,9 @@
+package com.walletplatform.shared.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.walletplatform.TopUp")
+@Label("Top-Up")
+public class TopUpEvent extends WalletDiagnosticEvent {
+}
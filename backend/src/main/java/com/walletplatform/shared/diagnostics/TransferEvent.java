@@ -0,0 +1,9 @@
+package com.walletplatform.shared.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.walletplatform.Transfer")
+@Label("Transfer")
+public class TransferEvent extends WalletDiagnosticEvent {
+}
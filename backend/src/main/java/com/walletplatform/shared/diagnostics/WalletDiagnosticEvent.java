@@ -0,0 +1,106 @@
+package com.walletplatform.shared.diagnostics;
+
+import com.walletplatform.wallet.domain.Currency;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Common fields of the Flight Recorder events emitted on money-movement paths.
+ *
+ * Wallet ids are recorded as {@link #hashWalletId(UUID) keyed hashes} so recordings
+ * can be shared without exposing them; amounts only as an order-of-magnitude bucket.
+ * Fields are filled only while the event type is enabled in a recording.
+ */
+@Category({"Wallet Platform", "Money Movement"})
+@StackTrace(false)
+public abstract class WalletDiagnosticEvent extends Event {
+
+    public static final String SUCCESS = "SUCCESS";
+
+    private static final String[] AMOUNT_BUCKETS = {
+        "<1", "1-10", "10-100", "100-1K", "1K-10K", "10K-100K", "100K-1M", "1M+"
+    };
+
+    @Label("Wallet")
+    @Description("Hashed id of the (source) wallet")
+    long wallet;
+
+    @Label("Counterparty Wallet")
+    @Description("Hashed id of the target wallet, 0 when there is none")
+    long counterpartyWallet;
+
+    @Label("Amount Bucket")
+    String amountBucket;
+
+    @Label("Currency Pair")
+    String currencyPair;
+
+    @Label("Outcome")
+    @Description("SUCCESS, or what the operation ended with")
+    String outcome;
+
+    /**
+     * Begins timing and records the wallet and amount if this event type is being recorded.
+     */
+    public WalletDiagnosticEvent start(UUID walletId, UUID counterpartyWalletId, BigDecimal amount) {
+        begin();
+        if (isEnabled()) {
+            this.wallet = hashWalletId(walletId);
+            this.counterpartyWallet = hashWalletId(counterpartyWalletId);
+            this.amountBucket = amountBucket(amount);
+        }
+        return this;
+    }
+
+    public void currencies(Currency from, Currency to) {
+        if (isEnabled()) {
+            this.currencyPair = to == null || to == from ? from.name() : from.name() + "/" + to.name();
+        }
+    }
+
+    public void amount(BigDecimal amount) {
+        if (isEnabled()) {
+            this.amountBucket = amountBucket(amount);
+        }
+    }
+
+    public void succeed() {
+        finish(SUCCESS);
+    }
+
+    public void fail(Throwable failure) {
+        finish(failure.getClass().getSimpleName());
+    }
+
+    public void finish(String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            commit();
+        }
+    }
+
+    /**
+     * HMAC of a wallet id under the deployment's secret, see {@link WalletIdHasher}; 0 for null.
+     */
+    public static long hashWalletId(UUID walletId) {
+        return WalletIdHasher.hash(walletId);
+    }
+
+    static String amountBucket(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        if (amount.signum() <= 0) {
+            return "0";
+        }
+        int integerDigits = amount.precision() - amount.scale();
+        return AMOUNT_BUCKETS[Math.max(0, Math.min(integerDigits, AMOUNT_BUCKETS.length - 1))];
+    }
+}
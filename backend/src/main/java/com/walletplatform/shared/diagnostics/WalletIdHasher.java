@@ -0,0 +1,83 @@
+package com.walletplatform.shared.diagnostics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Keyed digest wallet ids are recorded under in Flight Recorder events.
+ *
+ * HMAC-SHA256 with the per-deployment {@code diagnostics.wallet-hash-secret}, truncated to 64 bits:
+ * without the secret a recorded hash cannot be matched to a wallet id, not even by hashing
+ * candidate ids. Events are created outside Spring, so the key is held statically and installed
+ * when this bean is created. With no secret configured a random key is used, and hashes only
+ * line up within one process.
+ */
+@Component
+public class WalletIdHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(WalletIdHasher.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static volatile SecretKeySpec key = randomKey();
+
+    // Mac is not thread-safe; each thread keeps one, re-initialised if the key changed
+    private static final ThreadLocal<KeyedMac> MACS = new ThreadLocal<>();
+
+    public WalletIdHasher(@Value("${diagnostics.wallet-hash-secret:}") String secret) {
+        if (secret.isBlank()) {
+            log.warn("diagnostics.wallet-hash-secret is not set; recorded wallet hashes use a random key "
+                + "and cannot be matched across restarts or instances");
+            return;
+        }
+        key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Keyed 64-bit digest of a wallet id; 0 for null.
+     */
+    public static long hash(UUID walletId) {
+        if (walletId == null) {
+            return 0;
+        }
+        byte[] id = ByteBuffer.allocate(16)
+            .putLong(walletId.getMostSignificantBits())
+            .putLong(walletId.getLeastSignificantBits())
+            .array();
+        return ByteBuffer.wrap(mac().doFinal(id)).getLong();
+    }
+
+    private static Mac mac() {
+        SecretKeySpec current = key;
+        KeyedMac cached = MACS.get();
+        if (cached == null || cached.key() != current) {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(current);
+                cached = new KeyedMac(current, mac);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 is not available", e);
+            }
+            MACS.set(cached);
+        }
+        return cached.mac();
+    }
+
+    private static SecretKeySpec randomKey() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        return new SecretKeySpec(bytes, ALGORITHM);
+    }
+
+    private record KeyedMac(SecretKeySpec key, Mac mac) {}
+}
@@ -0,0 +1,30 @@
+package com.walletplatform.shared.diagnostics;
+
+import com.walletplatform.wallet.domain.Wallet;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Name("com.walletplatform.WalletLock")
+@Label("Wallet Lock Acquisition")
+public class WalletLockEvent extends WalletDiagnosticEvent {
+
+    /**
+     * Runs a pessimistic wallet lookup, recording how long it waited for the row lock.
+     */
+    public static Optional<Wallet> acquire(UUID walletId, Supplier<Optional<Wallet>> lock) {
+        WalletLockEvent event = new WalletLockEvent();
+        event.start(walletId, null, null);
+        try {
+            Optional<Wallet> wallet = lock.get();
+            event.finish(wallet.isPresent() ? SUCCESS : "NOT_FOUND");
+            return wallet;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.walletplatform.shared.diagnostics;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.walletplatform.Withdrawal")
+@Label("Withdrawal")
+public class WithdrawalEvent extends WalletDiagnosticEvent {
+}
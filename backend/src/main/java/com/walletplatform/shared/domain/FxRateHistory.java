@@ -0,0 +1,63 @@
+package com.walletplatform.shared.domain;
+
+import com.walletplatform.wallet.domain.Currency;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One exchange rate for one currency pair, as published by one rate refresh.
+ * Rows are append-only.
+ */
+@Entity
+@Table(name = "fx_rate_history", indexes = {
+    @Index(name = "idx_fx_history_pair_time", columnList = "base_currency, quote_currency, effective_at"),
+    @Index(name = "idx_fx_history_time", columnList = "effective_at")
+})
+public class FxRateHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "base_currency", nullable = false, length = 3)
+    private Currency baseCurrency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "quote_currency", nullable = false, length = 3)
+    private Currency quoteCurrency;
+
+    @Column(nullable = false, precision = 10, scale = 6)
+    private BigDecimal rate;
+
+    @Column(nullable = false)
+    private long snapshotVersion;
+
+    @Column(nullable = false, length = 16)
+    private String source;
+
+    @Column(name = "effective_at", nullable = false)
+    private LocalDateTime effectiveAt;
+
+    public FxRateHistory() {}
+
+    public FxRateHistory(Currency baseCurrency, Currency quoteCurrency, BigDecimal rate,
+                         long snapshotVersion, String source, LocalDateTime effectiveAt) {
+        this.baseCurrency = baseCurrency;
+        this.quoteCurrency = quoteCurrency;
+        this.rate = rate;
+        this.snapshotVersion = snapshotVersion;
+        this.source = source;
+        this.effectiveAt = effectiveAt;
+    }
+
+    public Long getId() { return id; }
+    public Currency getBaseCurrency() { return baseCurrency; }
+    public Currency getQuoteCurrency() { return quoteCurrency; }
+    public BigDecimal getRate() { return rate; }
+    public long getSnapshotVersion() { return snapshotVersion; }
+    public String getSource() { return source; }
+    public LocalDateTime getEffectiveAt() { return effectiveAt; }
+}
@@ -0,0 +1,46 @@
+package com.walletplatform.shared.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * How far a read-model projector has verifiably caught up with the ledger.
+ */
+@Entity
+@Table(name = "projection_checkpoints")
+public class ProjectionCheckpoint {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    // Creation time of the newest ledger entry the projection is known to include
+    private LocalDateTime position;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected ProjectionCheckpoint() {}
+
+    public ProjectionCheckpoint(String name) {
+        this.name = name;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advanceTo(LocalDateTime position) {
+        if (position != null && (this.position == null || position.isAfter(this.position))) {
+            this.position = position;
+        }
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void reset(LocalDateTime position) {
+        this.position = position;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getName() { return name; }
+    public LocalDateTime getPosition() { return position; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,112 @@
+package com.walletplatform.shared.domain;
+
+import com.walletplatform.wallet.domain.Currency;
+import com.walletplatform.wallet.domain.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of exchange rates for every currency pair.
+ *
+ * Rates live in a flat matrix indexed by {@code Currency.ordinal()}, so a lookup
+ * is two array reads with no key building. Each published snapshot carries a
+ * strictly increasing version that transactions record for auditing.
+ * Rates are also kept in {@link Money} fixed-point form for the transfer path.
+ */
+public final class RateSnapshot {
+
+    private static final int CURRENCY_COUNT = Currency.values().length;
+
+    private final long version;
+    private final String source;
+    private final LocalDateTime fetchedAt;
+    private final BigDecimal[] rates;
+    private final long[] rateMicros;
+
+    private RateSnapshot(long version, String source, LocalDateTime fetchedAt, BigDecimal[] rates) {
+        this.version = version;
+        this.source = source;
+        this.fetchedAt = fetchedAt;
+        this.rates = rates;
+        this.rateMicros = new long[rates.length];
+        for (int i = 0; i < rates.length; i++) {
+            rateMicros[i] = Money.toRateMicros(rates[i]);
+        }
+    }
+
+    public long getVersion() { return version; }
+    public String getSource() { return source; }
+    public LocalDateTime getFetchedAt() { return fetchedAt; }
+
+    public BigDecimal getRate(Currency from, Currency to) {
+        return rates[from.ordinal() * CURRENCY_COUNT + to.ordinal()];
+    }
+
+    public BigDecimal convert(BigDecimal amount, Currency from, Currency to) {
+        return amount.multiply(getRate(from, to)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Converts with the fixed-point rate, rounding half up to the target's minor units.
+     */
+    public Money convert(Money amount, Currency to) {
+        if (amount.getCurrency() == to) {
+            return amount;
+        }
+        return amount.convert(to, rateMicros[amount.getCurrency().ordinal() * CURRENCY_COUNT + to.ordinal()],
+            RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Rates keyed as {@code FROM_TO}, for display only.
+     */
+    public Map<String, BigDecimal> toMap() {
+        Map<String, BigDecimal> map = new LinkedHashMap<>();
+        for (Currency from : Currency.values()) {
+            for (Currency to : Currency.values()) {
+                map.put(from.name() + "_" + to.name(), getRate(from, to));
+            }
+        }
+        return map;
+    }
+
+    public static Builder builder(long version, String source, LocalDateTime fetchedAt) {
+        return new Builder(version, source, fetchedAt);
+    }
+
+    public static class Builder {
+        private final long version;
+        private final String source;
+        private final LocalDateTime fetchedAt;
+        private final BigDecimal[] rates = new BigDecimal[CURRENCY_COUNT * CURRENCY_COUNT];
+
+        private Builder(long version, String source, LocalDateTime fetchedAt) {
+            this.version = version;
+            this.source = source;
+            this.fetchedAt = fetchedAt;
+        }
+
+        public Builder rate(Currency from, Currency to, BigDecimal rate) {
+            rates[from.ordinal() * CURRENCY_COUNT + to.ordinal()] = rate;
+            return this;
+        }
+
+        public RateSnapshot build() {
+            for (Currency from : Currency.values()) {
+                for (Currency to : Currency.values()) {
+                    int index = from.ordinal() * CURRENCY_COUNT + to.ordinal();
+                    if (from == to) {
+                        rates[index] = BigDecimal.ONE;
+                    } else if (rates[index] == null) {
+                        throw new IllegalStateException("Missing exchange rate for " + from + " to " + to);
+                    }
+                }
+            }
+            return new RateSnapshot(version, source, fetchedAt, rates.clone());
+        }
+    }
+}
@@ -15,6 +15,7 @@ public class TransactionResponse {
     private BigDecimal convertedAmount;
     private String targetCurrency;
     private BigDecimal exchangeRate;
+    private Long exchangeRateVersion;
     private String description;
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
@@ -41,6 +42,8 @@ public class TransactionResponse {
     public void setTargetCurrency(String targetCurrency) { this.targetCurrency = targetCurrency; }
     public BigDecimal getExchangeRate() { return exchangeRate; }
     public void setExchangeRate(BigDecimal exchangeRate) { this.exchangeRate = exchangeRate; }
+    public Long getExchangeRateVersion() { return exchangeRateVersion; }
+    public void setExchangeRateVersion(Long exchangeRateVersion) { this.exchangeRateVersion = exchangeRateVersion; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -62,6 +65,7 @@ public class TransactionResponse {
         public Builder convertedAmount(BigDecimal convertedAmount) { r.convertedAmount = convertedAmount; return this; }
         public Builder targetCurrency(String targetCurrency) { r.targetCurrency = targetCurrency; return this; }
         public Builder exchangeRate(BigDecimal exchangeRate) { r.exchangeRate = exchangeRate; return this; }
+        public Builder exchangeRateVersion(Long exchangeRateVersion) { r.exchangeRateVersion = exchangeRateVersion; return this; }
         public Builder description(String description) { r.description = description; return this; }
         public Builder createdAt(LocalDateTime createdAt) { r.createdAt = createdAt; return this; }
         public Builder completedAt(LocalDateTime completedAt) { r.completedAt = completedAt; return this; }
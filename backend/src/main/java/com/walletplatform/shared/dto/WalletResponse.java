@@ -14,6 +14,8 @@ public class WalletResponse {
     private BigDecimal remainingDailyLimit;
     private boolean active;
     private LocalDateTime createdAt;
+    private Long transactionCount;
+    private LocalDateTime lastTransactionAt;
 
     public WalletResponse() {}
 
@@ -35,6 +37,10 @@ public class WalletResponse {
     public void setActive(boolean active) { this.active = active; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    public Long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(Long transactionCount) { this.transactionCount = transactionCount; }
+    public LocalDateTime getLastTransactionAt() { return lastTransactionAt; }
+    public void setLastTransactionAt(LocalDateTime lastTransactionAt) { this.lastTransactionAt = lastTransactionAt; }
 
     public static Builder builder() { return new Builder(); }
 
@@ -49,6 +55,8 @@ public class WalletResponse {
         public Builder remainingDailyLimit(BigDecimal remainingDailyLimit) { response.remainingDailyLimit = remainingDailyLimit; return this; }
         public Builder active(boolean active) { response.active = active; return this; }
         public Builder createdAt(LocalDateTime createdAt) { response.createdAt = createdAt; return this; }
+        public Builder transactionCount(Long transactionCount) { response.transactionCount = transactionCount; return this; }
+        public Builder lastTransactionAt(LocalDateTime lastTransactionAt) { response.lastTransactionAt = lastTransactionAt; return this; }
         public WalletResponse build() { return response; }
     }
 }
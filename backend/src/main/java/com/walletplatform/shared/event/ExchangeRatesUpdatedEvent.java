@@ -0,0 +1,24 @@
+package com.walletplatform.shared.event;
+
+import com.walletplatform.shared.domain.RateSnapshot;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever a new rate snapshot takes effect.
+ */
+public class ExchangeRatesUpdatedEvent extends ApplicationEvent {
+
+    private final RateSnapshot snapshot;
+    private final LocalDateTime effectiveAt;
+
+    public ExchangeRatesUpdatedEvent(Object source, RateSnapshot snapshot, LocalDateTime effectiveAt) {
+        super(source);
+        this.snapshot = snapshot;
+        this.effectiveAt = effectiveAt;
+    }
+
+    public RateSnapshot getSnapshot() { return snapshot; }
+    public LocalDateTime getEffectiveAt() { return effectiveAt; }
+}
@@ -1,6 +1,7 @@
 package com.walletplatform.shared.event;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 public class LedgerEntriesCreatedEvent extends DomainEvent {
@@ -9,15 +10,17 @@ public class LedgerEntriesCreatedEvent extends DomainEvent {
     private final int entryCount;
     private final BigDecimal totalAmount;
     private final String operationType;
+    private final List<UUID> walletIds;
     
     public LedgerEntriesCreatedEvent(UUID correlationId, UUID transactionId,
                                       int entryCount, BigDecimal totalAmount,
-                                      String operationType) {
+                                      String operationType, List<UUID> walletIds) {
         super(correlationId);
         this.transactionId = transactionId;
         this.entryCount = entryCount;
         this.totalAmount = totalAmount;
         this.operationType = operationType;
+        this.walletIds = walletIds;
     }
     
     @Override
@@ -27,4 +30,5 @@ public class LedgerEntriesCreatedEvent extends DomainEvent {
     public int getEntryCount() { return entryCount; }
     public BigDecimal getTotalAmount() { return totalAmount; }
     public String getOperationType() { return operationType; }
+    public List<UUID> getWalletIds() { return walletIds; }
 }
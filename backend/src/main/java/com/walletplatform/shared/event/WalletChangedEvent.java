@@ -0,0 +1,23 @@
+package com.walletplatform.shared.event;
+
+import java.util.UUID;
+
+/**
+ * A wallet's own settings changed without any ledger activity (created, daily limit updated).
+ */
+public class WalletChangedEvent extends DomainEvent {
+    
+    private final UUID walletId;
+    private final String change;
+    
+    public WalletChangedEvent(UUID walletId, String change) {
+        this.walletId = walletId;
+        this.change = change;
+    }
+    
+    @Override
+    public String getEventType() { return "WALLET_CHANGED"; }
+    
+    public UUID getWalletId() { return walletId; }
+    public String getChange() { return change; }
+}
@@ -0,0 +1,128 @@
+package com.walletplatform.shared.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows straight to the response stream, one row at a time.
+ * Nothing is buffered beyond the writer's own buffer, so memory stays flat
+ * regardless of how many rows the underlying cursor yields.
+ *
+ * A failed write (typically the client disconnecting) surfaces as an
+ * IOException, which lets the caller abort the cursor and roll back.
+ */
+public class ExportWriter implements Closeable {
+
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    private final ExportFormat format;
+    private final String[] columns;
+    private final JsonGenerator json;
+    private final Writer csv;
+    private long rowCount;
+
+    public ExportWriter(OutputStream out, ExportFormat format, ObjectMapper objectMapper,
+                        String... columns) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        if (format == ExportFormat.NDJSON) {
+            this.json = objectMapper.getFactory().createGenerator(out);
+            this.json.setCodec(objectMapper);
+            this.json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.json.setRootValueSeparator(null);
+            this.csv = null;
+        } else {
+            this.json = null;
+            this.csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeCsvLine(columns);
+        }
+    }
+
+    /**
+     * Write a single row. Values must be given in the same order as the columns.
+     */
+    public void writeRow(Object... values) throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Export cancelled");
+        }
+
+        if (format == ExportFormat.NDJSON) {
+            json.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                json.writeObjectField(columns[i], values[i]);
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } else {
+            writeCsvLine(values);
+        }
+
+        if (++rowCount % FLUSH_EVERY_ROWS == 0) {
+            flush();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public void flush() throws IOException {
+        if (json != null) {
+            json.flush();
+        } else {
+            csv.flush();
+        }
+    }
+
+    /**
+     * Flushes remaining rows. The response stream itself is left open for the container to close.
+     */
+    @Override
+    public void close() throws IOException {
+        if (json != null) {
+            json.close();
+        } else {
+            csv.flush();
+        }
+    }
+
+    private void writeCsvLine(Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            writeCsvValue(values[i]);
+        }
+        csv.write("\r\n");
+    }
+
+    private void writeCsvValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            csv.write(text);
+            return;
+        }
+        csv.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                csv.write('"');
+            }
+            csv.write(c);
+        }
+        csv.write('"');
+    }
+}
@@ -0,0 +1,33 @@
+package com.walletplatform.shared.infrastructure;
+
+import com.walletplatform.shared.domain.FxRateHistory;
+import com.walletplatform.wallet.domain.Currency;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FxRateHistoryRepository extends JpaRepository<FxRateHistory, Long> {
+
+    /**
+     * The rate in effect for a pair at the given time.
+     */
+    Optional<FxRateHistory> findFirstByBaseCurrencyAndQuoteCurrencyAndEffectiveAtLessThanEqualOrderByEffectiveAtDesc(
+        Currency baseCurrency, Currency quoteCurrency, LocalDateTime at);
+
+    List<FxRateHistory> findByBaseCurrencyAndQuoteCurrencyAndEffectiveAtBetweenOrderByEffectiveAtAsc(
+        Currency baseCurrency, Currency quoteCurrency, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    List<FxRateHistory> findByEffectiveAtGreaterThanEqualOrderByEffectiveAtAsc(LocalDateTime since);
+
+    /**
+     * Highest snapshot version ever recorded, or 0 on an empty history.
+     */
+    @Query("SELECT COALESCE(MAX(h.snapshotVersion), 0) FROM FxRateHistory h")
+    long findMaxSnapshotVersion();
+}
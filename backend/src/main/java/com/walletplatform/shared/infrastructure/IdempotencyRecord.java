@@ -1,5 +1,6 @@
 package com.walletplatform.shared.infrastructure;
 
+import com.walletplatform.shared.infrastructure.id.UuidV7;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
 
@@ -16,7 +17,7 @@ import java.util.UUID;
 public class IdempotencyRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @Column(name = "idempotency_key", nullable = false, unique = true, length = 128)
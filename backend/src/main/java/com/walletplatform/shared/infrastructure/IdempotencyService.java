@@ -2,6 +2,8 @@ package com.walletplatform.shared.infrastructure;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletplatform.shared.diagnostics.IdempotencyLookupEvent;
+import com.walletplatform.shared.metrics.OperationMetrics;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,10 +19,12 @@ public class IdempotencyService {
 
     private final IdempotencyRepository repository;
     private final ObjectMapper objectMapper;
+    private final OperationMetrics metrics;
 
-    public IdempotencyService(IdempotencyRepository repository, ObjectMapper objectMapper) {
+    public IdempotencyService(IdempotencyRepository repository, ObjectMapper objectMapper, OperationMetrics metrics) {
         this.repository = repository;
         this.objectMapper = objectMapper;
+        this.metrics = metrics;
     }
 
     /**
@@ -30,8 +34,9 @@ public class IdempotencyService {
      */
     @Transactional
     public <T> T executeIdempotent(String idempotencyKey, Class<T> resultType, Supplier<T> operation) {
-        Optional<IdempotencyRecord> existing = repository.findByIdempotencyKey(idempotencyKey);
+        Optional<IdempotencyRecord> existing = lookup(idempotencyKey, resultType);
         if (existing.isPresent()) {
+            metrics.idempotentReplay();
             return deserialize(existing.get().getResultJson(), resultType);
         }
 
@@ -48,6 +53,18 @@ public class IdempotencyService {
         return repository.findByIdempotencyKey(idempotencyKey).isPresent();
     }
 
+    private Optional<IdempotencyRecord> lookup(String idempotencyKey, Class<?> resultType) {
+        IdempotencyLookupEvent event = new IdempotencyLookupEvent().start(resultType);
+        try {
+            Optional<IdempotencyRecord> existing = repository.findByIdempotencyKey(idempotencyKey);
+            event.finish(existing.isPresent() ? IdempotencyLookupEvent.HIT : IdempotencyLookupEvent.MISS);
+            return existing;
+        } catch (RuntimeException e) {
+            event.finish(e.getClass().getSimpleName());
+            throw e;
+        }
+    }
+
     private <T> String serialize(T object) {
         try {
             return objectMapper.writeValueAsString(object);
@@ -0,0 +1,67 @@
+package com.walletplatform.shared.infrastructure;
+
+import com.walletplatform.shared.metrics.RequestQueryStats;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes append-only rows with JDBC batches on the connection of the current Hibernate session.
+ *
+ * The rows join the surrounding transaction but never enter the persistence context: no
+ * snapshot, no dirty check at flush, nothing to evict. Pending entity changes are not flushed:
+ * a caller whose rows reference an entity persisted in the same transaction flushes it first.
+ */
+public final class JdbcBatchInsert {
+
+    private JdbcBatchInsert() {}
+
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    public static <T> void execute(EntityManager entityManager, String sql, List<? extends T> rows,
+                                   int batchSize, RowBinder<T> binder) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (T row : rows) {
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        executeBatch(statement);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    executeBatch(statement);
+                }
+            }
+        });
+    }
+
+    /**
+     * Bind a value that may be null; drivers need the SQL type for a typed null.
+     */
+    public static void setNullable(PreparedStatement statement, int index, Object value, int sqlType)
+            throws SQLException {
+        if (value == null) {
+            statement.setNull(index, sqlType);
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    private static void executeBatch(PreparedStatement statement) throws SQLException {
+        long start = System.nanoTime();
+        statement.executeBatch();
+        RequestQueryStats.directStatementExecuted(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,9 @@
+package com.walletplatform.shared.infrastructure;
+
+import com.walletplatform.shared.domain.ProjectionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProjectionCheckpointRepository extends JpaRepository<ProjectionCheckpoint, String> {
+}
@@ -0,0 +1,6 @@
+package com.walletplatform.shared.infrastructure.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,86 @@
+package com.walletplatform.shared.infrastructure.datasource;
+
+import com.walletplatform.shared.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to the replica and everything else to the primary.
+ *
+ * Reads fall back to the primary while the replica lags beyond its limit, and for a short window
+ * after the calling user committed a write. The decision is taken when a connection is first
+ * needed, so this must sit behind a LazyConnectionDataSourceProxy for the transaction's
+ * read-only flag to be known by then.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaHealthMonitor replicaHealth;
+    private final ReadYourWritesTracker readYourWrites;
+    private final MeterRegistry registry;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaHealthMonitor replicaHealth,
+                                      ReadYourWritesTracker readYourWrites,
+                                      MeterRegistry registry) {
+        this.replicaHealth = replicaHealth;
+        this.readYourWrites = readYourWrites;
+        this.registry = registry;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return route(DataSourceRoute.PRIMARY, "write");
+        }
+        if (!replicaHealth.isUsable()) {
+            return route(DataSourceRoute.PRIMARY, "replica_lag");
+        }
+        UUID userId = currentUserId();
+        if (userId != null && readYourWrites.isSticky(userId)) {
+            return route(DataSourceRoute.PRIMARY, "read_your_writes");
+        }
+        return route(DataSourceRoute.REPLICA, "read");
+    }
+
+    private void trackWrite() {
+        // Only real transactions count; lazy loads after the transaction also arrive here
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        UUID userId = currentUserId();
+        if (userId != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.recordWrite(userId);
+                }
+            });
+        }
+    }
+
+    private DataSourceRoute route(DataSourceRoute route, String reason) {
+        registry.counter("datasource.routing", "target", route.name().toLowerCase(), "reason", reason).increment();
+        return route;
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,36 @@
+package com.walletplatform.shared.infrastructure.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers who committed a write recently, so their reads stay on the primary until
+ * the replica has had time to catch up and they never see their own change disappear.
+ */
+public class ReadYourWritesTracker {
+
+    private final long stickyWindowMs;
+    private final Map<UUID, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyWindowMs) {
+        this.stickyWindowMs = stickyWindowMs;
+    }
+
+    public void recordWrite(UUID userId) {
+        stickyUntil.put(userId, System.currentTimeMillis() + stickyWindowMs);
+    }
+
+    public boolean isSticky(UUID userId) {
+        Long until = stickyUntil.get(userId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.sticky-purge-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        stickyUntil.values().removeIf(until -> until <= now);
+    }
+}
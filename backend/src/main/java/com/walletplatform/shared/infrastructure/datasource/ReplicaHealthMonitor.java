@@ -0,0 +1,144 @@
+package com.walletplatform.shared.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Measures replica lag by writing a heartbeat on the primary and reading it back from the replica.
+ *
+ * Each check reads the replica before writing the next beat, so a replica that keeps up holds
+ * the beat written one interval earlier. Lag is known only to the nearest beat, which is why
+ * the limit may not be shorter than the check interval.
+ *
+ * The replica is only used while its lag is within the limit. It starts out unusable, and any
+ * error reading it (down, schema missing) also takes it out of rotation until the next good check.
+ */
+public class ReplicaHealthMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private static final int HEARTBEAT_ID = 1;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagMs;
+
+    private volatile boolean usable;
+    private volatile long lagMs = -1;
+
+    // Beats written by this instance; until the first one any beat on the replica is someone else's
+    private long lastBeat = Long.MAX_VALUE;
+    private long previousBeat = Long.MAX_VALUE;
+
+    public ReplicaHealthMonitor(DataSource primary, DataSource replica, long maxLagMs, long checkIntervalMs,
+                                MeterRegistry registry) {
+        if (maxLagMs < checkIntervalMs) {
+            throw new IllegalArgumentException("datasource-routing.replica.max-lag-ms (" + maxLagMs
+                + ") must be at least lag-check-interval-ms (" + checkIntervalMs + "); lag is only measured per beat");
+        }
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagMs)
+            .description("Replica lag measured from the heartbeat row, -1 when unknown")
+            .baseUnit("milliseconds")
+            .register(registry);
+        Gauge.builder("datasource.replica.usable", this, m -> m.usable ? 1 : 0)
+            .description("1 while read-only transactions may use the replica")
+            .register(registry);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        boolean wasUsable = usable;
+        try {
+            Long replicaBeat = readHeartbeat(replica);
+            lagMs = replicaBeat == null ? -1 : lagBehind(replicaBeat, now);
+            usable = replicaBeat != null && lagMs <= maxLagMs;
+        } catch (SQLException e) {
+            lagMs = -1;
+            usable = false;
+        }
+
+        if (wasUsable != usable) {
+            if (usable) {
+                log.info("Replica back in rotation (lag {} ms)", lagMs);
+            } else {
+                log.warn("Replica out of rotation (lag {} ms, limit {} ms); read-only transactions use the primary",
+                    lagMs, maxLagMs);
+            }
+        }
+
+        try {
+            writeHeartbeat(now);
+            previousBeat = lastBeat;
+            lastBeat = now;
+        } catch (SQLException e) {
+            // The next check compares against the last beat that was written
+            log.debug("Could not write replication heartbeat: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * How long the oldest write missing on the replica has been committed on the primary.
+     */
+    private long lagBehind(long replicaBeat, long now) {
+        if (replicaBeat >= lastBeat) {
+            return 0;
+        }
+        if (replicaBeat >= previousBeat) {
+            // Only the latest beat is missing
+            return Math.max(0, now - lastBeat);
+        }
+        return Math.max(0, now - replicaBeat);
+    }
+
+    private void writeHeartbeat(long now) throws SQLException {
+        try (Connection con = primary.getConnection()) {
+            con.setAutoCommit(true);
+            try (PreparedStatement update = con.prepareStatement(
+                    "UPDATE replication_heartbeat SET beat_at_ms = ? WHERE id = ?")) {
+                update.setLong(1, now);
+                update.setInt(2, HEARTBEAT_ID);
+                if (update.executeUpdate() > 0) {
+                    return;
+                }
+            }
+            try (PreparedStatement insert = con.prepareStatement(
+                    "INSERT INTO replication_heartbeat (id, beat_at_ms) VALUES (?, ?)")) {
+                insert.setInt(1, HEARTBEAT_ID);
+                insert.setLong(2, now);
+                insert.executeUpdate();
+            }
+        }
+    }
+
+    private static Long readHeartbeat(DataSource dataSource) throws SQLException {
+        try (Connection con = dataSource.getConnection();
+             PreparedStatement select = con.prepareStatement(
+                 "SELECT beat_at_ms FROM replication_heartbeat WHERE id = ?")) {
+            select.setInt(1, HEARTBEAT_ID);
+            try (ResultSet rs = select.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : null;
+            }
+        }
+    }
+}
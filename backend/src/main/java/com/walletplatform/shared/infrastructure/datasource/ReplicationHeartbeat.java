@@ -0,0 +1,22 @@
+package com.walletplatform.shared.infrastructure.datasource;
+
+import jakarta.persistence.*;
+
+/**
+ * Single row the primary rewrites on every lag check; how stale the replica's copy is gives its lag.
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+public class ReplicationHeartbeat {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "beat_at_ms", nullable = false)
+    private long beatAtMs;
+
+    protected ReplicationHeartbeat() {}
+
+    public Integer getId() { return id; }
+    public long getBeatAtMs() { return beatAtMs; }
+}
@@ -0,0 +1,66 @@
+package com.walletplatform.shared.infrastructure.fx;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal consecutive-failure circuit breaker.
+ *
+ * CLOSED lets calls through. After {@code failureThreshold} consecutive failures
+ * it turns OPEN and rejects calls for {@code openMs}. Then one trial call is let
+ * through (HALF_OPEN); success closes the circuit, failure opens it again.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMs;
+    private final LongSupplier clock;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong(-1);
+
+    public CircuitBreaker(int failureThreshold, long openMs) {
+        this(failureThreshold, openMs, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMs, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMs = openMs;
+        this.clock = clock;
+    }
+
+    /**
+     * Whether a call may be attempted now. In HALF_OPEN only the first caller gets through.
+     */
+    public boolean tryAcquire() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        // Re-arm the timer so concurrent callers stay rejected while the trial call runs
+        return now - opened >= openMs && openedAt.compareAndSet(opened, now);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        openedAt.set(-1);
+    }
+
+    public void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt.set(clock.getAsLong());
+        }
+    }
+
+    public State getState() {
+        long opened = openedAt.get();
+        if (opened < 0) {
+            return State.CLOSED;
+        }
+        return clock.getAsLong() - opened >= openMs ? State.HALF_OPEN : State.OPEN;
+    }
+}
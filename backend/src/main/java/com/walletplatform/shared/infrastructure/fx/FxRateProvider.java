@@ -0,0 +1,20 @@
+package com.walletplatform.shared.infrastructure.fx;
+
+import com.walletplatform.wallet.domain.Currency;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Source of live exchange rates.
+ *
+ * Implementations must not block the calling thread; the returned future
+ * completes with the units of each currency per one USD.
+ */
+public interface FxRateProvider {
+
+    String getName();
+
+    CompletableFuture<Map<Currency, BigDecimal>> fetchUsdRates();
+}
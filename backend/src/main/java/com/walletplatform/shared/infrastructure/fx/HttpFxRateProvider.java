@@ -0,0 +1,93 @@
+package com.walletplatform.shared.infrastructure.fx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletplatform.wallet.domain.Currency;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fetches USD-based rates from an HTTP endpoint shaped like
+ * {@code {"base": "USD", "rates": {"EUR": 0.92, ...}}}.
+ */
+@Component
+@ConditionalOnProperty(name = "exchange-rate.provider", havingValue = "http", matchIfMissing = true)
+public class HttpFxRateProvider implements FxRateProvider {
+
+    private final URI apiUrl;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+
+    public HttpFxRateProvider(@Value("${exchange-rate.api.url}") String apiUrl,
+                              @Value("${exchange-rate.timeout-ms:5000}") long timeoutMs,
+                              ObjectMapper objectMapper) {
+        this.apiUrl = URI.create(apiUrl);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return "http";
+    }
+
+    @Override
+    public CompletableFuture<Map<Currency, BigDecimal>> fetchUsdRates() {
+        HttpRequest request = HttpRequest.newBuilder(apiUrl)
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("FX provider returned HTTP " + response.statusCode());
+                    }
+                    return parse(response.body());
+                });
+    }
+
+    private Map<Currency, BigDecimal> parse(byte[] body) {
+        ExchangeRateResponse response;
+        try {
+            response = objectMapper.readValue(body, ExchangeRateResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable FX provider response", e);
+        }
+        if (response.rates == null) {
+            throw new IllegalStateException("FX provider response has no rates");
+        }
+
+        Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            Double rate = currency == Currency.USD ? Double.valueOf(1.0) : response.rates.get(currency.name());
+            if (rate != null) {
+                rates.put(currency, BigDecimal.valueOf(rate));
+            }
+        }
+        return rates;
+    }
+
+    public static class ExchangeRateResponse {
+        public String base;
+        public Map<String, Double> rates;
+    }
+}
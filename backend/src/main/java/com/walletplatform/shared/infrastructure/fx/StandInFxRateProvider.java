@@ -0,0 +1,82 @@
+package com.walletplatform.shared.infrastructure.fx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletplatform.wallet.domain.Currency;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Local stand-in for offline and test environments.
+ *
+ * Reads rates from {@code exchange-rate.stand-in.file} (same JSON shape as the
+ * HTTP provider) on every fetch, so the file can be edited while running.
+ * Without a file it serves a fixed in-memory table.
+ */
+@Component
+@ConditionalOnProperty(name = "exchange-rate.provider", havingValue = "stand-in")
+public class StandInFxRateProvider implements FxRateProvider {
+
+    private static final Map<Currency, BigDecimal> DEFAULT_RATES = Map.of(
+        Currency.USD, BigDecimal.ONE,
+        Currency.EUR, new BigDecimal("0.92"),
+        Currency.GBP, new BigDecimal("0.79")
+    );
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public StandInFxRateProvider(@Value("${exchange-rate.stand-in.file:}") String file, ObjectMapper objectMapper) {
+        this.file = file.isBlank() ? null : Path.of(file);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * In-memory stand-in with the default table.
+     */
+    public StandInFxRateProvider() {
+        this("", new ObjectMapper());
+    }
+
+    @Override
+    public String getName() {
+        return "stand-in";
+    }
+
+    @Override
+    public CompletableFuture<Map<Currency, BigDecimal>> fetchUsdRates() {
+        if (file == null) {
+            return CompletableFuture.completedFuture(DEFAULT_RATES);
+        }
+        try {
+            HttpFxRateProvider.ExchangeRateResponse response =
+                objectMapper.readValue(Files.readAllBytes(file), HttpFxRateProvider.ExchangeRateResponse.class);
+            if (response.rates == null) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Stand-in rates " + file + " have no rates"));
+            }
+            Map<Currency, BigDecimal> rates = new EnumMap<>(Currency.class);
+            rates.put(Currency.USD, BigDecimal.ONE);
+            response.rates.forEach((code, rate) -> {
+                for (Currency currency : Currency.values()) {
+                    if (currency.name().equals(code)) {
+                        rates.put(currency, BigDecimal.valueOf(rate));
+                    }
+                }
+            });
+            return CompletableFuture.completedFuture(rates);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new UncheckedIOException("Cannot read stand-in rates " + file, e));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.walletplatform.shared.infrastructure.id;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * The order the database sorts UUID columns in: unsigned, most significant bits first.
+ *
+ * {@link UUID#compareTo} compares the halves as signed longs, so ids on either side of the
+ * sign bit sort the other way round. Anything that must agree with an {@code ORDER BY id},
+ * a {@code BETWEEN} range or the order rows are locked in uses this instead.
+ */
+public final class DatabaseUuidOrder {
+
+    public static final Comparator<UUID> COMPARATOR = DatabaseUuidOrder::compare;
+
+    private DatabaseUuidOrder() {}
+
+    public static int compare(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
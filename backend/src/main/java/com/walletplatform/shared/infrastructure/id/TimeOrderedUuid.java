@@ -0,0 +1,35 @@
+package com.walletplatform.shared.infrastructure.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp, a 12-bit counter and
+ * 62 random bits.
+ *
+ * Ids sort by creation time, so primary key inserts append to the right-hand edge of the
+ * index instead of landing on a random page. The counter keeps ids from this JVM strictly
+ * increasing, even within one millisecond; when it runs out the timestamp borrows the next
+ * millisecond.
+ */
+public final class TimeOrderedUuid {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Millisecond timestamp << 12 | counter of the last id handed out
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private TimeOrderedUuid() {}
+
+    public static UUID next() {
+        long now = System.currentTimeMillis() << 12;
+        long state = LAST.updateAndGet(last -> Math.max(now, last + 1));
+
+        long timestamp = state >>> 12;
+        long counter = state & 0xFFFL;
+        long mostSignificant = (timestamp << 16) | 0x7000L | counter;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+}
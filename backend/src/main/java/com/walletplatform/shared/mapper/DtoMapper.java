@@ -6,6 +6,7 @@ import com.walletplatform.shared.dto.WalletResponse;
 import com.walletplatform.transaction.domain.Transaction;
 import com.walletplatform.identity.domain.User;
 import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.domain.WalletView;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -39,6 +40,22 @@ public class DtoMapper {
                 .build();
     }
 
+    public WalletResponse toWalletResponse(WalletView view) {
+        return WalletResponse.builder()
+                .id(view.getWalletId())
+                .currency(view.getCurrency().name())
+                .currencySymbol(view.getCurrency().getSymbol())
+                .balance(view.getBalance())
+                .dailyLimit(view.getDailyLimit())
+                .spentToday(view.getSpentToday())
+                .remainingDailyLimit(view.getRemainingDailyLimit())
+                .active(view.isActive())
+                .createdAt(view.getCreatedAt())
+                .transactionCount(view.getTransactionCount())
+                .lastTransactionAt(view.getLastTransactionAt())
+                .build();
+    }
+
     public TransactionResponse toTransactionResponse(Transaction transaction) {
         return TransactionResponse.builder()
                 .id(transaction.getId())
@@ -51,6 +68,7 @@ public class DtoMapper {
                 .convertedAmount(transaction.getConvertedAmount())
                 .targetCurrency(transaction.getTargetCurrency() != null ? transaction.getTargetCurrency().name() : null)
                 .exchangeRate(transaction.getExchangeRate())
+                .exchangeRateVersion(transaction.getExchangeRateVersion())
                 .description(transaction.getDescription())
                 .createdAt(transaction.getCreatedAt())
                 .completedAt(transaction.getCompletedAt())
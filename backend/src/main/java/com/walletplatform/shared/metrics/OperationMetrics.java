@@ -0,0 +1,88 @@
+package com.walletplatform.shared.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timers for the phases of money-moving operations, and counters for why they get rejected.
+ *
+ * <ul>
+ *   <li>{@code wallet.operation.phase} - timer tagged {@code operation} and {@code phase}</li>
+ *   <li>{@code wallet.operation.rejected} - counter tagged {@code operation} and {@code reason}</li>
+ *   <li>{@code idempotency.replays} - requests answered from a stored idempotent result</li>
+ * </ul>
+ */
+@Component
+public class OperationMetrics {
+
+    public static final String TRANSFER = "transfer";
+    public static final String TOP_UP = "topup";
+    public static final String WITHDRAW = "withdraw";
+
+    public static final String PHASE_LOCK = "lock";
+    public static final String PHASE_BALANCE_CHECK = "balance_check";
+    public static final String PHASE_FX = "fx";
+    public static final String PHASE_LEDGER_WRITE = "ledger_write";
+    public static final String PHASE_WALLET_SAVE = "wallet_save";
+    public static final String PHASE_EVENT_PUBLISH = "event_publish";
+
+    private static final String REASON_INSUFFICIENT_FUNDS = "insufficient_funds";
+    private static final String REASON_DAILY_LIMIT = "daily_limit";
+
+    private final MeterRegistry registry;
+    private final Map<String, Timer> phaseTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final Counter idempotentReplays;
+
+    public OperationMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.idempotentReplays = Counter.builder("idempotency.replays")
+            .description("Requests answered from a stored idempotent result")
+            .register(registry);
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /**
+     * Records the phase that began at {@code sample} and starts the next one.
+     */
+    public Timer.Sample lap(Timer.Sample sample, String operation, String phase) {
+        stop(sample, operation, phase);
+        return Timer.start(registry);
+    }
+
+    public void stop(Timer.Sample sample, String operation, String phase) {
+        sample.stop(phaseTimers.computeIfAbsent(operation + '.' + phase, key -> Timer.builder("wallet.operation.phase")
+            .description("Time spent in each phase of a wallet operation")
+            .tag("operation", operation)
+            .tag("phase", phase)
+            .register(registry)));
+    }
+
+    public void insufficientFunds(String operation) {
+        rejected(operation, REASON_INSUFFICIENT_FUNDS);
+    }
+
+    public void dailyLimitExceeded(String operation) {
+        rejected(operation, REASON_DAILY_LIMIT);
+    }
+
+    public void idempotentReplay() {
+        idempotentReplays.increment();
+    }
+
+    private void rejected(String operation, String reason) {
+        rejections.computeIfAbsent(operation + '.' + reason, key -> Counter.builder("wallet.operation.rejected")
+            .description("Wallet operations rejected by a business rule")
+            .tag("operation", operation)
+            .tag("reason", reason)
+            .register(registry)).increment();
+    }
+}
@@ -0,0 +1,126 @@
+package com.walletplatform.shared.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements, entity loads and JDBC time of every request.
+ *
+ * <ul>
+ *   <li>{@code Server-Timing} header with the totals at the time the response is committed</li>
+ *   <li>{@code http.server.requests.db.statements} / {@code .entity.loads} summaries and
+ *       {@code http.server.requests.db.time} timer, tagged {@code method} and {@code uri}</li>
+ *   <li>a warning, and {@code http.server.requests.db.budget.exceeded}, for requests over the configured budget</li>
+ * </ul>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final int maxStatements;
+    private final int maxEntityLoads;
+
+    public QueryBudgetFilter(MeterRegistry registry,
+                             @Value("${diagnostics.query-budget.enabled:true}") boolean enabled,
+                             @Value("${diagnostics.query-budget.max-statements:20}") int maxStatements,
+                             @Value("${diagnostics.query-budget.max-entity-loads:100}") int maxEntityLoads) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+        this.maxEntityLoads = maxEntityLoads;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        ServerTimingResponse wrapped = new ServerTimingResponse(response, stats);
+        try {
+            filterChain.doFilter(request, wrapped);
+            wrapped.writeServerTiming();
+        } finally {
+            RequestQueryStats.end();
+            request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+            .description("SQL statements executed per request")
+            .tag("method", method).tag("uri", uri)
+            .register(registry).record(stats.getStatements());
+        DistributionSummary.builder("http.server.requests.db.entity.loads")
+            .description("Entities loaded by Hibernate per request")
+            .tag("method", method).tag("uri", uri)
+            .register(registry).record(stats.getEntityLoads());
+        Timer.builder("http.server.requests.db.time")
+            .description("Time spent executing JDBC statements per request")
+            .tag("method", method).tag("uri", uri)
+            .register(registry).record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > maxStatements || stats.getEntityLoads() > maxEntityLoads) {
+            registry.counter("http.server.requests.db.budget.exceeded", "method", method, "uri", uri).increment();
+            log.warn("Query budget exceeded: {} {} ran {} (budget {} statements, {} entity loads)",
+                method, uri, stats, maxStatements, maxEntityLoads);
+        }
+    }
+
+    /**
+     * Adds the header just before the status line goes out; statements run after that
+     * (streamed bodies) still reach the metrics and the budget check.
+     */
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+
+        private final RequestQueryStats stats;
+        private boolean written;
+
+        ServerTimingResponse(HttpServletResponse response, RequestQueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        void writeServerTiming() {
+            if (!written && !isCommitted()) {
+                written = true;
+                addHeader("Server-Timing", stats.toServerTiming());
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.walletplatform.shared.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Charges each JDBC statement and batch a Hibernate session executes to the current request.
+ * Registered through {@code hibernate.session.events.auto}, so one instance exists per session.
+ */
+public class QueryStatsSessionListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - statementStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - batchStart);
+        }
+    }
+}
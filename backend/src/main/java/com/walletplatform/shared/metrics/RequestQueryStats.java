@@ -0,0 +1,84 @@
+package com.walletplatform.shared.metrics;
+
+import java.util.Locale;
+
+/**
+ * SQL statements, entity loads and JDBC time attributed to the current request.
+ *
+ * Bound to the request thread by {@link QueryBudgetFilter}; work on other threads
+ * (async listeners, streamed export bodies) is not counted.
+ */
+public final class RequestQueryStats {
+
+    /** Request attribute holding the finished stats, for tests and error handlers. */
+    public static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private long dbNanos;
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats for the request running on this thread, or null outside one.
+     */
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Charge a statement run straight on a JDBC connection (bulk inserts), which Hibernate
+     * does not report, to the request on this thread.
+     */
+    public static void directStatementExecuted(long nanos) {
+        RequestQueryStats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statementExecuted(nanos);
+        }
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        dbNanos += nanos;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    /**
+     * Value for the {@code Server-Timing} response header.
+     */
+    String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements, %d entity loads\"",
+            dbNanos / 1_000_000.0, statements, entityLoads);
+    }
+
+    @Override
+    public String toString() {
+        return statements + " statements, " + entityLoads + " entity loads, "
+            + String.format(Locale.ROOT, "%.1f", dbNanos / 1_000_000.0) + " ms in JDBC";
+    }
+}
@@ -0,0 +1,21 @@
+package com.walletplatform.shared.ratelimit;
+
+/**
+ * Groups of endpoints that share one set of limits.
+ * The property key selects {@code rate-limit.<key>.*} in the configuration.
+ */
+public enum RateLimitClass {
+    TRANSFER("transfer"),
+    TOP_UP("topup"),
+    WITHDRAW("withdraw");
+
+    private final String propertyKey;
+
+    RateLimitClass(String propertyKey) {
+        this.propertyKey = propertyKey;
+    }
+
+    public String getPropertyKey() {
+        return propertyKey;
+    }
+}
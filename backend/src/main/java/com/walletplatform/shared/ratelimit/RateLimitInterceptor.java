@@ -0,0 +1,93 @@
+package com.walletplatform.shared.ratelimit;
+
+import com.walletplatform.shared.api.ClientIp;
+import com.walletplatform.shared.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.UUID;
+
+/**
+ * Applies {@link RateLimited} limits before the handler runs.
+ * The user bucket is reported in the RateLimit-* headers; a denial from either
+ * bucket ends the request with 429 and Retry-After, and spends no token from the other.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitService rateLimitService;
+
+    public RateLimitInterceptor(RateLimitService rateLimitService) {
+        this.rateLimitService = rateLimitService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        if (!rateLimitService.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        long now = System.nanoTime();
+        RateLimitClass limitClass = rateLimited.value();
+
+        TokenBucketRateLimiter userLimiter = rateLimitService.forUser(limitClass);
+        TokenBucketRateLimiter ipLimiter = rateLimitService.forIp(limitClass);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UUID userId = authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+            ? principal.getId() : null;
+        String ip = ClientIp.resolve(request);
+
+        // Check both buckets before spending from either, so a request one of them rejects costs nothing
+        if (userId != null) {
+            long userCheck = userLimiter.peek(userId, now);
+            if (!TokenBucketRateLimiter.isAllowed(userCheck)) {
+                writeHeaders(response, userLimiter, userCheck);
+                return reject(response, userCheck);
+            }
+        }
+        long ipCheck = ipLimiter.peek(ip, now);
+        if (!TokenBucketRateLimiter.isAllowed(ipCheck)) {
+            return reject(response, ipCheck);
+        }
+
+        // A concurrent request can still take the last token in between; undo the user spend if so
+        if (userId != null) {
+            long result = userLimiter.tryAcquire(userId, now);
+            writeHeaders(response, userLimiter, result);
+            if (!TokenBucketRateLimiter.isAllowed(result)) {
+                return reject(response, result);
+            }
+        }
+        long ipResult = ipLimiter.tryAcquire(ip, now);
+        if (!TokenBucketRateLimiter.isAllowed(ipResult)) {
+            if (userId != null) {
+                userLimiter.refund(userId);
+            }
+            return reject(response, ipResult);
+        }
+        return true;
+    }
+
+    private void writeHeaders(HttpServletResponse response, TokenBucketRateLimiter limiter, long result) {
+        response.setHeader("RateLimit-Limit", String.valueOf(limiter.getCapacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(TokenBucketRateLimiter.remaining(result)));
+        response.setHeader("RateLimit-Reset", String.valueOf(TokenBucketRateLimiter.secondsUntilReset(result)));
+    }
+
+    private boolean reject(HttpServletResponse response, long result) throws Exception {
+        response.setHeader("Retry-After", String.valueOf(Math.max(1, TokenBucketRateLimiter.secondsUntilReset(result))));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Rate limit exceeded");
+        return false;
+    }
+}
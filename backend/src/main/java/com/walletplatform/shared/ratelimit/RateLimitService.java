@@ -0,0 +1,59 @@
+package com.walletplatform.shared.ratelimit;
+
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Holds one user-keyed and one IP-keyed bucket set per {@link RateLimitClass}.
+ *
+ * Limits come from {@code rate-limit.<class>.capacity} and
+ * {@code rate-limit.<class>.refill-per-minute}. IP buckets are larger by
+ * {@code rate-limit.ip-multiplier} because many users can share one address.
+ */
+@Service
+public class RateLimitService {
+
+    private final boolean enabled;
+    private final Map<RateLimitClass, TokenBucketRateLimiter> userLimiters = new EnumMap<>(RateLimitClass.class);
+    private final Map<RateLimitClass, TokenBucketRateLimiter> ipLimiters = new EnumMap<>(RateLimitClass.class);
+
+    public RateLimitService(Environment env) {
+        this.enabled = env.getProperty("rate-limit.enabled", Boolean.class, true);
+        int stripes = env.getProperty("rate-limit.stripes", Integer.class, 64);
+        int maxKeys = env.getProperty("rate-limit.max-keys", Integer.class, 100_000);
+        int ipMultiplier = env.getProperty("rate-limit.ip-multiplier", Integer.class, 5);
+
+        for (RateLimitClass limitClass : RateLimitClass.values()) {
+            String prefix = "rate-limit." + limitClass.getPropertyKey() + ".";
+            int capacity = env.getProperty(prefix + "capacity", Integer.class, 20);
+            double refillPerMinute = env.getProperty(prefix + "refill-per-minute", Double.class, 20.0);
+
+            userLimiters.put(limitClass, new TokenBucketRateLimiter(capacity, refillPerMinute, stripes, maxKeys));
+            ipLimiters.put(limitClass, new TokenBucketRateLimiter(
+                    capacity * ipMultiplier, refillPerMinute * ipMultiplier, stripes, maxKeys));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public TokenBucketRateLimiter forUser(RateLimitClass limitClass) {
+        return userLimiters.get(limitClass);
+    }
+
+    public TokenBucketRateLimiter forIp(RateLimitClass limitClass) {
+        return ipLimiters.get(limitClass);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        userLimiters.values().forEach(limiter -> limiter.evictIdle(now));
+        ipLimiters.values().forEach(limiter -> limiter.evictIdle(now));
+    }
+}
@@ -0,0 +1,178 @@
+package com.walletplatform.shared.ratelimit;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-memory token buckets, one per key, spread over lock stripes.
+ *
+ * Each bucket is a single long: the time at which it will be full again
+ * (the GCRA formulation of a token bucket). Checking an existing key therefore
+ * allocates nothing. Each stripe is an access-ordered map capped in size, so
+ * memory stays bounded; buckets that have refilled completely carry no state
+ * and are dropped by {@link #evictIdle}.
+ *
+ * Results are packed into a long, see {@link #isAllowed}, {@link #remaining}
+ * and {@link #secondsUntilReset}.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long DENIED_FLAG = 1L << 62;
+
+    private final int capacity;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+
+    public TokenBucketRateLimiter(int capacity, double tokensPerMinute, int stripeCount, int maxKeys) {
+        if (capacity < 1 || tokensPerMinute <= 0) {
+            throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.nanosPerToken = (long) (60_000_000_000L / tokensPerMinute);
+        this.burstNanos = nanosPerToken * (capacity - 1);
+
+        int stripesPow2 = Integer.highestOneBit(Math.max(1, stripeCount));
+        this.stripes = new Stripe[stripesPow2];
+        this.stripeMask = stripesPow2 - 1;
+        int perStripe = Math.max(16, maxKeys / stripesPow2);
+        for (int i = 0; i < stripesPow2; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Take one token for {@code key}.
+     */
+    public long tryAcquire(Object key, long nowNanos) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            long result = check(bucket, nowNanos);
+            if (isAllowed(result)) {
+                long fullAt = bucket == null ? nowNanos : Math.max(bucket.fullAtNanos, nowNanos);
+                if (bucket == null) {
+                    bucket = new Bucket();
+                    stripe.put(key, bucket);
+                }
+                bucket.fullAtNanos = fullAt + nanosPerToken;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * What {@link #tryAcquire} would return, without taking the token.
+     */
+    public long peek(Object key, long nowNanos) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            return check(stripe.get(key), nowNanos);
+        }
+    }
+
+    /**
+     * Give back a token taken by {@link #tryAcquire} for a request that was rejected afterwards.
+     */
+    public void refund(Object key) {
+        Stripe stripe = stripeFor(key);
+        synchronized (stripe) {
+            Bucket bucket = stripe.get(key);
+            if (bucket != null) {
+                bucket.fullAtNanos -= nanosPerToken;
+            }
+        }
+    }
+
+    private long check(Bucket bucket, long nowNanos) {
+        long fullAt = bucket == null ? nowNanos : Math.max(bucket.fullAtNanos, nowNanos);
+        long ahead = fullAt + nanosPerToken - nowNanos;
+
+        if (ahead > burstNanos + nanosPerToken) {
+            long retryNanos = ahead - burstNanos - nanosPerToken;
+            return DENIED_FLAG | (toSeconds(retryNanos) << 32);
+        }
+        long remaining = (burstNanos + nanosPerToken - ahead) / nanosPerToken;
+        return (toSeconds(ahead) << 32) | remaining;
+    }
+
+    /**
+     * Drop buckets that have refilled completely; they are indistinguishable from absent ones.
+     */
+    public int evictIdle(long nowNanos) {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Iterator<Bucket> it = stripe.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().fullAtNanos <= nowNanos) {
+                        it.remove();
+                        evicted++;
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public static boolean isAllowed(long result) {
+        return (result & DENIED_FLAG) == 0;
+    }
+
+    public static int remaining(long result) {
+        return isAllowed(result) ? (int) (result & 0xFFFF_FFFFL) : 0;
+    }
+
+    /**
+     * When allowed: seconds until the bucket is full again. When denied: seconds until the next token.
+     */
+    public static long secondsUntilReset(long result) {
+        return (result & ~DENIED_FLAG) >>> 32;
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.min((nanos + 999_999_999L) / 1_000_000_000L, Integer.MAX_VALUE);
+    }
+
+    private Stripe stripeFor(Object key) {
+        return stripes[spread(key.hashCode()) & stripeMask];
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Bucket {
+        long fullAtNanos;
+    }
+
+    private static final class Stripe extends LinkedHashMap<Object, Bucket> {
+        private final int maxEntries;
+
+        Stripe(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Bucket> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
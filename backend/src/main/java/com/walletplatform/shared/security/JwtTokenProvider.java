@@ -1,20 +1,26 @@
 package com.walletplatform.shared.security;
 
+import com.walletplatform.identity.domain.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_USER_ID = "uid";
+    private static final String CLAIM_ROLE = "role";
+    private static final String CLAIM_ACTIVE = "active";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -22,49 +28,61 @@ public class JwtTokenProvider {
     private long jwtExpiration;
 
     private SecretKey key;
+    private JwtParser parser;
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Base64.getDecoder().decode(jwtSecret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return generateToken(userDetails.getUsername());
+        return generateToken((UserPrincipal) authentication.getPrincipal());
     }
 
-    public String generateToken(String email) {
+    public String generateToken(UserPrincipal principal) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpiration);
 
         return Jwts.builder()
-                .subject(email)
+                .subject(principal.getEmail())
+                .claim(CLAIM_USER_ID, principal.getId().toString())
+                .claim(CLAIM_ROLE, principal.getRole().name())
+                .claim(CLAIM_ACTIVE, principal.isEnabled())
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Verify the token and read its claims in a single pass.
+     * Empty for invalid, expired or pre-claims tokens (those without a user id).
+     */
+    public Optional<TokenClaims> parseToken(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
 
-        return claims.getSubject();
-    }
+            String userId = claims.get(CLAIM_USER_ID, String.class);
+            String role = claims.get(CLAIM_ROLE, String.class);
+            if (userId == null || role == null || claims.getIssuedAt() == null) {
+                return Optional.empty();
+            }
 
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(new TokenClaims(
+                    UUID.fromString(userId),
+                    claims.getSubject(),
+                    UserRole.valueOf(role),
+                    Boolean.TRUE.equals(claims.get(CLAIM_ACTIVE, Boolean.class)),
+                    claims.getIssuedAt().toInstant()
+            ));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
+
+    public long getExpirationMs() {
+        return jwtExpiration;
+    }
 }
@@ -0,0 +1,104 @@
+package com.walletplatform.shared.security;
+
+import com.walletplatform.shared.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts failed sign-ins per account and per client IP in fixed windows.
+ * Blocked callers are turned away before any password hashing happens,
+ * so guessing attacks cannot consume the hashing pool.
+ */
+@Service
+public class LoginAttemptService {
+
+    private final int maxAccountFailures;
+    private final int maxIpFailures;
+    private final long windowMs;
+    private final int maxTrackedKeys;
+
+    private final Map<String, FailureWindow> accountFailures = new ConcurrentHashMap<>();
+    private final Map<String, FailureWindow> ipFailures = new ConcurrentHashMap<>();
+
+    public LoginAttemptService(
+            @Value("${auth.login-throttle.max-failures-per-account:5}") int maxAccountFailures,
+            @Value("${auth.login-throttle.max-failures-per-ip:20}") int maxIpFailures,
+            @Value("${auth.login-throttle.window-ms:900000}") long windowMs,
+            @Value("${auth.login-throttle.max-tracked-keys:100000}") int maxTrackedKeys) {
+        this.maxAccountFailures = maxAccountFailures;
+        this.maxIpFailures = maxIpFailures;
+        this.windowMs = windowMs;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    /**
+     * Throws {@link TooManyRequestsException} if the account or IP has too many recent failures.
+     */
+    public void checkAllowed(String email, String ipAddress) {
+        long now = System.currentTimeMillis();
+        if (isBlocked(accountFailures.get(accountKey(email)), maxAccountFailures, now)
+                || (ipAddress != null && isBlocked(ipFailures.get(ipAddress), maxIpFailures, now))) {
+            throw new TooManyRequestsException("Too many failed sign-in attempts, please try again later");
+        }
+    }
+
+    public void recordFailure(String email, String ipAddress) {
+        long now = System.currentTimeMillis();
+        increment(accountFailures, accountKey(email), now);
+        if (ipAddress != null) {
+            increment(ipFailures, ipAddress, now);
+        }
+    }
+
+    public void recordSuccess(String email) {
+        accountFailures.remove(accountKey(email));
+    }
+
+    @Scheduled(fixedDelayString = "${auth.login-throttle.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        accountFailures.values().removeIf(window -> window.isExpired(now, windowMs));
+        ipFailures.values().removeIf(window -> window.isExpired(now, windowMs));
+    }
+
+    private boolean isBlocked(FailureWindow window, int maxFailures, long now) {
+        return window != null && !window.isExpired(now, windowMs) && window.count >= maxFailures;
+    }
+
+    private void increment(Map<String, FailureWindow> failures, String key, long now) {
+        if (failures.size() >= maxTrackedKeys && !failures.containsKey(key)) {
+            makeRoom(failures, now);
+        }
+        failures.compute(key, (k, window) -> {
+            if (window == null || window.isExpired(now, windowMs)) {
+                return new FailureWindow(now, 1);
+            }
+            return new FailureWindow(window.startedAtMs, window.count + 1);
+        });
+    }
+
+    private void makeRoom(Map<String, FailureWindow> failures, long now) {
+        failures.values().removeIf(window -> window.isExpired(now, windowMs));
+        Iterator<String> it = failures.keySet().iterator();
+        while (failures.size() >= maxTrackedKeys && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String accountKey(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record FailureWindow(long startedAtMs, int count) {
+        boolean isExpired(long now, long windowMs) {
+            return now - startedAtMs >= windowMs;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.walletplatform.shared.security;
+
+import com.walletplatform.identity.domain.UserRole;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Verified contents of an access token.
+ */
+public record TokenClaims(UUID userId, String email, UserRole role, boolean active, Instant issuedAt) {
+
+    public UserPrincipal toPrincipal() {
+        return new UserPrincipal(userId, email, null, role, active);
+    }
+}
@@ -0,0 +1,57 @@
+package com.walletplatform.shared.security;
+
+import com.walletplatform.identity.domain.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Authenticated user carried in the security context.
+ * Built from token claims on API requests, so no user lookup is needed to identify the caller.
+ */
+public class UserPrincipal implements UserDetails {
+
+    private final UUID id;
+    private final String email;
+    private final String passwordHash;
+    private final UserRole role;
+    private final boolean active;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(UUID id, String email, String passwordHash, UserRole role, boolean active) {
+        this.id = id;
+        this.email = email;
+        this.passwordHash = passwordHash;
+        this.role = role;
+        this.active = active;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public UUID getId() { return id; }
+    public String getEmail() { return email; }
+    public UserRole getRole() { return role; }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
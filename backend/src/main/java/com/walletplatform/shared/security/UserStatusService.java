@@ -0,0 +1,97 @@
+package com.walletplatform.shared.security;
+
+import com.walletplatform.identity.infrastructure.UserRepository;
+import com.walletplatform.identity.infrastructure.UserStatusView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether a signed token is still honoured.
+ *
+ * Revocations take effect immediately on this node. The status cache re-reads
+ * active flag and role at most once per TTL per user, which bounds how long a
+ * token stays usable on other nodes after a user is disabled or changes role.
+ */
+@Service
+public class UserStatusService {
+
+    private final UserRepository userRepository;
+    private final long statusTtlMs;
+    private final long tokenLifetimeMs;
+
+    private final Map<UUID, CachedStatus> statusCache = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    public UserStatusService(UserRepository userRepository,
+                             @Value("${jwt.status-cache-ttl-ms:30000}") long statusTtlMs,
+                             @Value("${jwt.expiration}") long tokenLifetimeMs) {
+        this.userRepository = userRepository;
+        this.statusTtlMs = statusTtlMs;
+        this.tokenLifetimeMs = tokenLifetimeMs;
+    }
+
+    public boolean isTokenAllowed(TokenClaims claims) {
+        if (!claims.active()) {
+            return false;
+        }
+
+        Instant revokedAt = revokedBefore.get(claims.userId());
+        if (revokedAt != null && !claims.issuedAt().isAfter(revokedAt)) {
+            return false;
+        }
+
+        return currentStatus(claims.userId())
+                .map(status -> status.active() && status.role() == claims.role())
+                .orElse(false);
+    }
+
+    /**
+     * Reject every token issued to the user up to now, e.g. after disabling or a role change.
+     * The revocation is not lifted when the user is re-enabled: tokens issued before it stay
+     * rejected until they expire, and the user signs in again for a new one.
+     */
+    public void revokeTokens(UUID userId) {
+        // Token iat has second precision; anything issued in this second or earlier is rejected
+        revokedBefore.put(userId, Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        statusCache.remove(userId);
+    }
+
+    /**
+     * Drop the cached status, so a re-enabled user's new tokens are accepted without waiting out the TTL.
+     */
+    public void refreshStatus(UUID userId) {
+        statusCache.remove(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.status-cache-purge-ms:60000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        statusCache.values().removeIf(status -> now - status.loadedAtMs() > statusTtlMs);
+
+        // Once every token issued before the revocation has expired the entry is redundant
+        Instant cutoff = Instant.now().minusMillis(tokenLifetimeMs);
+        revokedBefore.values().removeIf(revokedAt -> revokedAt.isBefore(cutoff));
+    }
+
+    private Optional<UserStatusView> currentStatus(UUID userId) {
+        long now = System.currentTimeMillis();
+        CachedStatus cached = statusCache.get(userId);
+        if (cached != null && now - cached.loadedAtMs() <= statusTtlMs) {
+            return Optional.ofNullable(cached.status());
+        }
+
+        UserStatusView status = userRepository.findStatusById(userId).orElse(null);
+        statusCache.put(userId, new CachedStatus(status, now));
+        return Optional.ofNullable(status);
+    }
+
+    private record CachedStatus(UserStatusView status, long loadedAtMs) {}
+}
@@ -0,0 +1,61 @@
+package com.walletplatform.shared.security;
+
+import com.walletplatform.wallet.infrastructure.WalletRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wallet ownership checks for method security, e.g.
+ * {@code @PreAuthorize("@walletAuth.isOwner(#walletId, authentication)")}.
+ *
+ * A wallet's owner never changes, so cached entries cannot go stale.
+ * Unknown wallets are not cached, which keeps random ids from filling the map.
+ */
+@Component("walletAuth")
+public class WalletAuthorization {
+
+    private final WalletRepository walletRepository;
+    private final int maxEntries;
+    private final Map<UUID, UUID> ownerByWallet = new ConcurrentHashMap<>();
+
+    public WalletAuthorization(WalletRepository walletRepository,
+                               @Value("${wallet-auth.cache-max-entries:100000}") int maxEntries) {
+        this.walletRepository = walletRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isOwner(UUID walletId, Authentication authentication) {
+        if (walletId == null || authentication == null
+                || !(authentication.getPrincipal() instanceof UserPrincipal principal)) {
+            return false;
+        }
+
+        UUID ownerId = ownerByWallet.get(walletId);
+        if (ownerId == null) {
+            ownerId = walletRepository.findOwnerIdById(walletId).orElse(null);
+            if (ownerId == null) {
+                return false;
+            }
+            cache(walletId, ownerId);
+        }
+        return ownerId.equals(principal.getId());
+    }
+
+    private void cache(UUID walletId, UUID ownerId) {
+        if (ownerByWallet.size() >= maxEntries) {
+            // Entries are all equally valid, so dropping an arbitrary tenth is enough to make room
+            Iterator<UUID> it = ownerByWallet.keySet().iterator();
+            for (int i = 0; i < maxEntries / 10 && it.hasNext(); i++) {
+                it.next();
+                it.remove();
+            }
+        }
+        ownerByWallet.put(walletId, ownerId);
+    }
+}
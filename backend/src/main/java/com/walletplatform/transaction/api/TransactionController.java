@@ -1,25 +1,29 @@
 package com.walletplatform.transaction.api;
 
 import com.walletplatform.shared.dto.TransactionResponse;
+import com.walletplatform.shared.export.ExportFormat;
 import com.walletplatform.shared.dto.TransferRequest;
 import com.walletplatform.shared.mapper.DtoMapper;
+import com.walletplatform.transaction.application.service.TransactionExportService;
 import com.walletplatform.transaction.application.service.TransactionService;
-import com.walletplatform.identity.application.service.UserService;
 import com.walletplatform.wallet.application.service.WalletService;
 import com.walletplatform.transaction.domain.Transaction;
-import com.walletplatform.identity.domain.User;
-import com.walletplatform.wallet.domain.Wallet;
-import com.walletplatform.shared.infrastructure.IdempotencyService;
+import com.walletplatform.shared.security.UserPrincipal;
+import com.walletplatform.shared.api.ClientIp;
+import com.walletplatform.shared.ratelimit.RateLimitClass;
+import com.walletplatform.shared.ratelimit.RateLimited;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,96 +36,63 @@ public class TransactionController {
 
     private final TransactionService transactionService;
     private final WalletService walletService;
-    private final UserService userService;
     private final DtoMapper dtoMapper;
-    private final IdempotencyService idempotencyService;
+    private final TransactionExportService transactionExportService;
 
     public TransactionController(TransactionService transactionService, WalletService walletService,
-                                  UserService userService, DtoMapper dtoMapper, 
-                                  IdempotencyService idempotencyService) {
+                                  DtoMapper dtoMapper, 
+                                  TransactionExportService transactionExportService) {
         this.transactionService = transactionService;
+        this.transactionExportService = transactionExportService;
         this.walletService = walletService;
-        this.userService = userService;
         this.dtoMapper = dtoMapper;
-        this.idempotencyService = idempotencyService;
     }
 
     @PostMapping("/transfer")
+    @RateLimited(RateLimitClass.TRANSFER)
+    @PreAuthorize("@walletAuth.isOwner(#request.sourceWalletId, authentication)")
     public ResponseEntity<TransactionResponse> transfer(
             @Valid @RequestBody TransferRequest request,
             @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
-            @AuthenticationPrincipal UserDetails userDetails,
             HttpServletRequest httpRequest) {
         
-        User user = userService.getUserByEmail(userDetails.getUsername());
-        Wallet sourceWallet = walletService.getWalletWithOwner(request.getSourceWalletId());
+        String ipAddress = ClientIp.resolve(httpRequest);
         
-        if (!sourceWallet.getOwner().getId().equals(user.getId())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        }
-        
-        String ipAddress = getClientIp(httpRequest);
-        
-        // Execute with idempotency if key provided
-        TransactionResponse response;
-        if (idempotencyKey != null && !idempotencyKey.isEmpty()) {
-            response = idempotencyService.executeIdempotent(
-                idempotencyKey,
-                TransactionResponse.class,
-                () -> {
-                    Transaction txn = walletService.transfer(
-                        request.getSourceWalletId(),
-                        request.getTargetWalletId(),
-                        request.getAmount(),
-                        request.getDescription(),
-                        ipAddress
-                    );
-                    return dtoMapper.toTransactionResponse(txn);
-                }
-            );
-        } else {
-            Transaction transaction = walletService.transfer(
-                request.getSourceWalletId(),
-                request.getTargetWalletId(),
-                request.getAmount(),
-                request.getDescription(),
-                ipAddress
-            );
-            response = dtoMapper.toTransactionResponse(transaction);
-        }
+        // Idempotency is handled by the orchestrator, in the same commit as the transfer it records
+        Transaction transaction = walletService.transfer(
+            request.getSourceWalletId(),
+            request.getTargetWalletId(),
+            request.getAmount(),
+            request.getDescription(),
+            ipAddress,
+            idempotencyKey != null && !idempotencyKey.isEmpty() ? idempotencyKey : null
+        );
+        TransactionResponse response = dtoMapper.toTransactionResponse(transaction);
         
         return ResponseEntity.ok(response);
     }
 
     @GetMapping
     public ResponseEntity<Page<TransactionResponse>> getUserTransactions(
-            @AuthenticationPrincipal UserDetails userDetails,
+            @AuthenticationPrincipal UserPrincipal principal,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        User user = userService.getUserByEmail(userDetails.getUsername());
         Pageable pageable = PageRequest.of(page, size);
         
-        Page<Transaction> transactions = transactionService.getTransactionsByUser(user.getId(), pageable);
+        Page<Transaction> transactions = transactionService.getTransactionsByUser(principal.getId(), pageable);
         Page<TransactionResponse> response = transactions.map(dtoMapper::toTransactionResponse);
         
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/wallet/{walletId}")
+    @PreAuthorize("@walletAuth.isOwner(#walletId, authentication)")
     public ResponseEntity<Page<TransactionResponse>> getWalletTransactions(
             @PathVariable UUID walletId,
-            @AuthenticationPrincipal UserDetails userDetails,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
-        User user = userService.getUserByEmail(userDetails.getUsername());
-        Wallet wallet = walletService.getWalletWithOwner(walletId);
-        
-        if (!wallet.getOwner().getId().equals(user.getId())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        }
-        
         Pageable pageable = PageRequest.of(page, size);
         Page<Transaction> transactions = transactionService.getTransactionsByWallet(walletId, pageable);
         Page<TransactionResponse> response = transactions.map(dtoMapper::toTransactionResponse);
@@ -129,18 +100,32 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/wallet/{walletId}/export")
+    @PreAuthorize("@walletAuth.isOwner(#walletId, authentication)")
+    public ResponseEntity<StreamingResponseBody> exportWalletTransactions(
+            @PathVariable UUID walletId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        
+        LocalDateTime endDate = to != null ? to : LocalDateTime.now();
+        LocalDateTime startDate = from != null ? from : endDate.minusYears(1);
+        
+        StreamingResponseBody body = out ->
+            transactionExportService.exportWalletTransactions(walletId, startDate, endDate, format, out);
+        String filename = "transactions-" + walletId + "." + format.getFileExtension();
+        
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
     @GetMapping("/analytics")
+    @PreAuthorize("@walletAuth.isOwner(#walletId, authentication)")
     public ResponseEntity<Map<String, Object>> getAnalytics(
             @RequestParam UUID walletId,
-            @RequestParam(defaultValue = "30") int days,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        
-        User user = userService.getUserByEmail(userDetails.getUsername());
-        Wallet wallet = walletService.getWalletWithOwner(walletId);
-        
-        if (!wallet.getOwner().getId().equals(user.getId())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        }
+            @RequestParam(defaultValue = "30") int days) {
         
         LocalDateTime endDate = LocalDateTime.now();
         LocalDateTime startDate = endDate.minusDays(days);
@@ -150,27 +135,12 @@ public class TransactionController {
     }
 
     @GetMapping("/monthly-report")
+    @PreAuthorize("@walletAuth.isOwner(#walletId, authentication)")
     public ResponseEntity<List<Map<String, Object>>> getMonthlyReport(
             @RequestParam UUID walletId,
-            @RequestParam(defaultValue = "12") int months,
-            @AuthenticationPrincipal UserDetails userDetails) {
-        
-        User user = userService.getUserByEmail(userDetails.getUsername());
-        Wallet wallet = walletService.getWalletWithOwner(walletId);
-        
-        if (!wallet.getOwner().getId().equals(user.getId())) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
-        }
+            @RequestParam(defaultValue = "12") int months) {
         
         List<Map<String, Object>> report = transactionService.getMonthlySpendingReport(walletId, months);
         return ResponseEntity.ok(report);
     }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
 }
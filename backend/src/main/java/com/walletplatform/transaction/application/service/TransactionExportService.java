@@ -0,0 +1,83 @@
+package com.walletplatform.transaction.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletplatform.shared.export.ExportFormat;
+import com.walletplatform.shared.export.ExportWriter;
+import com.walletplatform.transaction.domain.Transaction;
+import com.walletplatform.transaction.infrastructure.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams a wallet's transaction history straight from a database cursor to the client.
+ */
+@Service
+public class TransactionExportService {
+
+    private static final int DETACH_EVERY_ROWS = 500;
+
+    private static final String[] COLUMNS = {
+        "id", "type", "status", "sourceWalletId", "targetWalletId", "amount", "sourceCurrency",
+        "convertedAmount", "targetCurrency", "exchangeRate", "exchangeRateVersion", "description", "createdAt",
+        "completedAt"
+    };
+
+    private final TransactionRepository transactionRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public TransactionExportService(TransactionRepository transactionRepository, EntityManager entityManager,
+                                    ObjectMapper objectMapper) {
+        this.transactionRepository = transactionRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write all transactions of a wallet in the given range to {@code out}.
+     * Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportWalletTransactions(UUID walletId, LocalDateTime startDate, LocalDateTime endDate,
+                                         ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Transaction> transactions =
+                     transactionRepository.streamByWalletIdAndDateRange(walletId, startDate, endDate);
+             ExportWriter writer = new ExportWriter(out, format, objectMapper, COLUMNS)) {
+
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction txn = iterator.next();
+                writer.writeRow(
+                    txn.getId(),
+                    txn.getType().name(),
+                    txn.getStatus().name(),
+                    txn.getSourceWallet() != null ? txn.getSourceWallet().getId() : null,
+                    txn.getTargetWallet() != null ? txn.getTargetWallet().getId() : null,
+                    txn.getAmount(),
+                    txn.getSourceCurrency() != null ? txn.getSourceCurrency().name() : null,
+                    txn.getConvertedAmount(),
+                    txn.getTargetCurrency() != null ? txn.getTargetCurrency().name() : null,
+                    txn.getExchangeRate(),
+                    txn.getExchangeRateVersion(),
+                    txn.getDescription(),
+                    txn.getCreatedAt(),
+                    txn.getCompletedAt()
+                );
+
+                // Rows already written must not pile up in the persistence context
+                if (writer.getRowCount() % DETACH_EVERY_ROWS == 0) {
+                    entityManager.clear();
+                }
+            }
+            return writer.getRowCount();
+        }
+    }
+}
@@ -7,17 +7,26 @@ import com.walletplatform.shared.exception.WalletNotFoundException;
 import com.walletplatform.wallet.domain.*;
 import com.walletplatform.transaction.domain.*;
 import com.walletplatform.shared.config.ExchangeRateService;
+import com.walletplatform.shared.domain.RateSnapshot;
 import com.walletplatform.transaction.infrastructure.TransactionRepository;
 import com.walletplatform.wallet.infrastructure.WalletRepository;
 import com.walletplatform.ledger.application.service.BalanceService;
 import com.walletplatform.shared.event.DomainEventPublisher;
 import com.walletplatform.shared.event.TransferCompletedEvent;
+import com.walletplatform.shared.diagnostics.TransferEvent;
+import com.walletplatform.shared.diagnostics.WalletLockEvent;
 import com.walletplatform.shared.infrastructure.IdempotencyService;
+import com.walletplatform.shared.infrastructure.id.DatabaseUuidOrder;
+import com.walletplatform.shared.metrics.OperationMetrics;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Orchestrates financial transactions with ledger-first operations.
@@ -33,6 +42,8 @@ public class TransactionOrchestrator {
     private final ExchangeRateService exchangeRateService;
     private final DomainEventPublisher eventPublisher;
     private final IdempotencyService idempotencyService;
+    private final OperationMetrics metrics;
+    private final TransactionTemplate localTransfer;
 
     public TransactionOrchestrator(
             WalletRepository walletRepository,
@@ -41,7 +52,9 @@ public class TransactionOrchestrator {
             BalanceService balanceService,
             ExchangeRateService exchangeRateService,
             DomainEventPublisher eventPublisher,
-            IdempotencyService idempotencyService) {
+            IdempotencyService idempotencyService,
+            OperationMetrics metrics,
+            PlatformTransactionManager transactionManager) {
         this.walletRepository = walletRepository;
         this.transactionRepository = transactionRepository;
         this.ledgerService = ledgerService;
@@ -49,61 +62,88 @@ public class TransactionOrchestrator {
         this.exchangeRateService = exchangeRateService;
         this.eventPublisher = eventPublisher;
         this.idempotencyService = idempotencyService;
+        this.metrics = metrics;
+        this.localTransfer = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Execute a transfer with full ledger-first processing.
      * Idempotent: duplicate requests with same key return cached result.
+     * Opens its own transaction, so the idempotency record commits with the transfer it records.
      */
-    @Transactional
     public TransactionResult transfer(TransferCommand command) {
-        // Idempotency check - return cached result if already processed
-        if (command.idempotencyKey() != null) {
-            return idempotencyService.executeIdempotent(
-                command.idempotencyKey(),
-                TransactionResult.class,
-                () -> executeTransfer(command)
-            );
+        return localTransfer.execute(status -> {
+            // Idempotency check - return cached result if already processed
+            if (command.idempotencyKey() != null) {
+                return idempotencyService.executeIdempotent(
+                    command.idempotencyKey(),
+                    TransactionResult.class,
+                    () -> traced(command, event -> executeTransfer(command, event))
+                );
+            }
+            return traced(command, event -> executeTransfer(command, event));
+        });
+    }
+
+    private TransactionResult traced(TransferCommand command, Function<TransferEvent, TransactionResult> transfer) {
+        TransferEvent event = new TransferEvent();
+        event.start(command.sourceWalletId(), command.targetWalletId(), command.amount());
+        try {
+            TransactionResult result = transfer.apply(event);
+            event.finish(result.status() == TransactionStatus.COMPLETED ? TransferEvent.SUCCESS : result.status().name());
+            return result;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
         }
-        
-        return executeTransfer(command);
     }
 
-    private TransactionResult executeTransfer(TransferCommand command) {
-        // Lock wallets in consistent order (prevent deadlocks)
-        UUID firstId = command.sourceWalletId().compareTo(command.targetWalletId()) < 0 
-            ? command.sourceWalletId() : command.targetWalletId();
-        UUID secondId = command.sourceWalletId().compareTo(command.targetWalletId()) < 0 
-            ? command.targetWalletId() : command.sourceWalletId();
+    private TransactionResult executeTransfer(TransferCommand command, TransferEvent event) {
+        Timer.Sample phase = metrics.start();
+
+        // Lock wallets in the database's id order, the order batch lockers use (prevent deadlocks)
+        boolean sourceFirst = DatabaseUuidOrder.compare(command.sourceWalletId(), command.targetWalletId()) < 0;
+        UUID firstId = sourceFirst ? command.sourceWalletId() : command.targetWalletId();
+        UUID secondId = sourceFirst ? command.targetWalletId() : command.sourceWalletId();
         
-        Wallet first = walletRepository.findByIdWithLock(firstId)
+        Wallet first = WalletLockEvent.acquire(firstId, () -> walletRepository.findByIdWithLock(firstId))
             .orElseThrow(() -> new WalletNotFoundException("Wallet not found: " + firstId));
-        Wallet second = walletRepository.findByIdWithLock(secondId)
+        Wallet second = WalletLockEvent.acquire(secondId, () -> walletRepository.findByIdWithLock(secondId))
             .orElseThrow(() -> new WalletNotFoundException("Wallet not found: " + secondId));
         
         Wallet sourceWallet = first.getId().equals(command.sourceWalletId()) ? first : second;
         Wallet targetWallet = first.getId().equals(command.targetWalletId()) ? first : second;
+        phase = metrics.lap(phase, OperationMetrics.TRANSFER, OperationMetrics.PHASE_LOCK);
+        event.currencies(sourceWallet.getCurrency(), targetWallet.getCurrency());
+
+        // Amounts stay in minor units until they cross back into persistence or the API
+        Money amount = Money.of(command.amount(), sourceWallet.getCurrency());
 
-        // Validate using ledger balance 
-        BigDecimal sourceBalance = balanceService.calculateBalance(sourceWallet.getId());
-        if (sourceBalance.compareTo(command.amount()) < 0) {
+        // Validate using ledger balance. Balances and limits stay BigDecimal: ledger sums carry four decimals, and converting
+        // them to Money on every transfer costs more than the comparison it replaces
+        if (balanceService.calculateBalance(sourceWallet.getId()).compareTo(command.amount()) < 0) {
+            metrics.insufficientFunds(OperationMetrics.TRANSFER);
             throw new InsufficientFundsException("Insufficient balance");
         }
 
         // Check daily limit
         if (!sourceWallet.canSpend(command.amount())) {
+            metrics.dailyLimitExceeded(OperationMetrics.TRANSFER);
             throw new DailyLimitExceededException("Daily limit exceeded");
         }
+        phase = metrics.lap(phase, OperationMetrics.TRANSFER, OperationMetrics.PHASE_BALANCE_CHECK);
 
         // Calculate converted amount for cross-currency
-        BigDecimal convertedAmount = command.amount();
+        Money convertedAmount = amount;
         BigDecimal exchangeRate = BigDecimal.ONE;
+        Long exchangeRateVersion = null;
         if (!sourceWallet.getCurrency().equals(targetWallet.getCurrency())) {
-            exchangeRate = exchangeRateService.getExchangeRate(
-                sourceWallet.getCurrency(), targetWallet.getCurrency());
-            convertedAmount = exchangeRateService.convert(
-                command.amount(), sourceWallet.getCurrency(), targetWallet.getCurrency());
+            RateSnapshot rates = exchangeRateService.getSnapshot();
+            exchangeRate = rates.getRate(sourceWallet.getCurrency(), targetWallet.getCurrency());
+            convertedAmount = rates.convert(amount, targetWallet.getCurrency());
+            exchangeRateVersion = rates.getVersion();
         }
+        phase = metrics.lap(phase, OperationMetrics.TRANSFER, OperationMetrics.PHASE_FX);
 
         // Create transaction record
         Transaction transaction = Transaction.builder()
@@ -111,23 +151,28 @@ public class TransactionOrchestrator {
             .targetWallet(targetWallet)
             .type(TransactionType.TRANSFER)
             .status(TransactionStatus.COMPLETED)
-            .amount(command.amount())
+            .amount(amount.toBigDecimal())
             .sourceCurrency(sourceWallet.getCurrency())
-            .convertedAmount(convertedAmount)
+            .convertedAmount(convertedAmount.toBigDecimal())
             .targetCurrency(targetWallet.getCurrency())
             .exchangeRate(exchangeRate)
+            .exchangeRateVersion(exchangeRateVersion)
             .description(command.description() != null ? command.description() : "Transfer")
             .build();
         transaction.complete();
-        transaction = transactionRepository.save(transaction);
+        // Completed on creation and never updated, so it skips entity tracking like the ledger rows
+        transactionRepository.insertAll(List.of(transaction));
 
         // Record ledger entries
         if (sourceWallet.getCurrency().equals(targetWallet.getCurrency())) {
-            ledgerService.recordSameCurrencyTransfer(transaction, sourceWallet, targetWallet, command.amount());
+            ledgerService.recordSameCurrencyTransfer(transaction, sourceWallet, targetWallet, amount);
         } else {
             ledgerService.recordCrossCurrencyTransfer(transaction, sourceWallet, targetWallet, 
-                command.amount(), convertedAmount);
+                amount, convertedAmount);
         }
+        // Flush here so the inserts are charged to this phase rather than to the next query
+        transactionRepository.flush();
+        phase = metrics.lap(phase, OperationMetrics.TRANSFER, OperationMetrics.PHASE_LEDGER_WRITE);
 
         // Update daily spending
         sourceWallet.recordSpending(command.amount());
@@ -138,6 +183,7 @@ public class TransactionOrchestrator {
         targetWallet.refreshBalanceFromLedger(balanceService.calculateBalance(targetWallet.getId()));
         walletRepository.save(sourceWallet);
         walletRepository.save(targetWallet);
+        phase = metrics.lap(phase, OperationMetrics.TRANSFER, OperationMetrics.PHASE_WALLET_SAVE);
 
         UUID correlationId = UUID.randomUUID();
         eventPublisher.publishAsync(new TransferCompletedEvent(
@@ -145,17 +191,18 @@ public class TransactionOrchestrator {
             transaction.getId(),
             sourceWallet.getId(),
             targetWallet.getId(),
-            command.amount(),
-            convertedAmount,
+            amount.toBigDecimal(),
+            convertedAmount.toBigDecimal(),
             sourceWallet.getCurrency().name(),
             targetWallet.getCurrency().name()
         ));
+        metrics.stop(phase, OperationMetrics.TRANSFER, OperationMetrics.PHASE_EVENT_PUBLISH);
 
         return new TransactionResult(
             transaction.getId(),
             TransactionStatus.COMPLETED,
-            command.amount(),
-            convertedAmount
+            amount.toBigDecimal(),
+            convertedAmount.toBigDecimal()
         );
     }
 
@@ -1,5 +1,6 @@
 package com.walletplatform.transaction.domain;
 
+import com.walletplatform.shared.infrastructure.id.UuidV7;
 import com.walletplatform.wallet.domain.Currency;
 import com.walletplatform.wallet.domain.Wallet;
 import jakarta.persistence.*;
@@ -19,7 +20,7 @@ import java.util.UUID;
 public class Transaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -54,6 +55,9 @@ public class Transaction {
     @Column(precision = 10, scale = 6)
     private BigDecimal exchangeRate;
 
+    // Version of the FX rate snapshot the exchange rate was taken from
+    private Long exchangeRateVersion;
+
     @Column(length = 500)
     private String description;
 
@@ -81,6 +85,7 @@ public class Transaction {
     public BigDecimal getConvertedAmount() { return convertedAmount; }
     public Currency getTargetCurrency() { return targetCurrency; }
     public BigDecimal getExchangeRate() { return exchangeRate; }
+    public Long getExchangeRateVersion() { return exchangeRateVersion; }
     public String getDescription() { return description; }
     public String getFailureReason() { return failureReason; }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -97,10 +102,21 @@ public class Transaction {
     public void setConvertedAmount(BigDecimal convertedAmount) { this.convertedAmount = convertedAmount; }
     public void setTargetCurrency(Currency targetCurrency) { this.targetCurrency = targetCurrency; }
     public void setExchangeRate(BigDecimal exchangeRate) { this.exchangeRate = exchangeRate; }
+    public void setExchangeRateVersion(Long exchangeRateVersion) { this.exchangeRateVersion = exchangeRateVersion; }
     public void setDescription(String description) { this.description = description; }
     public void setFailureReason(String failureReason) { this.failureReason = failureReason; }
     public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
 
+    /**
+     * Set the timestamps Hibernate would fill in, for rows written by a bulk insert.
+     */
+    public void stampCreated(LocalDateTime at) {
+        if (createdAt == null) {
+            createdAt = at;
+        }
+        updatedAt = at;
+    }
+
     public void complete() {
         this.status = TransactionStatus.COMPLETED;
         this.completedAt = LocalDateTime.now();
@@ -131,6 +147,7 @@ public class Transaction {
         private BigDecimal convertedAmount;
         private Currency targetCurrency;
         private BigDecimal exchangeRate;
+        private Long exchangeRateVersion;
         private String description;
 
         public Builder sourceWallet(Wallet sourceWallet) { this.sourceWallet = sourceWallet; return this; }
@@ -142,6 +159,7 @@ public class Transaction {
         public Builder convertedAmount(BigDecimal convertedAmount) { this.convertedAmount = convertedAmount; return this; }
         public Builder targetCurrency(Currency targetCurrency) { this.targetCurrency = targetCurrency; return this; }
         public Builder exchangeRate(BigDecimal exchangeRate) { this.exchangeRate = exchangeRate; return this; }
+        public Builder exchangeRateVersion(Long exchangeRateVersion) { this.exchangeRateVersion = exchangeRateVersion; return this; }
         public Builder description(String description) { this.description = description; return this; }
 
         public Transaction build() {
@@ -155,6 +173,7 @@ public class Transaction {
             t.convertedAmount = this.convertedAmount;
             t.targetCurrency = this.targetCurrency;
             t.exchangeRate = this.exchangeRate;
+            t.exchangeRateVersion = this.exchangeRateVersion;
             t.description = this.description;
             return t;
         }
@@ -0,0 +1,19 @@
+package com.walletplatform.transaction.infrastructure;
+
+import com.walletplatform.transaction.domain.Transaction;
+
+import java.util.List;
+
+/**
+ * Append-only writes of transactions that bypass the persistence context.
+ */
+public interface TransactionBulkRepository {
+
+    /**
+     * Insert transactions in JDBC batches within the current transaction, assigning ids and
+     * creation timestamps. Only for transactions that are final when written (completed top-ups,
+     * withdrawals and transfers): the rows stay detached, so a later status change
+     * would never reach the database. Anything that moves through states uses {@code save}.
+     */
+    void insertAll(List<Transaction> transactions);
+}
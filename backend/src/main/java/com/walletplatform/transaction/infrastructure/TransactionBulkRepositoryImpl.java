@@ -0,0 +1,63 @@
+package com.walletplatform.transaction.infrastructure;
+
+import com.walletplatform.shared.infrastructure.JdbcBatchInsert;
+import com.walletplatform.shared.infrastructure.id.TimeOrderedUuid;
+import com.walletplatform.transaction.domain.Transaction;
+import com.walletplatform.wallet.domain.Wallet;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TransactionBulkRepositoryImpl implements TransactionBulkRepository {
+
+    private static final String INSERT = "INSERT INTO transactions " +
+        "(id, source_wallet_id, target_wallet_id, type, status, amount, source_currency, converted_amount, " +
+        "target_currency, exchange_rate, exchange_rate_version, description, failure_reason, " +
+        "created_at, updated_at, completed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public TransactionBulkRepositoryImpl(EntityManager entityManager,
+                                         @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void insertAll(List<Transaction> transactions) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Transaction transaction : transactions) {
+            if (transaction.getId() == null) {
+                transaction.setId(TimeOrderedUuid.next());
+            }
+            transaction.stampCreated(now);
+        }
+        JdbcBatchInsert.<Transaction>execute(entityManager, INSERT, transactions, batchSize, (statement, t) -> {
+            statement.setObject(1, t.getId());
+            JdbcBatchInsert.setNullable(statement, 2, walletId(t.getSourceWallet()), Types.OTHER);
+            JdbcBatchInsert.setNullable(statement, 3, walletId(t.getTargetWallet()), Types.OTHER);
+            statement.setString(4, t.getType().name());
+            statement.setString(5, t.getStatus().name());
+            statement.setBigDecimal(6, t.getAmount());
+            statement.setString(7, t.getSourceCurrency().name());
+            JdbcBatchInsert.setNullable(statement, 8, t.getConvertedAmount(), Types.NUMERIC);
+            JdbcBatchInsert.setNullable(statement, 9, t.getTargetCurrency() != null ? t.getTargetCurrency().name() : null,
+                Types.VARCHAR);
+            JdbcBatchInsert.setNullable(statement, 10, t.getExchangeRate(), Types.NUMERIC);
+            JdbcBatchInsert.setNullable(statement, 11, t.getExchangeRateVersion(), Types.BIGINT);
+            JdbcBatchInsert.setNullable(statement, 12, t.getDescription(), Types.VARCHAR);
+            JdbcBatchInsert.setNullable(statement, 13, t.getFailureReason(), Types.VARCHAR);
+            statement.setObject(14, t.getCreatedAt());
+            statement.setObject(15, t.getUpdatedAt());
+            JdbcBatchInsert.setNullable(statement, 16, t.getCompletedAt(), Types.TIMESTAMP);
+        });
+    }
+
+    private static Object walletId(Wallet wallet) {
+        return wallet != null ? wallet.getId() : null;
+    }
+}
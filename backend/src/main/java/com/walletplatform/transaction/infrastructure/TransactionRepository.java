@@ -3,10 +3,13 @@ package com.walletplatform.transaction.infrastructure;
 import com.walletplatform.transaction.domain.Transaction;
 import com.walletplatform.transaction.domain.TransactionStatus;
 import com.walletplatform.transaction.domain.TransactionType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,9 +17,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+public interface TransactionRepository extends JpaRepository<Transaction, UUID>, TransactionBulkRepository {
     
     @Query("SELECT t FROM Transaction t WHERE t.sourceWallet.id = :walletId OR t.targetWallet.id = :walletId ORDER BY t.createdAt DESC")
     Page<Transaction> findByWalletId(@Param("walletId") UUID walletId, Pageable pageable);
@@ -31,6 +35,25 @@ public interface TransactionRepository extends JpaRepository<Transaction, UUID>
         @Param("endDate") LocalDateTime endDate
     );
     
+    /**
+     * Server-side cursor over a wallet's transactions for exports.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Transaction t WHERE (t.sourceWallet.id = :walletId OR t.targetWallet.id = :walletId) AND t.createdAt BETWEEN :startDate AND :endDate ORDER BY t.createdAt ASC")
+    Stream<Transaction> streamByWalletIdAndDateRange(
+        @Param("walletId") UUID walletId,
+        @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate
+    );
+    
+    @Query("SELECT COUNT(t), MAX(t.createdAt) FROM Transaction t WHERE t.sourceWallet.id = :walletId OR t.targetWallet.id = :walletId")
+    List<Object[]> countAndLatestByWalletId(@Param("walletId") UUID walletId);
+    
     // Analytics queries
     @Query("SELECT SUM(t.amount) FROM Transaction t WHERE t.sourceWallet.id = :walletId AND t.type = :type AND t.status = 'COMPLETED' AND t.createdAt BETWEEN :startDate AND :endDate")
     BigDecimal sumByWalletAndTypeAndDateRange(
@@ -1,27 +1,34 @@
 package com.walletplatform.wallet.application.service;
 
-import com.walletplatform.wallet.domain.Currency;
 import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.domain.WalletView;
 import com.walletplatform.ledger.application.service.BalanceService;
 import com.walletplatform.wallet.infrastructure.WalletRepository;
+import com.walletplatform.wallet.infrastructure.WalletViewRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * Wallet query service using ledger-first balance calculation.
- * All balance reads are derived from ledger entries.
+ * Wallet reads are served from the wallet_view read model, which is derived from ledger entries.
  */
 @Service
 public class WalletQueryService {
 
     private final WalletRepository walletRepository;
+    private final WalletViewRepository walletViewRepository;
+    private final WalletViewProjector walletViewProjector;
     private final BalanceService balanceService;
 
-    public WalletQueryService(WalletRepository walletRepository, BalanceService balanceService) {
+    public WalletQueryService(WalletRepository walletRepository, WalletViewRepository walletViewRepository,
+                              WalletViewProjector walletViewProjector, BalanceService balanceService) {
         this.walletRepository = walletRepository;
+        this.walletViewRepository = walletViewRepository;
+        this.walletViewProjector = walletViewProjector;
         this.balanceService = balanceService;
     }
 
@@ -34,24 +41,20 @@ public class WalletQueryService {
     }
 
     /**
-     * Get wallet with ledger-derived balance.
+     * Get wallet with ledger-derived balance, projecting it first if the view has no row yet.
      */
     @Transactional(readOnly = true)
     public WalletView getWalletView(UUID walletId) {
-        Wallet wallet = walletRepository.findById(walletId)
-                .orElseThrow(() -> new RuntimeException("Wallet not found: " + walletId));
-        
-        BigDecimal ledgerBalance = balanceService.calculateBalance(walletId);
-        
-        return new WalletView(
-            wallet.getId(),
-            wallet.getOwner().getId(),
-            wallet.getCurrency(),
-            ledgerBalance,          
-            wallet.getDailyLimit(),
-            wallet.getSpentToday(),
-            wallet.getRemainingDailyLimit()
-        );
+        return walletViewRepository.findById(walletId)
+                .orElseGet(() -> walletViewProjector.projectOnRead(walletId));
+    }
+
+    /**
+     * Get all of a user's wallets from the read model. Every wallet's row is inserted when the wallet is created.
+     */
+    @Transactional(readOnly = true)
+    public List<WalletView> getUserWallets(UUID ownerId) {
+        return walletViewRepository.findByOwnerIdOrderByCreatedAtAsc(ownerId);
     }
 
     /**
@@ -79,14 +82,4 @@ public class WalletQueryService {
         
         return balanceService.getBalanceWithVerification(walletId, wallet.getBalance());
     }
-
-    public record WalletView(
-        UUID id,
-        UUID ownerId,
-        Currency currency,
-        BigDecimal balance,
-        BigDecimal dailyLimit,
-        BigDecimal spentToday,
-        BigDecimal remainingDailyLimit
-    ) {}
 }
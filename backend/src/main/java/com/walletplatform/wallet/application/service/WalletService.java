@@ -15,6 +15,13 @@ import com.walletplatform.wallet.infrastructure.WalletRepository;
 import com.walletplatform.ledger.application.service.LedgerService;
 import com.walletplatform.shared.event.TopUpCompletedEvent;
 import com.walletplatform.shared.event.WithdrawalCompletedEvent;
+import com.walletplatform.shared.event.WalletChangedEvent;
+import com.walletplatform.shared.metrics.OperationMetrics;
+import com.walletplatform.shared.diagnostics.TopUpEvent;
+import com.walletplatform.shared.diagnostics.WalletDiagnosticEvent;
+import com.walletplatform.shared.diagnostics.WalletLockEvent;
+import com.walletplatform.shared.diagnostics.WithdrawalEvent;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,15 +39,20 @@ public class WalletService {
     private final ApplicationEventPublisher eventPublisher;
     private final LedgerService ledgerService;
     private final TransactionOrchestrator transactionOrchestrator;
+    private final OperationMetrics metrics;
+    private final WalletViewProjector walletViewProjector;
 
     public WalletService(WalletRepository walletRepository, TransactionRepository transactionRepository,
                          ApplicationEventPublisher eventPublisher,
-                         LedgerService ledgerService, TransactionOrchestrator transactionOrchestrator) {
+                         LedgerService ledgerService, TransactionOrchestrator transactionOrchestrator,
+                         OperationMetrics metrics, WalletViewProjector walletViewProjector) {
         this.walletRepository = walletRepository;
         this.transactionRepository = transactionRepository;
         this.eventPublisher = eventPublisher;
         this.ledgerService = ledgerService;
         this.transactionOrchestrator = transactionOrchestrator;
+        this.metrics = metrics;
+        this.walletViewProjector = walletViewProjector;
     }
 
     @Transactional
@@ -55,6 +67,7 @@ public class WalletService {
                 .build();
 
         wallet = walletRepository.save(wallet);
+        walletViewProjector.projectCreated(wallet);
 
         eventPublisher.publishEvent(new AuditEvent(
                 this,
@@ -92,11 +105,29 @@ public class WalletService {
             throw new IllegalArgumentException("Top-up amount must be positive");
         }
 
-        Wallet wallet = walletRepository.findByIdWithLock(walletId)
+        TopUpEvent event = new TopUpEvent();
+        event.start(walletId, null, amount);
+        try {
+            Transaction transaction = executeTopUp(walletId, amount, description, ipAddress, event);
+            event.succeed();
+            return transaction;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+
+    private Transaction executeTopUp(UUID walletId, BigDecimal amount, String description, String ipAddress,
+                                     WalletDiagnosticEvent event) {
+        Timer.Sample phase = metrics.start();
+        Wallet wallet = WalletLockEvent.acquire(walletId, () -> walletRepository.findByIdWithLock(walletId))
                 .orElseThrow(() -> new WalletNotFoundException("Wallet not found: " + walletId));
+        phase = metrics.lap(phase, OperationMetrics.TOP_UP, OperationMetrics.PHASE_LOCK);
+        event.currencies(wallet.getCurrency(), null);
 
         wallet.credit(amount);
         walletRepository.save(wallet);
+        phase = metrics.lap(phase, OperationMetrics.TOP_UP, OperationMetrics.PHASE_WALLET_SAVE);
 
         Transaction transaction = Transaction.builder()
                 .targetWallet(wallet)
@@ -108,10 +139,12 @@ public class WalletService {
                 .build();
         transaction.complete();
 
-        transaction = transactionRepository.save(transaction);
+        transactionRepository.insertAll(List.of(transaction));
 
         // Record ledger entries
-        ledgerService.recordTopUp(transaction, wallet, amount);
+        ledgerService.recordTopUp(transaction, wallet, Money.of(amount, wallet.getCurrency()));
+        transactionRepository.flush();
+        phase = metrics.lap(phase, OperationMetrics.TOP_UP, OperationMetrics.PHASE_LEDGER_WRITE);
 
         eventPublisher.publishEvent(new AuditEvent(
                 this,
@@ -131,6 +164,7 @@ public class WalletService {
                 amount,
                 wallet.getCurrency().name()
         ));
+        metrics.stop(phase, OperationMetrics.TOP_UP, OperationMetrics.PHASE_EVENT_PUBLISH);
 
         return transaction;
     }
@@ -140,7 +174,9 @@ public class WalletService {
         return transfer(sourceWalletId, targetWalletId, amount, description, ipAddress, null);
     }
 
-    @Transactional
+    /**
+     * Not transactional: the orchestrator commits the transfer and its idempotency record together.
+     */
     public Transaction transfer(UUID sourceWalletId, UUID targetWalletId, BigDecimal amount, 
                                  String description, String ipAddress, String idempotencyKey) {
         if (amount.compareTo(BigDecimal.ZERO) <= 0) {
@@ -198,6 +234,7 @@ public class WalletService {
 
         wallet.setDailyLimit(newLimit);
         wallet = walletRepository.save(wallet);
+        walletViewProjector.projectCreated(wallet);
 
         eventPublisher.publishEvent(new AuditEvent(
                 this,
@@ -208,6 +245,7 @@ public class WalletService {
                 Map.of("newLimit", newLimit, "currency", wallet.getCurrency().name()),
                 ipAddress
         ));
+        eventPublisher.publishEvent(new WalletChangedEvent(walletId, "DAILY_LIMIT_UPDATED"));
 
         return wallet;
     }
@@ -219,21 +257,44 @@ public class WalletService {
             throw new IllegalArgumentException("Withdrawal amount must be positive");
         }
 
-        Wallet wallet = walletRepository.findByIdWithLock(walletId)
+        WithdrawalEvent event = new WithdrawalEvent();
+        event.start(walletId, null, amount);
+        try {
+            Transaction transaction = executeWithdrawal(walletId, amount, bankAccountNumber, bankName,
+                description, ipAddress, event);
+            event.succeed();
+            return transaction;
+        } catch (RuntimeException e) {
+            event.fail(e);
+            throw e;
+        }
+    }
+
+    private Transaction executeWithdrawal(UUID walletId, BigDecimal amount, String bankAccountNumber,
+                                          String bankName, String description, String ipAddress,
+                                          WalletDiagnosticEvent event) {
+        Timer.Sample phase = metrics.start();
+        Wallet wallet = WalletLockEvent.acquire(walletId, () -> walletRepository.findByIdWithLock(walletId))
                 .orElseThrow(() -> new WalletNotFoundException("Wallet not found: " + walletId));
+        phase = metrics.lap(phase, OperationMetrics.WITHDRAW, OperationMetrics.PHASE_LOCK);
+        event.currencies(wallet.getCurrency(), null);
 
         // Check sufficient balance
         if (wallet.getBalance().compareTo(amount) < 0) {
+            metrics.insufficientFunds(OperationMetrics.WITHDRAW);
             throw new InsufficientFundsException("Insufficient balance for withdrawal");
         }
 
         // Check daily limit
         if (!wallet.canSpend(amount)) {
+            metrics.dailyLimitExceeded(OperationMetrics.WITHDRAW);
             throw new DailyLimitExceededException("Withdrawal would exceed daily limit");
         }
+        phase = metrics.lap(phase, OperationMetrics.WITHDRAW, OperationMetrics.PHASE_BALANCE_CHECK);
 
         wallet.debit(amount);
         walletRepository.save(wallet);
+        phase = metrics.lap(phase, OperationMetrics.WITHDRAW, OperationMetrics.PHASE_WALLET_SAVE);
 
         String withdrawalDescription = description != null ? description : 
             String.format("Withdrawal to %s (%s)", bankName, maskBankAccount(bankAccountNumber));
@@ -248,10 +309,12 @@ public class WalletService {
                 .build();
         transaction.complete();
 
-        transaction = transactionRepository.save(transaction);
+        transactionRepository.insertAll(List.of(transaction));
 
         // Record ledger entries
-        ledgerService.recordWithdrawal(transaction, wallet, amount);
+        ledgerService.recordWithdrawal(transaction, wallet, Money.of(amount, wallet.getCurrency()));
+        transactionRepository.flush();
+        phase = metrics.lap(phase, OperationMetrics.WITHDRAW, OperationMetrics.PHASE_LEDGER_WRITE);
 
         eventPublisher.publishEvent(new AuditEvent(
                 this,
@@ -273,6 +336,7 @@ public class WalletService {
                 wallet.getCurrency().name(),
                 bankName
         ));
+        metrics.stop(phase, OperationMetrics.WITHDRAW, OperationMetrics.PHASE_EVENT_PUBLISH);
 
         return transaction;
     }
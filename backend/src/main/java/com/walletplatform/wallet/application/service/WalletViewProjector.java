@@ -0,0 +1,289 @@
+package com.walletplatform.wallet.application.service;
+
+import com.walletplatform.ledger.application.service.BalanceService;
+import com.walletplatform.ledger.infrastructure.LedgerEntryRepository;
+import com.walletplatform.shared.domain.ProjectionCheckpoint;
+import com.walletplatform.shared.event.LedgerEntriesCreatedEvent;
+import com.walletplatform.shared.event.WalletChangedEvent;
+import com.walletplatform.shared.exception.WalletNotFoundException;
+import com.walletplatform.shared.infrastructure.ProjectionCheckpointRepository;
+import com.walletplatform.transaction.infrastructure.TransactionRepository;
+import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.domain.WalletView;
+import com.walletplatform.wallet.infrastructure.WalletRepository;
+import com.walletplatform.wallet.infrastructure.WalletViewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@link WalletView} read model in step with the ledger.
+ *
+ * A wallet's row is inserted in the transaction that creates the wallet, so every wallet has one.
+ * Each committed ledger posting or wallet change re-derives the affected rows from the
+ * write model on the async executor, off the request thread. A projection is a full overwrite,
+ * applied only when it is newer than the stored row (by ledger position, then wallet version),
+ * so projections that finish out of order or are replayed are harmless.
+ * A failed projection is only logged; the periodic catch-up sweep re-projects every wallet
+ * whose view is behind its newest ledger entry or its current version, starting from the stored checkpoint.
+ */
+@Service
+public class WalletViewProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(WalletViewProjector.class);
+
+    static final String CHECKPOINT = "wallet_view";
+
+    private static final String SOURCE_CREATE = "create";
+    private static final String SOURCE_EVENT = "event";
+    private static final String SOURCE_SWEEP = "sweep";
+    private static final String SOURCE_REBUILD = "rebuild";
+    private static final String SOURCE_READ = "read";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final WalletRepository walletRepository;
+    private final WalletViewRepository walletViewRepository;
+    private final TransactionRepository transactionRepository;
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BalanceService balanceService;
+    private final ProjectionCheckpointRepository checkpointRepository;
+    private final TransactionTemplate projection;
+    private final MeterRegistry registry;
+    private final Timer lag;
+    private final Counter failures;
+    private final Counter stale;
+    private final long overlapMs;
+
+    public WalletViewProjector(WalletRepository walletRepository,
+                               WalletViewRepository walletViewRepository,
+                               TransactionRepository transactionRepository,
+                               LedgerEntryRepository ledgerEntryRepository,
+                               BalanceService balanceService,
+                               ProjectionCheckpointRepository checkpointRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry registry,
+                               @Value("${wallet-view.catch-up-overlap-ms:60000}") long overlapMs) {
+        this.walletRepository = walletRepository;
+        this.walletViewRepository = walletViewRepository;
+        this.transactionRepository = transactionRepository;
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.balanceService = balanceService;
+        this.checkpointRepository = checkpointRepository;
+        this.projection = new TransactionTemplate(transactionManager);
+        this.projection.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.registry = registry;
+        this.lag = Timer.builder("wallet.view.lag")
+            .description("Time from a committed wallet change to its wallet_view row being updated")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.failures = Counter.builder("wallet.view.projection.failures")
+            .description("Wallet view projections that failed and were left to the catch-up sweep")
+            .register(registry);
+        this.stale = Counter.builder("wallet.view.projections.stale")
+            .description("Wallet view projections skipped because the stored row was already newer")
+            .register(registry);
+        this.overlapMs = overlapMs;
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLedgerEntriesCreated(LedgerEntriesCreatedEvent event) {
+        projectQuietly(event.getWalletIds(), event.getOccurredAt());
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWalletChanged(WalletChangedEvent event) {
+        projectQuietly(List.of(event.getWalletId()), event.getOccurredAt());
+    }
+
+    /**
+     * Inserts the view row of a wallet created in the caller's transaction. A new wallet has no
+     * ledger entries or transactions, so nothing needs to be read back.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void projectCreated(Wallet wallet) {
+        // The creation timestamp the view copies is assigned when the wallet is inserted
+        walletRepository.flush();
+        WalletView row = new WalletView(wallet.getId());
+        row.project(wallet, wallet.getOwner().getId(), BigDecimal.ZERO, null, 0, null);
+        walletViewRepository.save(row);
+        registry.counter("wallet.view.projections", "source", SOURCE_CREATE).increment();
+    }
+
+    /**
+     * Project a wallet whose view row is missing, on behalf of a reader.
+     */
+    public WalletView projectOnRead(UUID walletId) {
+        return projectRetryingInsert(walletId, SOURCE_READ);
+    }
+
+    /**
+     * Re-projects wallets whose view is behind the ledger or the wallet row, then advances the checkpoint.
+     *
+     * Wallet changes that post nothing to the ledger, such as a new daily limit, are found by
+     * the wallet's update time and compared by version. The scan starts an overlap window before
+     * the checkpoint because both timestamps are taken before commit, so a change can become
+     * visible after a later-stamped one.
+     */
+    @Scheduled(fixedDelayString = "${wallet-view.catch-up-interval-ms:30000}")
+    public void catchUp() {
+        ProjectionCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT)
+            .orElseGet(() -> new ProjectionCheckpoint(CHECKPOINT));
+        LocalDateTime since = checkpoint.getPosition() == null
+            ? EPOCH
+            : checkpoint.getPosition().minusNanos(overlapMs * 1_000_000);
+
+        List<Object[]> activity = ledgerEntryRepository.findWalletActivitySince(since);
+        List<Object[]> changes = walletRepository.findChangesSince(since);
+        Set<UUID> scanned = new HashSet<>();
+        activity.forEach(row -> scanned.add((UUID) row[0]));
+        changes.forEach(row -> scanned.add((UUID) row[0]));
+        Map<UUID, WalletView> views = walletViewRepository.findByWalletIdIn(scanned).stream()
+            .collect(Collectors.toMap(WalletView::getWalletId, Function.identity()));
+
+        LocalDateTime position = checkpoint.getPosition();
+        // Wallets whose view is behind, with the time of the change it is missing
+        Map<UUID, LocalDateTime> behind = new LinkedHashMap<>();
+        for (Object[] row : activity) {
+            UUID walletId = (UUID) row[0];
+            LocalDateTime latest = (LocalDateTime) row[1];
+            WalletView view = views.get(walletId);
+            if (view == null || view.getLedgerPosition() == null || latest.isAfter(view.getLedgerPosition())) {
+                behind.merge(walletId, latest, WalletViewProjector::later);
+            }
+            position = later(position, latest);
+        }
+        for (Object[] row : changes) {
+            UUID walletId = (UUID) row[0];
+            long version = row[1] != null ? (Long) row[1] : 0L;
+            LocalDateTime updatedAt = (LocalDateTime) row[2];
+            WalletView view = views.get(walletId);
+            if (view == null || view.getWalletVersion() == null || version > view.getWalletVersion()) {
+                behind.merge(walletId, updatedAt, WalletViewProjector::later);
+            }
+            position = later(position, updatedAt);
+        }
+
+        boolean complete = true;
+        int projected = 0;
+        for (Map.Entry<UUID, LocalDateTime> entry : behind.entrySet()) {
+            try {
+                project(entry.getKey(), SOURCE_SWEEP);
+                lag.record(Duration.between(entry.getValue().atZone(ZoneId.systemDefault()).toInstant(), Instant.now()));
+                projected++;
+            } catch (RuntimeException e) {
+                failures.increment();
+                complete = false;
+                log.warn("Wallet view catch-up failed for wallet {}: {}", entry.getKey(), e.toString());
+            }
+        }
+
+        // A failed wallet keeps the checkpoint where it was so the next sweep scans it again
+        if (complete) {
+            checkpoint.advanceTo(position);
+            checkpointRepository.save(checkpoint);
+        }
+        if (projected > 0) {
+            log.info("Wallet view catch-up re-projected {} wallets", projected);
+        }
+    }
+
+    /**
+     * Re-derives every wallet's view from the ledger and resets the checkpoint.
+     *
+     * @return number of wallets projected
+     */
+    public int rebuild() {
+        LocalDateTime position = ledgerEntryRepository.findLatestCreatedAt();
+        List<UUID> walletIds = walletRepository.findAllIds();
+        for (UUID walletId : walletIds) {
+            project(walletId, SOURCE_REBUILD);
+        }
+        ProjectionCheckpoint checkpoint = checkpointRepository.findById(CHECKPOINT)
+            .orElseGet(() -> new ProjectionCheckpoint(CHECKPOINT));
+        checkpoint.reset(position);
+        checkpointRepository.save(checkpoint);
+        log.info("Rebuilt wallet views for {} wallets up to {}", walletIds.size(), position);
+        return walletIds.size();
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+
+    private void projectQuietly(Collection<UUID> walletIds, Instant changedAt) {
+        for (UUID walletId : walletIds) {
+            try {
+                projectRetryingInsert(walletId, SOURCE_EVENT);
+                lag.record(Duration.between(changedAt, Instant.now()));
+            } catch (RuntimeException e) {
+                // The change itself is committed; the sweep will pick the wallet up
+                failures.increment();
+                log.warn("Wallet view projection failed for wallet {}: {}", walletId, e.toString());
+            }
+        }
+    }
+
+    // The first projections of a new wallet can race to insert its row; the loser retries against the winner's row
+    private WalletView projectRetryingInsert(UUID walletId, String source) {
+        try {
+            return project(walletId, source);
+        } catch (DataIntegrityViolationException e) {
+            return project(walletId, source);
+        }
+    }
+
+    private WalletView project(UUID walletId, String source) {
+        return projection.execute(status -> {
+            // Wallet and position are read before the balance, so the balance is never older than the position stored with it
+            Wallet wallet = walletRepository.findByIdWithOwner(walletId)
+                .orElseThrow(() -> new WalletNotFoundException("Wallet not found: " + walletId));
+            LocalDateTime ledgerPosition = ledgerEntryRepository.findLatestCreatedAtByWalletId(walletId);
+            WalletView row = walletViewRepository.findByIdWithLock(walletId).orElseGet(() -> new WalletView(walletId));
+            // A rebuild rewrites every row, even one that claims to be current
+            if (!source.equals(SOURCE_REBUILD) && !row.isBehind(wallet, ledgerPosition)) {
+                stale.increment();
+                return row;
+            }
+            BigDecimal balance = balanceService.calculateBalance(walletId);
+            Object[] activity = transactionRepository.countAndLatestByWalletId(walletId).get(0);
+
+            row.project(wallet, wallet.getOwner().getId(), balance, ledgerPosition,
+                ((Number) activity[0]).longValue(), (LocalDateTime) activity[1]);
+            WalletView saved = walletViewRepository.saveAndFlush(row);
+            registry.counter("wallet.view.projections", "source", source).increment();
+            return saved;
+        });
+    }
+}
@@ -1,16 +1,18 @@
 package com.walletplatform.wallet.domain;
 
 public enum Currency {
-    USD("US Dollar", "$"),
-    EUR("Euro", "€"),
-    GBP("British Pound", "£");
+    USD("US Dollar", "$", 2),
+    EUR("Euro", "€", 2),
+    GBP("British Pound", "£", 2);
 
     private final String displayName;
     private final String symbol;
+    private final int scale;
 
-    Currency(String displayName, String symbol) {
+    Currency(String displayName, String symbol, int scale) {
         this.displayName = displayName;
         this.symbol = symbol;
+        this.scale = scale;
     }
 
     public String getDisplayName() {
@@ -20,4 +22,11 @@ public enum Currency {
     public String getSymbol() {
         return symbol;
     }
+
+    /**
+     * Number of minor-unit digits, e.g. 2 for cents.
+     */
+    public int getScale() {
+        return scale;
+    }
 }
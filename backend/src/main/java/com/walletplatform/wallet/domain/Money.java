@@ -0,0 +1,164 @@
+package com.walletplatform.wallet.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * An amount of a currency held as a {@code long} count of minor units (cents).
+ *
+ * Arithmetic is exact and overflow-checked; mixing currencies is rejected.
+ * Convert from and to {@link BigDecimal} only at the API and persistence edges.
+ */
+public final class Money implements Comparable<Money> {
+
+    /** Exchange rates are carried as fixed-point integers with this many decimals. */
+    public static final int RATE_SCALE = 6;
+
+    private static final long RATE_ONE = 1_000_000L;
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L
+    };
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "currency");
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    /**
+     * Exact conversion from a decimal amount.
+     *
+     * @throws IllegalArgumentException if the amount has more decimals than the currency allows
+     *                                  or does not fit in a {@code long} of minor units
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        try {
+            return new Money(amount.setScale(currency.getScale(), RoundingMode.UNNECESSARY)
+                .unscaledValue().longValueExact(), currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString()
+                + " is not representable in " + currency, e);
+        }
+    }
+
+    /**
+     * Converts a rate to the fixed-point form used by {@link #convert}, rounding half up.
+     */
+    public static long toRateMicros(BigDecimal rate) {
+        return rate.setScale(RATE_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public long getMinorUnits() { return minorUnits; }
+    public Currency getCurrency() { return currency; }
+
+    public boolean isPositive() { return minorUnits > 0; }
+    public boolean isZero() { return minorUnits == 0; }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    /**
+     * Converts into {@code target} at a fixed-point rate of {@code rateMicros / 10^6},
+     * rounding the result to the target's minor units with the given mode.
+     */
+    public Money convert(Currency target, long rateMicros, RoundingMode rounding) {
+        // Result in target minor units = minor * rate * 10^(targetScale - sourceScale)
+        int shift = target.getScale() - currency.getScale();
+        long numerator;
+        long denominator = RATE_ONE;
+        try {
+            numerator = Math.multiplyExact(minorUnits, rateMicros);
+            if (shift > 0) {
+                numerator = Math.multiplyExact(numerator, POWERS_OF_TEN[shift]);
+            } else if (shift < 0) {
+                denominator = Math.multiplyExact(denominator, POWERS_OF_TEN[-shift]);
+            }
+        } catch (ArithmeticException overflow) {
+            // Rare for wallet-sized amounts; take the exact slow path rather than fail
+            BigDecimal converted = BigDecimal.valueOf(minorUnits, currency.getScale())
+                .multiply(BigDecimal.valueOf(rateMicros, RATE_SCALE))
+                .setScale(target.getScale(), rounding);
+            return new Money(converted.unscaledValue().longValueExact(), target);
+        }
+        return new Money(divide(numerator, denominator, rounding), target);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getScale());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minorUnits == other.minorUnits && currency == other.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (other.currency != currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " vs " + other.currency);
+        }
+    }
+
+    private static long divide(long numerator, long denominator, RoundingMode rounding) {
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int sign = Long.signum(numerator);
+        long twiceRemainder = Math.abs(remainder) * 2;
+        boolean awayFromZero = switch (rounding) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign > 0;
+            case FLOOR -> sign < 0;
+            case HALF_UP -> twiceRemainder >= denominator;
+            case HALF_DOWN -> twiceRemainder > denominator;
+            case HALF_EVEN -> twiceRemainder > denominator
+                || (twiceRemainder == denominator && (quotient & 1) != 0);
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+        return awayFromZero ? quotient + sign : quotient;
+    }
+}
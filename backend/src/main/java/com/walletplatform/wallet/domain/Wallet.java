@@ -1,6 +1,7 @@
 package com.walletplatform.wallet.domain;
 
 import com.walletplatform.identity.domain.User;
+import com.walletplatform.shared.infrastructure.id.UuidV7;
 import com.walletplatform.transaction.domain.Transaction;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -16,11 +17,13 @@ import java.util.UUID;
 @Entity
 @Table(name = "wallets", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"owner_id", "currency"})
+}, indexes = {
+    @Index(name = "idx_wallets_updated", columnList = "updated_at")
 })
 public class Wallet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
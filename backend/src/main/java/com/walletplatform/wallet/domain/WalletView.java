@@ -0,0 +1,129 @@
+package com.walletplatform.wallet.domain;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * Denormalized read model of a wallet, kept up to date by the WalletViewProjector.
+ * Serves wallet reads with a single indexed lookup instead of wallet, owner and ledger queries.
+ */
+@Entity
+@Table(name = "wallet_view", indexes = {
+    @Index(name = "idx_wallet_view_owner", columnList = "owner_id")
+})
+public class WalletView {
+
+    private static final Comparator<LocalDateTime> POSITION_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    @Id
+    @Column(name = "wallet_id")
+    private UUID walletId;
+
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Currency currency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal balance;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal dailyLimit;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal spentToday;
+
+    // Day spentToday was accumulated on; on any other day nothing has been spent yet
+    private LocalDate spendingDate;
+
+    @Column(nullable = false)
+    private boolean active;
+
+    @Column(nullable = false)
+    private long transactionCount;
+
+    private LocalDateTime lastTransactionAt;
+
+    // Creation time of the newest ledger entry included in balance
+    private LocalDateTime ledgerPosition;
+
+    // Wallet version the view was projected from; orders projections at the same ledger position
+    private Long walletVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime projectedAt;
+
+    protected WalletView() {}
+
+    public WalletView(UUID walletId) {
+        this.walletId = walletId;
+    }
+
+    /**
+     * Whether projecting the wallet at the given ledger position would move this view forward: a newer
+     * position, or the same position at a newer wallet version. Projections run asynchronously and can
+     * finish out of order; an older one must not overwrite a newer one.
+     */
+    public boolean isBehind(Wallet wallet, LocalDateTime ledgerPosition) {
+        if (walletVersion == null) {
+            return true;
+        }
+        int byPosition = POSITION_ORDER.compare(ledgerPosition, this.ledgerPosition);
+        return byPosition > 0 || (byPosition == 0 && versionOf(wallet) > walletVersion);
+    }
+
+    /**
+     * Overwrites the view with the wallet's current state.
+     */
+    public void project(Wallet wallet, UUID ownerId, BigDecimal ledgerBalance, LocalDateTime ledgerPosition,
+                        long transactionCount, LocalDateTime lastTransactionAt) {
+        this.ownerId = ownerId;
+        this.currency = wallet.getCurrency();
+        this.balance = ledgerBalance;
+        this.ledgerPosition = ledgerPosition;
+        this.walletVersion = versionOf(wallet);
+        this.dailyLimit = wallet.getDailyLimit();
+        this.spentToday = wallet.getSpentToday();
+        this.spendingDate = wallet.getLastSpendingResetDate();
+        this.active = wallet.isActive();
+        this.transactionCount = transactionCount;
+        this.lastTransactionAt = lastTransactionAt;
+        this.createdAt = wallet.getCreatedAt();
+        this.projectedAt = LocalDateTime.now();
+    }
+
+    private static long versionOf(Wallet wallet) {
+        return wallet.getVersion() != null ? wallet.getVersion() : 0L;
+    }
+
+    public UUID getWalletId() { return walletId; }
+    public UUID getOwnerId() { return ownerId; }
+    public Currency getCurrency() { return currency; }
+    public BigDecimal getBalance() { return balance; }
+    public BigDecimal getDailyLimit() { return dailyLimit; }
+    public boolean isActive() { return active; }
+    public long getTransactionCount() { return transactionCount; }
+    public LocalDateTime getLastTransactionAt() { return lastTransactionAt; }
+    public LocalDateTime getLedgerPosition() { return ledgerPosition; }
+    public Long getWalletVersion() { return walletVersion; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getProjectedAt() { return projectedAt; }
+
+    public BigDecimal getSpentToday() {
+        return LocalDate.now().equals(spendingDate) ? spentToday : BigDecimal.ZERO.setScale(2);
+    }
+
+    public BigDecimal getRemainingDailyLimit() {
+        return dailyLimit.subtract(getSpentToday());
+    }
+}
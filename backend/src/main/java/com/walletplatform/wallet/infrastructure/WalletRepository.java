@@ -10,6 +10,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -27,9 +29,29 @@ public interface WalletRepository extends JpaRepository<Wallet, UUID> {
     @Query("SELECT w FROM Wallet w WHERE w.id = :id")
     Optional<Wallet> findByIdWithLock(@Param("id") UUID id);
     
+    /**
+     * Locks a set of wallets in id order, so concurrent batch lockers cannot deadlock each other.
+     * Transfers lock their two wallets in the same (unsigned) order, see {@code DatabaseUuidOrder}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Wallet w WHERE w.id IN :ids ORDER BY w.id")
+    List<Wallet> findAllByIdInWithLock(@Param("ids") Collection<UUID> ids);
+    
     @Query("SELECT w FROM Wallet w JOIN FETCH w.owner WHERE w.id = :id")
     Optional<Wallet> findByIdWithOwner(@Param("id") UUID id);
     
+    @Query("SELECT w.owner.id FROM Wallet w WHERE w.id = :id")
+    Optional<UUID> findOwnerIdById(@Param("id") UUID id);
+    
+    /**
+     * Wallets updated after the given time, with their version and update time.
+     */
+    @Query("SELECT w.id, w.version, w.updatedAt FROM Wallet w WHERE w.updatedAt > :since")
+    List<Object[]> findChangesSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT w.id FROM Wallet w ORDER BY w.id")
+    List<UUID> findAllIds();
+    
     @Query("SELECT SUM(w.balance) FROM Wallet w")
     BigDecimal sumAllBalances();
     
@@ -0,0 +1,29 @@
+package com.walletplatform.wallet.infrastructure;
+
+import com.walletplatform.wallet.domain.WalletView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface WalletViewRepository extends JpaRepository<WalletView, UUID> {
+
+    List<WalletView> findByOwnerIdOrderByCreatedAtAsc(UUID ownerId);
+
+    List<WalletView> findByWalletIdIn(Collection<UUID> walletIds);
+
+    /**
+     * Locks the row so concurrent projections of one wallet compare and write one at a time.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM WalletView v WHERE v.walletId = :walletId")
+    Optional<WalletView> findByIdWithLock(@Param("walletId") UUID walletId);
+}
@@ -0,0 +1,125 @@
+package com.walletplatform.ledger.application.service;
+
+import com.walletplatform.ledger.domain.AccountType;
+import com.walletplatform.ledger.domain.AccountingPeriod;
+import com.walletplatform.ledger.domain.EntryType;
+import com.walletplatform.ledger.domain.LedgerHash;
+import com.walletplatform.ledger.domain.LedgerRecord;
+import com.walletplatform.ledger.infrastructure.AccountingPeriodRepository;
+import com.walletplatform.wallet.domain.Currency;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sealing a period rehashes its archived entries; proofs walk the archive page by page.
+ */
+@SpringBootTest(properties = {"exchange-rate.api.enabled=false", "ledger-integrity.page-size=2"})
+class LedgerIntegrityServiceTest {
+
+    private static final int CHAIN_LENGTH = 5;
+
+    @Autowired
+    private LedgerIntegrityService integrityService;
+
+    @Autowired
+    private AccountingPeriodRepository periodRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void sealsAnIntactPeriodAndProvesAWalletAcrossSeveralPages() {
+        AccountingPeriod period = newPeriod();
+        UUID walletId = UUID.randomUUID();
+        archiveChain(period, walletId);
+
+        String root = inTransaction(() -> integrityService.sealPeriod(period, Optional.empty()));
+        period.recordClose(CHAIN_LENGTH, 1, root);
+        periodRepository.save(period);
+
+        LedgerIntegrityService.WalletProof proof = inTransaction(() ->
+            integrityService.proveWallet(period, walletId).orElseThrow());
+        assertEquals(CHAIN_LENGTH, proof.sequence());
+        assertTrue(proof.includedInRoot());
+        assertTrue(proof.historyMatchesHead());
+    }
+
+    @Test
+    void refusesToSealWhenAnArchivedEntryNoLongerMatchesItsHash() {
+        AccountingPeriod period = newPeriod();
+        UUID walletId = UUID.randomUUID();
+        archiveChain(period, walletId);
+        // The stored hashes still link up; only rehashing the content finds this
+        jdbcTemplate.update("UPDATE ledger_entries_archive SET amount = 999 WHERE wallet_id = ? AND chain_sequence = 3",
+            walletId);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> inTransaction(() -> integrityService.sealPeriod(period, Optional.empty())));
+        assertTrue(e.getMessage().contains("content does not match entry hash"), e.getMessage());
+    }
+
+    private AccountingPeriod newPeriod() {
+        LocalDateTime boundary = LocalDateTime.now().minusYears(1).plusSeconds(periodRepository.count());
+        return periodRepository.save(new AccountingPeriod(null, boundary, UUID.randomUUID()));
+    }
+
+    private void archiveChain(AccountingPeriod period, UUID walletId) {
+        String chainKey = LedgerChainService.walletChain(walletId);
+        String previousHash = LedgerHash.GENESIS;
+        LocalDateTime createdAt = LocalDateTime.now().minusYears(2).truncatedTo(ChronoUnit.MILLIS);
+        for (int sequence = 1; sequence <= CHAIN_LENGTH; sequence++) {
+            Entry entry = new Entry(UUID.randomUUID(), UUID.randomUUID(), walletId, AccountType.WALLET, EntryType.CREDIT,
+                new BigDecimal("10.0000"), Currency.USD, "entry " + sequence, createdAt.plusSeconds(sequence),
+                chainKey, sequence, previousHash, null);
+            String hash = LedgerHash.of(entry);
+            jdbcTemplate.update("INSERT INTO ledger_entries_archive (id, period_id, transaction_id, wallet_id, " +
+                    "account_type, entry_type, amount, currency, description, created_at, chain_key, chain_sequence, " +
+                    "previous_hash, entry_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                entry.id(), period.getId(), entry.transactionId(), walletId, entry.accountType().name(),
+                entry.entryType().name(), entry.amount(), entry.currency().name(), entry.description(),
+                entry.createdAt(), chainKey, sequence, previousHash, hash);
+            previousHash = hash;
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private record Entry(UUID id, UUID transactionId, UUID walletId, AccountType accountType, EntryType entryType,
+                         BigDecimal amount, Currency currency, String description, LocalDateTime createdAt,
+                         String chainKey, long chainSequence, String previousHash, String entryHash)
+            implements LedgerRecord {
+        public UUID getId() { return id; }
+        public UUID getTransactionId() { return transactionId; }
+        public UUID getWalletId() { return walletId; }
+        public AccountType getAccountType() { return accountType; }
+        public EntryType getEntryType() { return entryType; }
+        public BigDecimal getAmount() { return amount; }
+        public Currency getCurrency() { return currency; }
+        public String getDescription() { return description; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public String getChainKey() { return chainKey; }
+        public long getChainSequence() { return chainSequence; }
+        public String getPreviousHash() { return previousHash; }
+        public String getEntryHash() { return entryHash; }
+    }
+}
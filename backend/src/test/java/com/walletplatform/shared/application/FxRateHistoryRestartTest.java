@@ -0,0 +1,37 @@
+package com.walletplatform.shared.application;
+
+import com.walletplatform.shared.config.ExchangeRateService;
+import com.walletplatform.shared.infrastructure.FxRateHistoryRepository;
+import com.walletplatform.shared.infrastructure.fx.StandInFxRateProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A restart against an existing FX history must keep numbering and recording snapshots.
+ */
+@SpringBootTest(properties = {"exchange-rate.api.enabled=false", "exchange-rate.provider=stand-in"})
+class FxRateHistoryRestartTest {
+
+    @Autowired
+    private FxRateHistoryRepository historyRepository;
+
+    @Test
+    void snapshotVersionsContinuePastTheStoredMaximumAfterRestart() {
+        long storedMax = historyRepository.findMaxSnapshotVersion();
+        assertTrue(storedMax > 0, "startup should have recorded the initial snapshot");
+
+        // Fresh instances against the same database stand in for a second boot
+        ExchangeRateService restarted = new ExchangeRateService(event -> { }, new StandInFxRateProvider(),
+            new SimpleMeterRegistry(), historyRepository, false, 5000, 3, 300000, 21600000);
+        long version = restarted.getSnapshot().getVersion();
+        assertTrue(version > storedMax, "version " + version + " reuses a stored version <= " + storedMax);
+
+        new FxRateHistoryService(historyRepository, restarted, 7).onStartup();
+        assertEquals(version, historyRepository.findMaxSnapshotVersion());
+    }
+}
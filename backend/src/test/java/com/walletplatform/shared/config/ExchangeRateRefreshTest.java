@@ -0,0 +1,59 @@
+package com.walletplatform.shared.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.walletplatform.shared.infrastructure.fx.FxRateProvider;
+import com.walletplatform.shared.infrastructure.fx.StandInFxRateProvider;
+import com.walletplatform.wallet.domain.Currency;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A provider that fails synchronously must not stop later refreshes.
+ */
+class ExchangeRateRefreshTest {
+
+    @Test
+    void providerThatThrowsIsCountedAsAFailureAndDoesNotBlockTheNextRefresh() {
+        AtomicInteger calls = new AtomicInteger();
+        FxRateProvider throwing = new FxRateProvider() {
+            @Override
+            public String getName() {
+                return "throwing";
+            }
+
+            @Override
+            public CompletableFuture<Map<Currency, BigDecimal>> fetchUsdRates() {
+                calls.incrementAndGet();
+                throw new IllegalStateException("boom");
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExchangeRateService service = new ExchangeRateService(event -> { }, throwing, registry, null,
+            true, 5000, 3, 300000, 21600000);
+
+        service.refreshRates();
+        service.refreshRates();
+
+        assertEquals(2, calls.get(), "the second refresh was skipped as still in flight");
+        assertEquals(2.0, registry.get("fx.refresh.failures").counter().count());
+    }
+
+    @Test
+    void standInFileWithoutRatesFailsTheFuture(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("rates.json"), "{\"base\":\"USD\"}");
+        CompletableFuture<Map<Currency, BigDecimal>> fetch =
+            new StandInFxRateProvider(file.toString(), new ObjectMapper()).fetchUsdRates();
+        assertTrue(fetch.isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,91 @@
+package com.walletplatform.shared.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the statement count of the hottest endpoints, so an N+1 regression fails the build.
+ */
+@SpringBootTest(properties = "exchange-rate.api.enabled=false")
+@AutoConfigureMockMvc
+class EndpointQueryBudgetTest {
+
+    private static final String PASSWORD = "Passw0rd!";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String sender;
+    private String recipient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sender = register();
+        recipient = register();
+    }
+
+    @Test
+    void listingWalletsDoesNotQueryPerWallet() throws Exception {
+        for (String currency : new String[] {"EUR", "GBP"}) {
+            mockMvc.perform(post("/api/wallets").header("Authorization", sender)
+                    .contentType(MediaType.APPLICATION_JSON).content("{\"currency\":\"" + currency + "\"}"))
+                .andExpect(status().isCreated());
+        }
+
+        // Three wallets, served by one read of the read model
+        mockMvc.perform(get("/api/wallets").header("Authorization", sender))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudgetMatchers.maxStatements(1));
+    }
+
+    @Test
+    void transferStaysWithinItsStatementBudget() throws Exception {
+        UUID source = firstWallet(sender);
+        UUID target = firstWallet(recipient);
+        mockMvc.perform(post("/api/wallets/" + source + "/topup").header("Authorization", sender)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"amount\":500.00}"))
+            .andExpect(status().isOk());
+
+        // Lower this when a change saves statements; raising it needs a reason in the review
+        mockMvc.perform(post("/api/transactions/transfer").header("Authorization", sender)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"sourceWalletId\":\"" + source + "\",\"targetWalletId\":\"" + target + "\",\"amount\":25.00}"))
+            .andExpect(status().isOk())
+            .andExpect(QueryBudgetMatchers.maxStatements(19));
+    }
+
+    private String register() throws Exception {
+        String email = "budget-" + UUID.randomUUID() + "@example.com";
+        MvcResult result = mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD
+                    + "\",\"firstName\":\"Query\",\"lastName\":\"Budget\"}"))
+            .andExpect(status().isCreated())
+            .andReturn();
+        return "Bearer " + objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+    }
+
+    private UUID firstWallet(String authorization) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/wallets").header("Authorization", authorization))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode wallets = objectMapper.readTree(result.getResponse().getContentAsString());
+        return UUID.fromString(wallets.get(0).get("id").asText());
+    }
+}
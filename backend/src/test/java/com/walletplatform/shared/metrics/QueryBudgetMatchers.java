@@ -0,0 +1,50 @@
+package com.walletplatform.shared.metrics;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers that pin an endpoint's query count, so an N+1 regression fails the build.
+ *
+ * <pre>
+ * mockMvc.perform(get("/api/wallets").header("Authorization", bearer))
+ *     .andExpect(status().isOk())
+ *     .andExpect(QueryBudgetMatchers.maxStatements(3));
+ * </pre>
+ *
+ * Needs the servlet filters in the MockMvc chain ({@code @AutoConfigureMockMvc} adds them by default).
+ */
+public final class QueryBudgetMatchers {
+
+    private QueryBudgetMatchers() {
+    }
+
+    public static ResultMatcher maxStatements(int max) {
+        return result -> {
+            RequestQueryStats stats = stats(result);
+            assertTrue(stats.getStatements() <= max, () -> describe(result, stats)
+                + " exceeded the budget of " + max + " statements");
+        };
+    }
+
+    public static ResultMatcher maxEntityLoads(int max) {
+        return result -> {
+            RequestQueryStats stats = stats(result);
+            assertTrue(stats.getEntityLoads() <= max, () -> describe(result, stats)
+                + " exceeded the budget of " + max + " entity loads");
+        };
+    }
+
+    private static RequestQueryStats stats(MvcResult result) {
+        RequestQueryStats stats = (RequestQueryStats) result.getRequest().getAttribute(RequestQueryStats.ATTRIBUTE);
+        assertNotNull(stats, "No query stats recorded; is QueryBudgetFilter in the MockMvc filter chain?");
+        return stats;
+    }
+
+    private static String describe(MvcResult result, RequestQueryStats stats) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI() + " ran " + stats;
+    }
+}
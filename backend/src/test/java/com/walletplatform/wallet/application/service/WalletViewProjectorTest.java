@@ -0,0 +1,59 @@
+package com.walletplatform.wallet.application.service;
+
+import com.walletplatform.identity.application.service.UserService;
+import com.walletplatform.identity.domain.User;
+import com.walletplatform.wallet.domain.Wallet;
+import com.walletplatform.wallet.infrastructure.WalletRepository;
+import com.walletplatform.wallet.infrastructure.WalletViewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The catch-up sweep repairs views that missed a wallet change with no ledger entries.
+ */
+@SpringBootTest(properties = "exchange-rate.api.enabled=false")
+class WalletViewProjectorTest {
+
+    private static final BigDecimal NEW_LIMIT = new BigDecimal("250.00");
+
+    @Autowired
+    private WalletViewProjector projector;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private WalletViewRepository walletViewRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void catchUpReprojectsAWalletChangeThatPostedNothingToTheLedger() {
+        User user = userService.registerUser("view-" + UUID.randomUUID() + "@example.com", "Passw0rd!",
+            "View", "Sweep", "127.0.0.1");
+        UUID walletId = walletRepository.findByOwnerId(user.getId()).get(0).getId();
+
+        // Changed without publishing an event, as if its projection had failed
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Wallet wallet = walletRepository.findById(walletId).orElseThrow();
+            wallet.setDailyLimit(NEW_LIMIT);
+        });
+        assertEquals(0, new BigDecimal("10000.00").compareTo(walletViewRepository.findById(walletId).orElseThrow().getDailyLimit()));
+
+        projector.catchUp();
+
+        assertEquals(0, NEW_LIMIT.compareTo(walletViewRepository.findById(walletId).orElseThrow().getDailyLimit()));
+    }
+}